@@ -45,12 +45,17 @@ create table tonarinet.article
     created_by int                                not null,
     created_at datetime default CURRENT_TIMESTAMP not null,
     updated_at datetime default CURRENT_TIMESTAMP not null on update CURRENT_TIMESTAMP,
-    board_id   int                                not null,
-    views      int      default 0                 not null,
+    board_id    int                                not null,
+    views       int      default 0                 not null,
+    like_count  int      default 0                 not null,
+    reply_count int      default 0                 not null,
     constraint Article_Board_id_fk
         foreign key (board_id) references tonarinet.board (id)
 );
 
+create index Article_board_id_like_count_index
+    on tonarinet.article (board_id, like_count);
+
 create table tonarinet.fileattachment
 (
     filepath          text                                 not null,
@@ -64,11 +69,15 @@ create table tonarinet.fileattachment
     article_id        int                                  null,
     filesize          int                                  not null comment 'in byte',
     submission_id     int                                  null,
+    content_hash      char(64)                             null comment 'SHA-256 hex',
     constraint fileattachment_article_id_fk
         foreign key (article_id) references tonarinet.article (id)
             on delete set null
 );
 
+create index fileattachment_content_hash_index
+    on tonarinet.fileattachment (content_hash);
+
 create table tonarinet.region
 (
     id           int auto_increment
@@ -85,6 +94,21 @@ create table tonarinet.region
         foreign key (country_code) references tonarinet.country (country_code)
 );
 
+create table tonarinet.regionreviewstats
+(
+    region_id          int                                not null
+        primary key,
+    review_count       int      default 0                 not null,
+    transportation_sum bigint   default 0                 not null,
+    safety_sum         bigint   default 0                 not null,
+    infra_sum          bigint   default 0                 not null,
+    population_sum     bigint   default 0                 not null,
+    education_sum      bigint   default 0                 not null,
+    updated_at         datetime default CURRENT_TIMESTAMP not null on update CURRENT_TIMESTAMP,
+    constraint RegionReviewStats_Region_id_fk
+        foreign key (region_id) references tonarinet.region (id)
+);
+
 create table tonarinet.reply
 (
     id         int auto_increment
@@ -164,14 +188,13 @@ create table tonarinet.chatmessage
     sender      int                                  not null,
     message     text                                 not null,
     created_at  datetime   default CURRENT_TIMESTAMP null,
-    is_read     tinyint(1) default 0                 not null,
     chatroom_id int                                  not null,
     constraint ChatMessage_User_id_fk
         foreign key (sender) references tonarinet.user (id)
 );
 
-create index ChatMessage_ChatRoom_id_fk
-    on tonarinet.chatmessage (chatroom_id);
+create index ChatMessage_chatroom_id_id_index
+    on tonarinet.chatmessage (chatroom_id, id);
 
 create table tonarinet.chatroom
 (
@@ -197,13 +220,24 @@ create table tonarinet.livereport
     contents   text                               not null,
     like_count int      default 0                 not null,
     created_at datetime default CURRENT_TIMESTAMP null,
+    updated_at datetime default CURRENT_TIMESTAMP not null on update CURRENT_TIMESTAMP,
     created_by int                                not null,
     longitude  double                             not null,
     latitude   double                             not null,
+    location   point as (point(longitude, latitude)) stored not null srid 0,
     constraint LiveReport_User_id_fk
         foreign key (created_by) references tonarinet.user (id)
 );
 
+create spatial index LiveReport_location_index
+    on tonarinet.livereport (location);
+
+create index LiveReport_created_at_index
+    on tonarinet.livereport (created_at);
+
+create index LiveReport_updated_at_index
+    on tonarinet.livereport (updated_at);
+
 create table tonarinet.notification
 (
     id         int auto_increment
@@ -217,6 +251,35 @@ create table tonarinet.notification
         foreign key (user_id) references tonarinet.user (id)
 );
 
+create table tonarinet.orphanblob
+(
+    content_hash char(64)                           not null comment 'SHA-256 hex'
+        primary key,
+    orphaned_at  datetime default CURRENT_TIMESTAMP not null
+);
+
+create index OrphanBlob_orphaned_at_index
+    on tonarinet.orphanblob (orphaned_at);
+
+create table tonarinet.outboundemail
+(
+    id              int auto_increment
+        primary key,
+    lang            varchar(10)                                         null,
+    recipient       varchar(320)                                        not null,
+    subject         text                                                not null,
+    body            mediumtext                                          not null,
+    status          enum ('PENDING', 'SENDING', 'SENT', 'FAILED')       not null,
+    attempts        int      default 0                                  not null,
+    next_attempt_at datetime default CURRENT_TIMESTAMP                  not null,
+    last_error      text                                                null,
+    created_at      datetime default CURRENT_TIMESTAMP                  not null,
+    sent_at         datetime                                            null
+);
+
+create index OutboundEmail_status_next_attempt_at_index
+    on tonarinet.outboundemail (status, next_attempt_at);
+
 create table tonarinet.party
 (
     id             int auto_increment
@@ -309,10 +372,21 @@ create table tonarinet.townreview
         foreign key (created_by) references tonarinet.user (id)
 );
 
+create table tonarinet.translationcache
+(
+    text_hash       char(64)                           not null,
+    target_language varchar(10)                        not null,
+    translated_text text                               not null,
+    source_language varchar(10)                        null,
+    created_at      datetime default CURRENT_TIMESTAMP not null,
+    primary key (text_hash, target_language)
+);
+
 create table tonarinet.userchatroom
 (
-    user_id     int not null,
-    chatroom_id int not null,
+    user_id              int           not null,
+    chatroom_id          int           not null,
+    last_read_message_id int default 0 not null,
     primary key (user_id, chatroom_id),
     constraint UserChatRoom_ChatRoom_id_fk
         foreign key (chatroom_id) references tonarinet.chatroom (id),
@@ -344,6 +418,30 @@ create table tonarinet.userlikearticle
         foreign key (user_id) references tonarinet.user (id)
 );
 
+create table tonarinet.userlikelivereport
+(
+    user_id       int not null,
+    livereport_id int not null,
+    primary key (user_id, livereport_id),
+    constraint userlikelivereport_livereport_id_fk
+        foreign key (livereport_id) references tonarinet.livereport (id)
+            on delete cascade,
+    constraint userlikelivereport_user_id_fk
+        foreign key (user_id) references tonarinet.user (id)
+);
+
+create table tonarinet.userliketownreview
+(
+    user_id       int not null,
+    townreview_id int not null,
+    primary key (user_id, townreview_id),
+    constraint userliketownreview_townreview_id_fk
+        foreign key (townreview_id) references tonarinet.townreview (id)
+            on delete cascade,
+    constraint userliketownreview_user_id_fk
+        foreign key (user_id) references tonarinet.user (id)
+);
+
 create table tonarinet.userparty
 (
     user_id       int                  not null,
@@ -0,0 +1,103 @@
+package org.scit4bits.tonarinetserver.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.scit4bits.tonarinetserver.TonarinetserverApplication;
+import org.scit4bits.tonarinetserver.entity.Region;
+import org.scit4bits.tonarinetserver.repository.RegionRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지역 검색을 기존 JPQL 맨해튼 거리 쿼리와 메모리 공간 인덱스(KD-트리)로 처리할 때의 지연 시간을 비교하는 벤치마크
+ * <p>
+ * 테스트와 같이 MYSQL_URL 등으로 설정된 DB의 region 테이블을 사용하며, 지역 데이터 범위 안의 임의 좌표로 조회합니다.
+ * 실행: {@code ./gradlew jmh}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RegionLookupBenchmark {
+
+    /** 미리 만들어 두는 조회 좌표 수 */
+    private static final int QUERY_COUNT = 1024;
+
+    /** 검색 반경 (도 단위, RegionService 반경 검색 API와 같은 단위) */
+    @Param({"0.05", "0.2"})
+    public double radiusDegrees;
+
+    private ConfigurableApplicationContext context;
+    private RegionRepository regionRepository;
+    private RegionIndex regionIndex;
+
+    private final double[] latitudes = new double[QUERY_COUNT];
+    private final double[] longitudes = new double[QUERY_COUNT];
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(TonarinetserverApplication.class)
+                .properties("server.port=0", "logging.level.root=WARN")
+                .run();
+        regionRepository = context.getBean(RegionRepository.class);
+        regionIndex = context.getBean(RegionIndex.class);
+
+        List<Region> regions = regionRepository.findAllWithCoordinates();
+        if (regions.isEmpty()) {
+            throw new IllegalStateException("region 테이블에 좌표가 있는 지역이 없습니다.");
+        }
+        double minLat = regions.stream().mapToDouble(Region::getLatitude).min().orElseThrow();
+        double maxLat = regions.stream().mapToDouble(Region::getLatitude).max().orElseThrow();
+        double minLon = regions.stream().mapToDouble(Region::getLongitude).min().orElseThrow();
+        double maxLon = regions.stream().mapToDouble(Region::getLongitude).max().orElseThrow();
+
+        Random random = new Random(42);
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            latitudes[i] = minLat + random.nextDouble() * (maxLat - minLat);
+            longitudes[i] = minLon + random.nextDouble() * (maxLon - minLon);
+        }
+        regionIndex.reload();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Region> jpqlWithinRadius() {
+        int i = next();
+        return regionRepository.findRegionsWithinRadius(latitudes[i], longitudes[i], radiusDegrees);
+    }
+
+    @Benchmark
+    public List<RegionKdTree.Neighbor> indexWithinRadius() {
+        int i = next();
+        return regionIndex.findWithinRadius(latitudes[i], longitudes[i],
+                radiusDegrees * GeoDistance.KM_PER_DEGREE, null);
+    }
+
+    @Benchmark
+    public List<RegionKdTree.Neighbor> indexNearest() {
+        int i = next();
+        return regionIndex.findNearest(latitudes[i], longitudes[i], 5, null);
+    }
+
+    @Benchmark
+    public Optional<RegionKdTree.Neighbor> indexContaining() {
+        int i = next();
+        return regionIndex.findContaining(latitudes[i], longitudes[i]);
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (QUERY_COUNT - 1);
+        return cursor;
+    }
+}
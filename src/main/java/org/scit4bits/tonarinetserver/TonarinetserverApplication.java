@@ -3,11 +3,13 @@ package org.scit4bits.tonarinetserver;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * 토나리넷 서버 애플리케이션의 메인 클래스
  */
 @EnableJpaAuditing
+@EnableScheduling
 @SpringBootApplication
 public class TonarinetserverApplication {
 
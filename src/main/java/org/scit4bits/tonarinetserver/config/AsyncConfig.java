@@ -0,0 +1,104 @@
+package org.scit4bits.tonarinetserver.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 비동기 작업 실행을 위한 스레드 풀을 구성하는 클래스
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    /**
+     * 공지사항 알림 대량 발송에 사용하는 스레드 풀을 빈으로 등록합니다.
+     * 큐가 가득 차면 이벤트를 발행한 스레드에서 직접 실행하여 작업이 유실되지 않도록 합니다.
+     * @param poolSize 스레드 수
+     * @param queueCapacity 대기 큐 크기
+     * @return ThreadPoolTaskExecutor 객체
+     */
+    @Bean(name = "notificationExecutor")
+    public ThreadPoolTaskExecutor notificationExecutor(
+            @Value("${notification.fanout.pool-size:2}") int poolSize,
+            @Value("${notification.fanout.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("notification-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * AI 모델 호출에 사용하는 스레드 풀을 빈으로 등록합니다.
+     * 공용 ForkJoinPool이나 서블릿 스레드가 AI 응답 대기로 고갈되지 않도록 AI 호출만 이 풀에서 실행하며,
+     * 대기 요청 수는 AIRequestExecutor가 제한하므로 큐가 가득 차면 예외로 거절합니다.
+     * @param maxConcurrency 동시에 실행할 수 있는 AI 호출 수
+     * @param queueCapacity 대기 큐 크기
+     * @return ThreadPoolTaskExecutor 객체
+     */
+    @Bean(name = "aiExecutor")
+    public ThreadPoolTaskExecutor aiExecutor(
+            @Value("${ai.executor.max-concurrency:8}") int maxConcurrency,
+            @Value("${ai.executor.queue-capacity:50}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("ai-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    /**
+     * AI 응답 캐시가 캐시에 없는 응답을 생성할 때 사용하는 스레드 풀을 빈으로 등록합니다.
+     * 호출하는 쪽은 이미 aiExecutor 스레드에서 생성 완료를 기다리므로, 같은 풀에서 생성하면 풀이 고갈되어
+     * 서로를 기다릴 수 있어 별도 풀을 사용합니다. 제한 시간이 지나 호출자가 떠난 뒤에도 생성은 끝까지 실행되므로
+     * 동시 실행 수만큼의 스레드 외에 작은 대기 큐를 두고, 큐가 가득 차면 예외로 거절합니다.
+     * @param maxConcurrency 동시에 실행할 수 있는 AI 호출 수
+     * @param queueCapacity 대기 큐 크기
+     * @return ThreadPoolTaskExecutor 객체
+     */
+    @Bean(name = "aiResponseCacheExecutor")
+    public ThreadPoolTaskExecutor aiResponseCacheExecutor(
+            @Value("${ai.executor.max-concurrency:8}") int maxConcurrency,
+            @Value("${ai.response-cache.queue-capacity:16}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("ai-cache-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    /**
+     * 이메일 발송에 사용하는 스레드 풀을 빈으로 등록합니다.
+     * 발송할 묶음은 EmailDeliveryWorker가 스레드 수만큼만 넘기므로 대기 큐는 작업을 마친 스레드가
+     * 풀로 돌아오기 전의 짧은 틈만 흡수하면 되며, 종료 시에는 발송 중인 묶음이 끝날 때까지 기다립니다.
+     * @param workers 동시에 발송할 수 있는 묶음 수
+     * @return ThreadPoolTaskExecutor 객체
+     */
+    @Bean(name = "emailExecutor")
+    public ThreadPoolTaskExecutor emailExecutor(@Value("${email.queue.workers:2}") int workers) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(workers);
+        executor.setThreadNamePrefix("email-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -7,8 +7,8 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.scit4bits.tonarinetserver.entity.User;
-import org.scit4bits.tonarinetserver.repository.UserRepository;
 import org.scit4bits.tonarinetserver.service.JwtService;
+import org.scit4bits.tonarinetserver.service.UserPrincipalCache;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -28,7 +28,7 @@ import java.util.ArrayList;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
-    private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     /**
      * 요청마다 JWT 토큰을 검증하고 인증을 처리합니다.
@@ -53,15 +53,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         jwt = authHeader.substring(7);
+        // 서명과 만료 시간을 검증하며 사용자 ID를 추출 (유효하지 않으면 null)
         userId = jwtService.extractUserId(jwt);
 
         // 토큰에서 사용자 ID를 추출하고, 현재 SecurityContext에 인증 정보가 없는 경우
         if (userId != null && SecurityContextHolder.getContext().getAuthentication() == null) {
             try {
-                User user = userRepository.findById(Integer.parseInt(userId)).orElse(null);
+                User user = userPrincipalCache.getUser(Integer.parseInt(userId)).orElse(null);
 
-                // 사용자가 존재하고 토큰이 유효하면 인증 정보 설정
-                if (user != null && jwtService.validateToken(jwt)) {
+                // 사용자가 존재하면 인증 정보 설정
+                if (user != null) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             user, null, new ArrayList<>());
                     authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
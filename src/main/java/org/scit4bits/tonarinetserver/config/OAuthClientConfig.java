@@ -0,0 +1,48 @@
+package org.scit4bits.tonarinetserver.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * OAuth 제공자(LINE, Google, Kakao)와 통신하는 HTTP 클라이언트를 구성하는 클래스
+ * 요청마다 새 연결과 TLS 핸드셰이크를 만들지 않도록 커넥션 풀을 공유하며, 연결/응답 제한 시간을 적용합니다.
+ */
+@Configuration
+public class OAuthClientConfig {
+
+    /**
+     * OAuth 제공자 전용 WebClient를 빈으로 등록합니다.
+     * @param webClientBuilder 스프링 부트가 구성한 WebClient 빌더
+     * @param connectTimeout 연결 제한 시간
+     * @param responseTimeout 응답 제한 시간
+     * @param maxConnections 커넥션 풀의 최대 연결 수
+     * @param maxIdleTime 사용하지 않는 연결을 닫을 시간
+     * @return WebClient 객체
+     */
+    @Bean(name = "oauthWebClient")
+    public WebClient oauthWebClient(WebClient.Builder webClientBuilder,
+                                    @Value("${oauth.http.connect-timeout:3s}") Duration connectTimeout,
+                                    @Value("${oauth.http.response-timeout:5s}") Duration responseTimeout,
+                                    @Value("${oauth.http.max-connections:50}") int maxConnections,
+                                    @Value("${oauth.http.max-idle-time:30s}") Duration maxIdleTime) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("oauth")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(responseTimeout)
+                .maxIdleTime(maxIdleTime)
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(responseTimeout);
+        return webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
@@ -51,6 +51,8 @@ public class SpringSecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)) // 세션을 사용하지 않음
                 .authorizeHttpRequests(authz -> authz
                         .requestMatchers("/swagger-ui/**", "/swagger-ui.html", "/v3/api-docs/**").hasRole("SWAGGER_USER")
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll() // 헬스 체크(liveness/readiness 프로브)는 인증 없이 허용
+                        .requestMatchers("/actuator/**").hasRole("SWAGGER_USER") // 운영 메트릭은 Swagger 계정으로 보호
                         .requestMatchers("/api/auth/**").permitAll() // 인증 관련 엔드포인트는 모두 허용
                         .requestMatchers("/ws/**").permitAll() // 웹소켓 엔드포인트 허용
                         .requestMatchers("/app/**").permitAll() // STOMP 목적지 허용
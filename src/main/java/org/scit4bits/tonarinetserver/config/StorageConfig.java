@@ -0,0 +1,93 @@
+package org.scit4bits.tonarinetserver.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.scit4bits.tonarinetserver.service.BlobStore;
+import org.scit4bits.tonarinetserver.service.LocalBlobStore;
+import org.scit4bits.tonarinetserver.service.S3BlobStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.net.URI;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+/**
+ * 업로드 파일 저장소(BlobStore)를 구성하는 클래스
+ * {@code storage.type}이 s3이면 S3 호환 오브젝트 스토리지를, 그 외에는 로컬 업로드 디렉터리를 사용합니다.
+ */
+@Configuration
+@Slf4j
+public class StorageConfig {
+
+    /**
+     * 로컬 디스크 저장소를 빈으로 등록합니다.
+     * @param uploadPath 업로드 디렉터리
+     * @return LocalBlobStore 객체
+     */
+    @Bean
+    @ConditionalOnProperty(name = "storage.type", havingValue = "local", matchIfMissing = true)
+    public BlobStore localBlobStore(@Value("${upload.path:c:/upload}") String uploadPath) {
+        log.info("로컬 파일 저장소 사용: {}", uploadPath);
+        return new LocalBlobStore(Paths.get(uploadPath));
+    }
+
+    /**
+     * S3 호환 오브젝트 스토리지 저장소를 빈으로 등록합니다.
+     * endpoint를 지정하면 MinIO 등 S3 호환 서버를 사용할 수 있으며,
+     * 액세스 키를 지정하지 않으면 기본 AWS 자격 증명(환경 변수, IAM 역할 등)을 사용합니다.
+     * @param endpoint S3 엔드포인트 (비어 있으면 AWS 기본 엔드포인트)
+     * @param region 리전
+     * @param bucket 버킷 이름
+     * @param accessKey 액세스 키
+     * @param secretKey 시크릿 키
+     * @param pathStyleAccess 경로 방식 주소 사용 여부 (MinIO는 true)
+     * @param partSize 멀티파트 업로드 파트 크기 (byte)
+     * @param presignTtl 서명된 다운로드 URL의 유효 시간
+     * @return S3BlobStore 객체
+     */
+    @Bean
+    @ConditionalOnProperty(name = "storage.type", havingValue = "s3")
+    public BlobStore s3BlobStore(
+            @Value("${storage.s3.endpoint:}") String endpoint,
+            @Value("${storage.s3.region:ap-northeast-1}") String region,
+            @Value("${storage.s3.bucket}") String bucket,
+            @Value("${storage.s3.access-key:}") String accessKey,
+            @Value("${storage.s3.secret-key:}") String secretKey,
+            @Value("${storage.s3.path-style-access:false}") boolean pathStyleAccess,
+            @Value("${storage.s3.part-size:8388608}") long partSize,
+            @Value("${storage.s3.presign-ttl:10m}") Duration presignTtl) {
+        AwsCredentialsProvider credentials = accessKey.isBlank()
+                ? DefaultCredentialsProvider.create()
+                : StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
+        S3Configuration s3Configuration = S3Configuration.builder()
+                .pathStyleAccessEnabled(pathStyleAccess)
+                .build();
+
+        S3ClientBuilder clientBuilder = S3Client.builder()
+                .region(Region.of(region))
+                .credentialsProvider(credentials)
+                .serviceConfiguration(s3Configuration);
+        S3Presigner.Builder presignerBuilder = S3Presigner.builder()
+                .region(Region.of(region))
+                .credentialsProvider(credentials)
+                .serviceConfiguration(s3Configuration);
+        if (!endpoint.isBlank()) {
+            clientBuilder.endpointOverride(URI.create(endpoint));
+            presignerBuilder.endpointOverride(URI.create(endpoint));
+        }
+
+        log.info("S3 파일 저장소 사용: {} (bucket: {})", endpoint.isBlank() ? region : endpoint, bucket);
+        return new S3BlobStore(clientBuilder.build(), presignerBuilder.build(), bucket, partSize, presignTtl);
+    }
+}
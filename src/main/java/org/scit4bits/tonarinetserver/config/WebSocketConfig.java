@@ -3,14 +3,16 @@ package org.scit4bits.tonarinetserver.config;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.scit4bits.tonarinetserver.entity.User;
-import org.scit4bits.tonarinetserver.repository.UserRepository;
 import org.scit4bits.tonarinetserver.service.JwtService;
+import org.scit4bits.tonarinetserver.service.UserPrincipalCache;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.lang.NonNull;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
@@ -18,11 +20,14 @@ import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 import java.security.Principal;
 
 /**
  * WebSocket 및 STOMP 메시징을 설정하는 클래스
+ * {@code websocket.broker.mode}가 relay이면 외부 STOMP 브로커(RabbitMQ, ActiveMQ 등)로 메시지를 중계하여
+ * 여러 서버 인스턴스가 같은 채팅방 구독을 공유할 수 있으며, simple이면 JVM 내부 메모리 브로커를 사용합니다.
  */
 @Configuration
 @EnableWebSocketMessageBroker
@@ -31,7 +36,46 @@ import java.security.Principal;
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final JwtService jwtService;
-    private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
+
+    @Value("${websocket.broker.mode:simple}")
+    private String brokerMode;
+    @Value("${websocket.broker.relay.host:localhost}")
+    private String relayHost;
+    @Value("${websocket.broker.relay.port:61613}")
+    private int relayPort;
+    @Value("${websocket.broker.relay.virtual-host:}")
+    private String relayVirtualHost;
+    @Value("${websocket.broker.relay.client-login:guest}")
+    private String relayClientLogin;
+    @Value("${websocket.broker.relay.client-passcode:guest}")
+    private String relayClientPasscode;
+    @Value("${websocket.broker.relay.system-login:guest}")
+    private String relaySystemLogin;
+    @Value("${websocket.broker.relay.system-passcode:guest}")
+    private String relaySystemPasscode;
+    @Value("${websocket.broker.relay.heartbeat-interval-ms:10000}")
+    private long relayHeartbeatInterval;
+
+    @Value("${websocket.channel.inbound.core-pool-size:8}")
+    private int inboundCorePoolSize;
+    @Value("${websocket.channel.inbound.max-pool-size:32}")
+    private int inboundMaxPoolSize;
+    @Value("${websocket.channel.inbound.queue-capacity:1000}")
+    private int inboundQueueCapacity;
+    @Value("${websocket.channel.outbound.core-pool-size:8}")
+    private int outboundCorePoolSize;
+    @Value("${websocket.channel.outbound.max-pool-size:32}")
+    private int outboundMaxPoolSize;
+    @Value("${websocket.channel.outbound.queue-capacity:1000}")
+    private int outboundQueueCapacity;
+
+    @Value("${websocket.transport.message-size-limit:65536}")
+    private int messageSizeLimit;
+    @Value("${websocket.transport.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+    @Value("${websocket.transport.send-time-limit-ms:15000}")
+    private int sendTimeLimit;
 
     /**
      * 메시지 브로커를 설정합니다.
@@ -39,8 +83,28 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
      */
     @Override
     public void configureMessageBroker(@NonNull MessageBrokerRegistry config) {
-        // "/topic", "/queue" 접두사를 사용하는 간단한 메모리 기반 메시지 브로커를 활성화합니다.
-        config.enableSimpleBroker("/topic", "/queue");
+        if ("relay".equalsIgnoreCase(brokerMode)) {
+            // "/topic", "/queue" 접두사 메시지를 외부 STOMP 브로커로 중계합니다.
+            StompBrokerRelayRegistration relay = config.enableStompBrokerRelay("/topic", "/queue")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayClientLogin)
+                    .setClientPasscode(relayClientPasscode)
+                    .setSystemLogin(relaySystemLogin)
+                    .setSystemPasscode(relaySystemPasscode)
+                    .setSystemHeartbeatSendInterval(relayHeartbeatInterval)
+                    .setSystemHeartbeatReceiveInterval(relayHeartbeatInterval)
+                    // 다른 서버에 접속한 사용자에게도 /user 목적지 메시지가 전달되도록 사용자 정보를 공유합니다.
+                    .setUserDestinationBroadcast("/topic/unresolved-user-destination")
+                    .setUserRegistryBroadcast("/topic/simp-user-registry");
+            if (!relayVirtualHost.isBlank()) {
+                relay.setVirtualHost(relayVirtualHost);
+            }
+            log.info("외부 STOMP 브로커 중계 사용: {}:{}", relayHost, relayPort);
+        } else {
+            // "/topic", "/queue" 접두사를 사용하는 간단한 메모리 기반 메시지 브로커를 활성화합니다.
+            config.enableSimpleBroker("/topic", "/queue");
+        }
 
         // "/app" 접두사는 @MessageMapping 메서드로 바인딩되는 메시지를 위해 지정합니다.
         config.setApplicationDestinationPrefixes("/app");
@@ -65,12 +129,41 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .setAllowedOriginPatterns("*");
     }
 
+    /**
+     * WebSocket 전송 계층의 메시지 크기와 전송 버퍼/시간 제한을 설정합니다.
+     * 느린 클라이언트의 전송 버퍼가 한도를 넘거나 전송이 제한 시간을 넘기면 해당 세션을 종료하여
+     * 아웃바운드 스레드가 묶이지 않도록 합니다.
+     * @param registration WebSocketTransportRegistration
+     */
+    @Override
+    public void configureWebSocketTransport(@NonNull WebSocketTransportRegistration registration) {
+        registration.setMessageSizeLimit(messageSizeLimit)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setSendTimeLimit(sendTimeLimit);
+    }
+
+    /**
+     * 클라이언트 아웃바운드 채널의 스레드 풀을 설정합니다.
+     * @param registration ChannelRegistration
+     */
+    @Override
+    public void configureClientOutboundChannel(@NonNull ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(outboundCorePoolSize)
+                .maxPoolSize(outboundMaxPoolSize)
+                .queueCapacity(outboundQueueCapacity);
+    }
+
     /**
      * 클라이언트 인바운드 채널을 설정하고 JWT 인증을 위한 인터셉터를 추가합니다.
      * @param registration ChannelRegistration
      */
     @Override
     public void configureClientInboundChannel(@NonNull ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(inboundCorePoolSize)
+                .maxPoolSize(inboundMaxPoolSize)
+                .queueCapacity(inboundQueueCapacity);
         registration.interceptors(new ChannelInterceptor() {
             @Override
             public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
@@ -88,10 +181,11 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
                     try {
                         String jwt = authHeader.substring(7);
+                        // 서명과 만료 시간을 검증하며 사용자 ID를 추출 (유효하지 않으면 null)
                         String userId = jwtService.extractUserId(jwt);
 
-                        if (userId != null && jwtService.validateToken(jwt)) {
-                            User user = userRepository.findById(Integer.parseInt(userId)).orElse(null);
+                        if (userId != null) {
+                            User user = userPrincipalCache.getUser(Integer.parseInt(userId)).orElse(null);
 
                             if (user != null) {
                                 UserPrincipal userPrincipal = new UserPrincipal(user.getId());
@@ -4,8 +4,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.scit4bits.tonarinetserver.dto.*;
 import org.scit4bits.tonarinetserver.service.AuthService;
+import org.scit4bits.tonarinetserver.service.OAuthService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 /**
  * 인증 관련 API를 처리하는 컨트롤러
@@ -17,6 +19,7 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthService authService;
+    private final OAuthService oAuthService;
 
     /**
      * 사용자 회원가입을 처리합니다.
@@ -95,15 +98,12 @@ public class AuthController {
      * @return 인증 확인 응답
      */
     @GetMapping("/line/check")
-    public ResponseEntity<AuthCheckResponse> getLineCheck(@RequestParam("code") String code,
-                                                          @RequestParam("state") String state) {
+    public Mono<ResponseEntity<AuthCheckResponse>> getLineCheck(@RequestParam("code") String code,
+                                                                @RequestParam("state") String state) {
         // Line 인증 확인 서비스 호출
-        AuthCheckResponse response = authService.getLineCheck(code, state);
-        if (response != null) {
-            return ResponseEntity.ok(response);
-        } else {
-            return ResponseEntity.status(400).build();
-        }
+        return oAuthService.getLineCheck(code, state)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.status(400).build());
     }
 
     /**
@@ -113,15 +113,12 @@ public class AuthController {
      * @return 인증 확인 응답
      */
     @GetMapping("/google/check")
-    public ResponseEntity<AuthCheckResponse> getGoogleCheck(@RequestParam("code") String code,
-                                                            @RequestParam("state") String state) {
+    public Mono<ResponseEntity<AuthCheckResponse>> getGoogleCheck(@RequestParam("code") String code,
+                                                                  @RequestParam("state") String state) {
         // Google 인증 확인 서비스 호출
-        AuthCheckResponse response = authService.getGoogleCheck(code, state);
-        if (response != null) {
-            return ResponseEntity.ok(response);
-        } else {
-            return ResponseEntity.status(400).build();
-        }
+        return oAuthService.getGoogleCheck(code, state)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.status(400).build());
     }
 
     /**
@@ -131,15 +128,12 @@ public class AuthController {
      * @return 인증 확인 응답
      */
     @GetMapping("/kakao/check")
-    public ResponseEntity<AuthCheckResponse> getKakaoCheck(@RequestParam("code") String code,
-                                                           @RequestParam("state") String state) {
+    public Mono<ResponseEntity<AuthCheckResponse>> getKakaoCheck(@RequestParam("code") String code,
+                                                                 @RequestParam("state") String state) {
         // Kakao 인증 확인 서비스 호출
-        AuthCheckResponse response = authService.getKakaoCheck(code, state);
-        if (response != null) {
-            return ResponseEntity.ok(response);
-        } else {
-            return ResponseEntity.status(400).build();
-        }
+        return oAuthService.getKakaoCheck(code, state)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.status(400).build());
     }
 
     /**
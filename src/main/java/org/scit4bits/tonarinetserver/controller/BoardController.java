@@ -99,7 +99,7 @@ public class BoardController {
      * @param category 카테고리
      * @param page 페이지 번호
      * @param pageSize 페이지 크기
-     * @param sortBy 정렬 기준
+     * @param sortBy 정렬 기준 (relevance: 검색어가 있으면 관련도순, 없으면 ID순)
      * @param sortDirection 정렬 방향
      * @return 페이징 처리된 ArticleDTO 리스트
      */
@@ -112,7 +112,7 @@ public class BoardController {
             @RequestParam(name = "category", required = false) String category,
             @RequestParam(name = "page", defaultValue = "0") Integer page,
             @RequestParam(name = "pageSize", defaultValue = "10") Integer pageSize,
-            @RequestParam(name = "sortBy", defaultValue = "id") String sortBy,
+            @RequestParam(name = "sortBy", defaultValue = "relevance") String sortBy,
             @RequestParam(name = "sortDirection", defaultValue = "asc") String sortDirection
     ) {
         if (user == null) {
@@ -1,5 +1,7 @@
 package org.scit4bits.tonarinetserver.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -7,15 +9,19 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.scit4bits.tonarinetserver.config.WebSocketConfig.UserPrincipal;
+import org.scit4bits.tonarinetserver.dto.AIStreamChunkDTO;
 import org.scit4bits.tonarinetserver.dto.ChatMessageRequestDTO;
 import org.scit4bits.tonarinetserver.dto.ChatMessageResponseDTO;
 import org.scit4bits.tonarinetserver.dto.SimpleResponse;
 import org.scit4bits.tonarinetserver.entity.User;
 import org.scit4bits.tonarinetserver.repository.UserRepository;
+import org.scit4bits.tonarinetserver.service.AIRequestExecutor;
 import org.scit4bits.tonarinetserver.service.AIService;
 import org.scit4bits.tonarinetserver.service.ChatMessageService;
 import org.scit4bits.tonarinetserver.service.ChatRoomService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
@@ -23,9 +29,19 @@ import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.scheduler.Schedulers;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 /**
  * 실시간 채팅 메시지 관련 API를 처리하는 컨트롤러입니다.
@@ -42,6 +58,17 @@ public class ChatMessageController {
     private final SimpMessagingTemplate messagingTemplate;
     private final UserRepository userRepository;
     private final AIService aiService;
+    private final AIRequestExecutor aiRequestExecutor;
+    private final ObjectMapper objectMapper;
+
+    @Value("${ai.chat.streaming:true}")
+    private boolean aiStreaming;
+
+    @Value("${ai.chat.stream.flush-interval:50ms}")
+    private Duration aiStreamFlushInterval;
+
+    @Value("${ai.chat.stream.max-chunk-tokens:32}")
+    private int aiStreamMaxChunkTokens;
 
     /**
      * WebSocket을 통해 메시지를 전송하는 엔드포인트입니다.
@@ -73,23 +100,38 @@ public class ChatMessageController {
 
             // AI 채팅방인 경우, AI 응답을 생성하여 전송합니다.
             if (chatRoomService.checkIfAIChatroom(roomId)) {
+                if (aiStreaming) {
+                    // 생성되는 대로 조각을 전송하고, 완료되면 전체 응답만 저장합니다.
+                    streamAIResponse(roomId, principal.getId(), messageRequest.getMessage());
+                    return;
+                }
+
+                // AI 전용 스레드 풀에서 응답을 생성합니다. (대기 요청이 많으면 바로 거절)
+                CompletableFuture<String> aiResponse = aiRequestExecutor.submit("chat", principal.getId(), roomId,
+                        () -> aiService.generateResponseWithMemory(messageRequest.getMessage(), roomId));
+
                 // AI가 응답을 생성 중이라는 알림 메시지를 보냅니다.
                 ChatMessageResponseDTO aiNoticeMessage = chatMessageService.sendMessage(
                         ChatMessageRequestDTO.builder()
                                 .chatroomId(roomId)
-                                .message("AI가 응답을 생성 중입니다...")
+                                .message(AIService.PENDING_NOTICE)
                                 .build(),
                         0); // AI 응답은 user 0 (system)으로 처리합니다.
 
                 messagingTemplate.convertAndSend("/topic/chat/room/" + roomId, aiNoticeMessage);
 
-                // 비동기적으로 AI 응답을 생성하고 전송합니다.
-                CompletableFuture.runAsync(() -> {
-                    String aiResponse = aiService.generateResponseWithMemory(messageRequest.getMessage(), roomId);
+                // 응답이 생성되면 저장하고 전송합니다.
+                aiResponse.whenComplete((response, error) -> {
+                    if (error != null) {
+                        log.error("Error generating AI response for room {}: {}", roomId, error.toString());
+                        messagingTemplate.convertAndSendToUser(principal.getName(), "/queue/errors",
+                                "Failed to generate AI response: " + error.getMessage());
+                        return;
+                    }
                     ChatMessageResponseDTO aiMessage = chatMessageService.sendMessage(
                             ChatMessageRequestDTO.builder()
                                     .chatroomId(roomId)
-                                    .message(aiResponse)
+                                    .message(response)
                                     .build(),
                             0); // AI 응답은 user 0 (system)으로 처리합니다.
                     messagingTemplate.convertAndSend("/topic/chat/room/" + roomId, aiMessage);
@@ -103,11 +145,83 @@ public class ChatMessageController {
         }
     }
 
+    /**
+     * AI 응답을 스트리밍으로 생성하여 채팅방에 조각 단위로 전송합니다.
+     * 생성된 텍스트는 짧은 간격으로 모아 AIStreamChunkDTO 프레임으로 보내고,
+     * 스트림이 끝나면 전체 응답만 메시지로 저장한 뒤 완료 프레임과 저장된 메시지를 전송합니다.
+     * 응답을 기다리는 동안 스레드를 점유하지 않으며, 동시 실행 수 제한과 채팅방 퇴장 시 취소가 적용됩니다.
+     * @param roomId 채팅방 ID
+     * @param userId 요청한 사용자 ID
+     * @param userInput 사용자 입력 문자열
+     */
+    private void streamAIResponse(Integer roomId, Integer userId, String userInput) {
+        String destination = "/topic/chat/room/" + roomId;
+        String streamId = UUID.randomUUID().toString();
+        StringBuilder fullResponse = new StringBuilder();
+        AtomicInteger sequence = new AtomicInteger();
+
+        aiRequestExecutor.stream("chat-stream", userId, roomId,
+                        () -> aiService.streamResponseWithMemory(userInput, roomId))
+                // 토큰마다 프레임을 보내지 않고 flush 간격 동안 도착한 조각을 묶어서 전송
+                .bufferTimeout(aiStreamMaxChunkTokens, aiStreamFlushInterval)
+                .map(tokens -> String.join("", tokens))
+                // 메시지 저장(JPA)은 블로킹 작업이므로 HTTP 클라이언트 이벤트 루프가 아닌 스레드에서 처리
+                .publishOn(Schedulers.boundedElastic())
+                .subscribe(
+                        delta -> {
+                            fullResponse.append(delta);
+                            messagingTemplate.convertAndSend(destination, AIStreamChunkDTO.builder()
+                                    .streamId(streamId)
+                                    .chatroomId(roomId)
+                                    .sequence(sequence.getAndIncrement())
+                                    .delta(delta)
+                                    .done(false)
+                                    .build());
+                        },
+                        error -> {
+                            log.error("Error streaming AI response to room {}: {}", roomId, error.getMessage());
+                            messagingTemplate.convertAndSend(destination, AIStreamChunkDTO.builder()
+                                    .streamId(streamId)
+                                    .chatroomId(roomId)
+                                    .sequence(sequence.getAndIncrement())
+                                    .done(true)
+                                    .error(error instanceof RejectedExecutionException
+                                            || error instanceof CancellationException
+                                            ? error.getMessage() : "AI 응답 생성에 실패했습니다.")
+                                    .build());
+                        },
+                        () -> {
+                            try {
+                                ChatMessageResponseDTO aiMessage = chatMessageService.sendMessage(
+                                        ChatMessageRequestDTO.builder()
+                                                .chatroomId(roomId)
+                                                .message(fullResponse.toString())
+                                                .build(),
+                                        0); // AI 응답은 user 0 (system)으로 처리합니다.
+                                messagingTemplate.convertAndSend(destination, AIStreamChunkDTO.builder()
+                                        .streamId(streamId)
+                                        .chatroomId(roomId)
+                                        .sequence(sequence.getAndIncrement())
+                                        .done(true)
+                                        .messageId(aiMessage.getId())
+                                        .build());
+                                // 스트리밍을 지원하지 않는 클라이언트를 위해 저장된 메시지도 전송합니다.
+                                messagingTemplate.convertAndSend(destination, aiMessage);
+                                log.info("AI response streamed to room {} ({} chunks)", roomId, sequence.get());
+                            } catch (RuntimeException e) {
+                                log.error("Error saving streamed AI response for room {}: {}", roomId, e.getMessage());
+                            }
+                        });
+    }
+
     /**
      * REST API를 통해 채팅 내역을 조회합니다.
+     * before 또는 after 커서가 주어지면 메시지 ID 기준 키셋 페이징으로 조회하며, 결과는 시간순으로 정렬됩니다.
      * @param roomId 채팅방 ID
-     * @param page 페이지 번호
+     * @param page 페이지 번호 (커서가 없을 때만 사용)
      * @param size 페이지 크기
+     * @param before 이 메시지 ID보다 이전 메시지를 조회 (선택)
+     * @param after 이 메시지 ID보다 이후 메시지를 조회 (선택)
      * @param user 현재 로그인한 사용자 정보
      * @return 페이징 처리된 ChatMessageResponseDTO 리스트
      */
@@ -117,6 +231,8 @@ public class ChatMessageController {
             @PathVariable("roomId") Integer roomId,
             @RequestParam(name = "page", defaultValue = "0") Integer page,
             @RequestParam(name = "size", defaultValue = "50") Integer size,
+            @RequestParam(name = "before", required = false) Integer before,
+            @RequestParam(name = "after", required = false) Integer after,
             @AuthenticationPrincipal User user) {
 
         if (user == null) {
@@ -124,7 +240,9 @@ public class ChatMessageController {
         }
 
         try {
-            List<ChatMessageResponseDTO> messages = chatMessageService.getMessagesByChatRoom(roomId, page, size, user);
+            List<ChatMessageResponseDTO> messages = (before != null || after != null)
+                    ? chatMessageService.getMessagesByCursor(roomId, before, after, size, user)
+                    : chatMessageService.getMessagesByChatRoom(roomId, page, size, user);
             return ResponseEntity.ok(messages);
         } catch (RuntimeException e) {
             log.error("Error fetching messages for room {}: {}", roomId, e.getMessage());
@@ -140,13 +258,14 @@ public class ChatMessageController {
 
     /**
      * REST API를 통해 채팅방의 모든 메시지를 조회합니다.
+     * 전체 내역을 메모리에 모으지 않고 JSON 배열로 스트리밍하여 응답합니다.
      * @param roomId 채팅방 ID
      * @param user 현재 로그인한 사용자 정보
-     * @return ChatMessageResponseDTO 리스트
+     * @return ChatMessageResponseDTO 배열을 스트리밍하는 응답 본문
      */
     @GetMapping("/room/{roomId}/messages/all")
     @Operation(summary = "채팅방의 모든 메시지 조회", security = @SecurityRequirement(name = "bearerAuth"))
-    public ResponseEntity<List<ChatMessageResponseDTO>> getAllMessages(
+    public ResponseEntity<StreamingResponseBody> getAllMessages(
             @PathVariable("roomId") Integer roomId,
             @AuthenticationPrincipal User user) {
 
@@ -155,8 +274,23 @@ public class ChatMessageController {
         }
 
         try {
-            List<ChatMessageResponseDTO> messages = chatMessageService.getAllMessagesByChatRoom(roomId, user);
-            return ResponseEntity.ok(messages);
+            Stream<ChatMessageResponseDTO> messages = chatMessageService.streamAllMessagesByChatRoom(roomId, user);
+            StreamingResponseBody body = outputStream -> {
+                try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                    generator.writeStartArray();
+                    messages.forEach(message -> {
+                        try {
+                            generator.writeObject(message);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                    generator.writeEndArray();
+                }
+            };
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(body);
         } catch (RuntimeException e) {
             log.error("Error fetching all messages for room {}: {}", roomId, e.getMessage());
             if (e.getMessage().contains("not a member")) {
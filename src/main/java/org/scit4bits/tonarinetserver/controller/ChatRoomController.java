@@ -8,6 +8,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.scit4bits.tonarinetserver.dto.ChatRoomResponseDTO;
 import org.scit4bits.tonarinetserver.dto.SimpleResponse;
 import org.scit4bits.tonarinetserver.entity.User;
+import org.scit4bits.tonarinetserver.service.AIRequestExecutor;
 import org.scit4bits.tonarinetserver.service.ChatRoomService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -15,6 +16,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * 채팅방 관리 관련 API를 처리하는 컨트롤러입니다.
@@ -27,6 +29,7 @@ import java.util.List;
 public class ChatRoomController {
 
     private final ChatRoomService chatRoomService;
+    private final AIRequestExecutor aiRequestExecutor;
 
     /**
      * ID로 특정 채팅방 정보를 조회합니다.
@@ -155,6 +158,8 @@ public class ChatRoomController {
 
         try {
             chatRoomService.leaveChatRoom(id, user);
+            // 이 채팅방에서 요청한 AI 응답 생성이 진행 중이면 취소합니다.
+            aiRequestExecutor.cancel(id, user.getId());
             return ResponseEntity.ok(new SimpleResponse("Successfully left chat room"));
         } catch (RuntimeException e) {
             if (e.getMessage().contains("not found")) {
@@ -190,4 +195,23 @@ public class ChatRoomController {
         }
     }
 
+    /**
+     * 채팅방별 읽지 않은 메시지 개수를 조회합니다.
+     * @param user 현재 로그인한 사용자 정보
+     * @return 채팅방 ID를 키로 하는 읽지 않은 메시지 개수 맵
+     */
+    @GetMapping("/unreadCount/rooms")
+    public ResponseEntity<Map<Integer, Long>> getUnreadMessagesCountByRoom(@AuthenticationPrincipal User user) {
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        try {
+            return ResponseEntity.ok(chatRoomService.getUnreadMessagesCountByRoom(user.getId()));
+        } catch (Exception e) {
+            log.error("Error fetching unread messages count by room: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
 }
@@ -2,6 +2,7 @@ package org.scit4bits.tonarinetserver.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.scit4bits.tonarinetserver.dto.TranslationBatchRequestDTO;
 import org.scit4bits.tonarinetserver.dto.TranslationRequestDTO;
 import org.scit4bits.tonarinetserver.dto.TranslationResponseDTO;
 import org.scit4bits.tonarinetserver.service.GCPService;
@@ -10,6 +11,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Objects;
 
 /**
  * 공통 기능 관련 API를 처리하는 컨트롤러입니다.
@@ -28,10 +33,34 @@ public class CommonController {
      * @return 번역된 텍스트 정보
      */
     @PostMapping("/translate")
-    public ResponseEntity<TranslationResponseDTO> postTranslation(@RequestBody TranslationRequestDTO request) {
+    public Mono<ResponseEntity<TranslationResponseDTO>> postTranslation(@RequestBody TranslationRequestDTO request) {
+        if (request.getText() == null) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
         // GCPService를 통해 텍스트를 번역합니다.
-        TranslationResponseDTO result = gcpService.translateText(request.getText(), request.getTargetLanguage());
-        return ResponseEntity.ok(result);
+        return gcpService.translateText(request.getText(), request.getTargetLanguage())
+                .map(ResponseEntity::ok);
+    }
+
+    /**
+     * 여러 텍스트를 한 번에 번역합니다. (채팅방 메시지, 게시글 목록 등)
+     * 이미 번역된 텍스트는 캐시에서 반환하고, 나머지는 한 번의 API 요청으로 번역합니다.
+     * @param request 번역할 텍스트 리스트와 대상 언어 정보
+     * @return 요청 순서와 같은 순서의 번역 결과 리스트
+     */
+    @PostMapping("/translate/batch")
+    public Mono<ResponseEntity<List<TranslationResponseDTO>>> postBatchTranslation(
+            @RequestBody TranslationBatchRequestDTO request) {
+        if (request.getTexts() == null || request.getTexts().stream().anyMatch(Objects::isNull)) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        try {
+            return gcpService.translateTexts(request.getTexts(), request.getTargetLanguage())
+                    .map(ResponseEntity::ok);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid batch translation request: {}", e.getMessage());
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
     }
 
 }
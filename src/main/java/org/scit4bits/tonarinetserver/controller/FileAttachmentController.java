@@ -13,18 +13,32 @@ import org.scit4bits.tonarinetserver.dto.FileAttachmentResponseDTO;
 import org.scit4bits.tonarinetserver.entity.FileAttachment.FileType;
 import org.scit4bits.tonarinetserver.entity.User;
 import org.scit4bits.tonarinetserver.service.FileAttachmentService;
-import org.springframework.core.io.ByteArrayResource;
+import org.scit4bits.tonarinetserver.service.ThumbnailService;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.net.URI;
 import java.net.URLEncoder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 파일 첨부 관련 API를 처리하는 컨트롤러입니다.
@@ -37,6 +51,7 @@ import java.util.List;
 public class FileAttachmentController {
 
     private final FileAttachmentService fileAttachmentService;
+    private final ThumbnailService thumbnailService;
 
     /**
      * 파일을 업로드합니다.
@@ -74,21 +89,33 @@ public class FileAttachmentController {
 
     /**
      * 파일을 다운로드합니다.
+     * 파일을 메모리에 읽지 않고 FileChannel로 스트리밍하며, Range/If-Range 요청(부분 전송)과
+     * If-None-Match 요청(내용 해시 기반 ETag 검증)을 지원합니다.
      * @param user 현재 로그인한 사용자 정보
      * @param id 다운로드할 파일 ID
+     * @param range Range 요청 헤더
+     * @param ifRange If-Range 요청 헤더
+     * @param ifNoneMatch If-None-Match 요청 헤더
      * @return 파일 데이터
      */
     @GetMapping("/{id}/download")
     @Operation(summary = "파일 다운로드", description = "파일 첨부파일을 다운로드합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "파일 다운로드 성공"),
+            @ApiResponse(responseCode = "206", description = "요청한 범위의 파일 일부 전송"),
+            @ApiResponse(responseCode = "304", description = "클라이언트 캐시가 최신 상태"),
+            @ApiResponse(responseCode = "302", description = "오브젝트 스토리지의 서명된 URL로 리다이렉트"),
             @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
             @ApiResponse(responseCode = "403", description = "비공개 파일에 접근할 수 없음"),
-            @ApiResponse(responseCode = "404", description = "파일을 찾을 수 없음")
+            @ApiResponse(responseCode = "404", description = "파일을 찾을 수 없음"),
+            @ApiResponse(responseCode = "416", description = "요청한 범위를 만족할 수 없음")
     })
-    public ResponseEntity<ByteArrayResource> downloadFile(
+    public ResponseEntity<StreamingResponseBody> downloadFile(
             @AuthenticationPrincipal User user,
-            @PathVariable("id") Integer id) {
+            @PathVariable("id") Integer id,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
         try {
             FileAttachmentResponseDTO fileInfo = fileAttachmentService.getFileAttachmentById(id, user);
@@ -97,43 +124,102 @@ public class FileAttachmentController {
             if (fileInfo.getType() == FileType.ATTACHMENT && user == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
             }
-            byte[] fileContent = fileAttachmentService.downloadFile(id, user);
-
-            ByteArrayResource resource = new ByteArrayResource(fileContent);
+            String key = fileAttachmentService.getDownloadKey(id, user);
 
-            // 캐시 검증을 위해 파일 ID와 마지막 수정 시간을 기반으로 ETag를 생성합니다.
-            String etag = "\"" + fileInfo.getId() + "-"
-                    + (fileInfo.getUploadedAt() != null ? fileInfo.getUploadedAt().hashCode() : fileContent.hashCode())
-                    + "\"";
+            // 업로드 시 저장한 내용 해시로 ETag를 생성합니다. (해시가 없는 기존 파일은 ID와 업로드 시간 사용)
+            String etag = fileInfo.getContentHash() != null
+                    ? "\"" + fileInfo.getContentHash() + "\""
+                    : "\"" + fileInfo.getId() + "-"
+                    + (fileInfo.getUploadedAt() != null ? fileInfo.getUploadedAt().hashCode() : fileInfo.getFilesize()) + "\"";
 
+            HttpHeaders headers = new HttpHeaders();
+            headers.setETag(etag);
+            headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
             switch (fileInfo.getType()) {
                 case ATTACHMENT:
                     // 파일 이름에 ASCII가 아닌 문자가 포함된 경우를 처리합니다.
                     String asciiFallback = fileInfo.getOriginalFilename().replaceAll("[^\\x20-\\x7E]", "_");
                     String filenameStar = "UTF-8''"
                             + URLEncoder.encode(fileInfo.getOriginalFilename(), StandardCharsets.UTF_8);
-                    return ResponseEntity.ok()
-                            .header(HttpHeaders.CONTENT_DISPOSITION,
-                                    "attachment; filename=\"" + asciiFallback + "\"; filename*=" + filenameStar)
-                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_OCTET_STREAM_VALUE)
-                            .header(HttpHeaders.CONTENT_LENGTH, String.valueOf(fileContent.length))
-                            .header(HttpHeaders.CACHE_CONTROL, "private, max-age=3600") // 1시간 동안 캐시
-                            .header(HttpHeaders.ETAG, etag)
-                            .body(resource);
+                    headers.set(HttpHeaders.CONTENT_DISPOSITION,
+                            "attachment; filename=\"" + asciiFallback + "\"; filename*=" + filenameStar);
+                    headers.set(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_OCTET_STREAM_VALUE);
+                    headers.setCacheControl("private, max-age=3600"); // 1시간 동안 캐시
+                    break;
                 case IMAGE:
                     // 이미지의 경우 더 길게 캐시할 수 있습니다.
-                    return ResponseEntity.ok()
-                            .header(HttpHeaders.CONTENT_DISPOSITION,
-                                    "inline; filename=\"" + fileInfo.getOriginalFilename() + "\"")
-                            .header(HttpHeaders.CONTENT_TYPE, MediaType.IMAGE_JPEG_VALUE)
-                            .header(HttpHeaders.CONTENT_LENGTH, String.valueOf(fileContent.length))
-                            .header(HttpHeaders.CACHE_CONTROL, "private, max-age=86400") // 24시간 동안 캐시
-                            .header(HttpHeaders.ETAG, etag)
-                            .body(resource);
+                    headers.set(HttpHeaders.CONTENT_DISPOSITION,
+                            "inline; filename=\"" + fileInfo.getOriginalFilename() + "\"");
+                    headers.setContentType(MediaTypeFactory.getMediaType(fileInfo.getOriginalFilename())
+                            .orElse(MediaType.IMAGE_JPEG));
+                    headers.setCacheControl("private, max-age=86400"); // 24시간 동안 캐시
+                    break;
                 default:
                     throw new IllegalArgumentException("Unsupported file type: " + fileInfo.getType());
             }
 
+            // 클라이언트가 가진 버전과 같으면 본문 없이 304를 반환합니다.
+            if (etagMatches(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+            }
+
+            // 오브젝트 스토리지를 사용하면 서명된 URL로 리다이렉트하여 클라이언트가 직접 내려받게 합니다.
+            // (Range 요청도 스토리지가 처리)
+            Optional<URI> presignedUrl = fileAttachmentService.getPresignedDownloadUrl(key,
+                    headers.getFirst(HttpHeaders.CONTENT_DISPOSITION), headers.getFirst(HttpHeaders.CONTENT_TYPE));
+            if (presignedUrl.isPresent()) {
+                return ResponseEntity.status(HttpStatus.FOUND)
+                        .location(presignedUrl.get())
+                        .cacheControl(CacheControl.noStore())
+                        .build();
+            }
+
+            Path filePath = fileAttachmentService.getLocalPath(key)
+                    .orElseThrow(() -> new IOException("파일이 존재하지 않거나 읽을 수 없습니다: " + key));
+            long fileSize = Files.size(filePath);
+
+            // If-Range가 현재 ETag와 다르면 파일이 바뀐 것이므로 Range를 무시하고 전체를 전송합니다.
+            if (range != null && (ifRange == null || ifRange.trim().equals(etag))) {
+                List<HttpRange> ranges;
+                try {
+                    ranges = HttpRange.parseRanges(range);
+                } catch (IllegalArgumentException e) {
+                    ranges = List.of();
+                }
+                // 여러 구간 요청은 지원하지 않으므로 전체를 전송합니다.
+                if (ranges.size() == 1) {
+                    HttpRange httpRange = ranges.get(0);
+                    long start;
+                    long end;
+                    try {
+                        start = httpRange.getRangeStart(fileSize);
+                        end = httpRange.getRangeEnd(fileSize);
+                    } catch (IllegalArgumentException e) {
+                        start = fileSize;
+                        end = fileSize;
+                    }
+                    if (start >= fileSize || start > end) {
+                        return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                                .header(HttpHeaders.CONTENT_RANGE, "bytes */" + fileSize)
+                                .build();
+                    }
+                    long length = end - start + 1;
+                    headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + fileSize);
+                    headers.setContentLength(length);
+                    return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                            .headers(headers)
+                            .body(streamFile(filePath, start, length));
+                }
+            }
+
+            headers.setContentLength(fileSize);
+            return ResponseEntity.ok()
+                    .headers(headers)
+                    .body(streamFile(filePath, 0, fileSize));
+
+        } catch (IOException e) {
+            log.error("Failed to read file {}: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
         } catch (RuntimeException e) {
             log.error("Failed to download file {} for user {}: {}", id, user != null ? user.getId() : "anonymous",
                     e.getMessage());
@@ -146,6 +232,116 @@ public class FileAttachmentController {
         }
     }
 
+    /**
+     * 이미지 파일의 축소본(썸네일)을 조회합니다.
+     * 축소본은 처음 요청될 때 생성되어 디스크에 캐싱됩니다.
+     * @param user 현재 로그인한 사용자 정보
+     * @param id 이미지 파일 ID
+     * @param width 최대 너비
+     * @param height 최대 높이
+     * @param format 출력 형식 (jpeg, png)
+     * @param ifNoneMatch If-None-Match 요청 헤더
+     * @return 축소된 이미지 데이터
+     */
+    @GetMapping("/{id}/thumb")
+    @Operation(summary = "이미지 썸네일 조회", description = "이미지를 지정한 크기 이내로 축소하여 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "썸네일 조회 성공"),
+            @ApiResponse(responseCode = "304", description = "클라이언트 캐시가 최신 상태"),
+            @ApiResponse(responseCode = "400", description = "이미지가 아니거나 잘못된 크기/형식"),
+            @ApiResponse(responseCode = "403", description = "비공개 파일에 접근할 수 없음"),
+            @ApiResponse(responseCode = "404", description = "파일을 찾을 수 없음")
+    })
+    public ResponseEntity<byte[]> getThumbnail(
+            @AuthenticationPrincipal User user,
+            @PathVariable("id") Integer id,
+            @RequestParam(name = "w", required = false) Integer width,
+            @RequestParam(name = "h", required = false) Integer height,
+            @RequestParam(name = "fmt", defaultValue = "jpeg") String format,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        try {
+            FileAttachmentResponseDTO fileInfo = fileAttachmentService.getFileAttachmentById(id, user);
+            if (fileInfo.getType() != FileType.IMAGE) {
+                return ResponseEntity.badRequest().build();
+            }
+            String normalizedFormat = format.equalsIgnoreCase("jpg") ? "jpeg" : format.toLowerCase();
+            String sourceKey = fileInfo.getContentHash() != null ? fileInfo.getContentHash() : "file-" + fileInfo.getId();
+            String etag = "\"" + thumbnailService.cacheKey(sourceKey, width, height, normalizedFormat) + "\"";
+
+            if (etagMatches(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+
+            String key = fileAttachmentService.getDownloadKey(id, user);
+            byte[] thumbnail = thumbnailService.getThumbnail(sourceKey,
+                    () -> fileAttachmentService.openContent(key), width, height, normalizedFormat);
+
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType("image/" + normalizedFormat))
+                    .cacheControl(CacheControl.maxAge(Duration.ofDays(1)).cachePrivate())
+                    .eTag(etag)
+                    .body(thumbnail);
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid thumbnail request for file {}: {}", id, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (RuntimeException e) {
+            log.error("Failed to create thumbnail for file {}: {}", id, e.getMessage());
+            if (e.getMessage() != null && e.getMessage().contains("찾을 수 없습니다")) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+            } else if (e.getMessage() != null && e.getMessage().contains("권한")) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            }
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * 파일의 지정한 구간을 FileChannel.transferTo로 응답 스트림에 전송하는 본문을 생성합니다.
+     * 파일 크기와 관계없이 고정된 크기의 버퍼만 사용합니다.
+     * @param filePath 파일 경로
+     * @param start 시작 위치 (byte)
+     * @param length 전송할 길이 (byte)
+     * @return StreamingResponseBody
+     */
+    private StreamingResponseBody streamFile(Path filePath, long start, long length) {
+        return outputStream -> {
+            try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+                WritableByteChannel target = Channels.newChannel(outputStream);
+                long position = start;
+                long remaining = length;
+                while (remaining > 0) {
+                    long transferred = channel.transferTo(position, remaining, target);
+                    if (transferred <= 0) {
+                        break;
+                    }
+                    position += transferred;
+                    remaining -= transferred;
+                }
+            }
+        };
+    }
+
+    /**
+     * If-None-Match 헤더가 현재 ETag와 일치하는지 확인합니다. (약한 비교)
+     * @param ifNoneMatch If-None-Match 헤더 값
+     * @param etag 현재 ETag
+     * @return 일치하면 true
+     */
+    private boolean etagMatches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.replaceFirst("^W/", "").equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * 특정 제출물에 첨부된 모든 파일을 조회합니다.
      * @param user 현재 로그인한 사용자 정보
@@ -10,6 +10,7 @@ import org.scit4bits.tonarinetserver.dto.LiveReportRequestDTO;
 import org.scit4bits.tonarinetserver.dto.LiveReportResponseDTO;
 import org.scit4bits.tonarinetserver.dto.SimpleResponse;
 import org.scit4bits.tonarinetserver.entity.User;
+import org.scit4bits.tonarinetserver.service.GeoDistance;
 import org.scit4bits.tonarinetserver.service.LiveReportService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -107,10 +108,11 @@ public class LiveReportController {
     }
 
     /**
-     * 특정 위치 근처의 실시간 제보 목록을 조회합니다.
+     * 특정 위치 근처에서 오늘 작성된 실시간 제보 목록을 조회합니다.
      * @param longitude 경도
      * @param latitude 위도
-     * @param range 검색 반경
+     * @param radiusKm 검색 반경 (km)
+     * @param range 검색 반경 (도 단위, radiusKm이 없을 때 사용하는 이전 방식의 파라미터)
      * @return LiveReportResponseDTO 리스트
      */
     @GetMapping("/near")
@@ -118,9 +120,11 @@ public class LiveReportController {
     public ResponseEntity<List<LiveReportResponseDTO>> getLiveReportsNearLocation(
             @RequestParam("longitude") Double longitude,
             @RequestParam("latitude") Double latitude,
+            @RequestParam(name = "radiusKm", required = false) Double radiusKm,
             @RequestParam(name = "range", defaultValue = "0.1") Double range) {
         try {
-            List<LiveReportResponseDTO> reports = liveReportService.getLiveReportsNearLocation(longitude, latitude, range);
+            double radius = radiusKm != null ? radiusKm : range * GeoDistance.KM_PER_DEGREE;
+            List<LiveReportResponseDTO> reports = liveReportService.getLiveReportsNearLocation(longitude, latitude, radius);
             return ResponseEntity.ok(reports);
         } catch (Exception e) {
             log.error("Error fetching live reports near location: {}", e.getMessage());
@@ -128,6 +132,53 @@ public class LiveReportController {
         }
     }
 
+    /**
+     * 영역 안에서 오늘 작성된 실시간 제보 목록을 조회합니다.
+     * @param minLatitude 최소 위도
+     * @param minLongitude 최소 경도
+     * @param maxLatitude 최대 위도
+     * @param maxLongitude 최대 경도
+     * @return LiveReportResponseDTO 리스트
+     */
+    @GetMapping("/bounds")
+    @Operation(summary = "영역 기반 실시간 제보 조회")
+    public ResponseEntity<List<LiveReportResponseDTO>> getLiveReportsWithinBounds(
+            @RequestParam("minLatitude") Double minLatitude,
+            @RequestParam("minLongitude") Double minLongitude,
+            @RequestParam("maxLatitude") Double maxLatitude,
+            @RequestParam("maxLongitude") Double maxLongitude) {
+        try {
+            List<LiveReportResponseDTO> reports = liveReportService.getLiveReportsWithinBounds(
+                    minLatitude, minLongitude, maxLatitude, maxLongitude);
+            return ResponseEntity.ok(reports);
+        } catch (Exception e) {
+            log.error("Error fetching live reports within bounds: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * 반경 검색 영역의 실시간 제보 변경 알림을 받기 위해 구독할 셀 ID 목록을 조회합니다.
+     * 클라이언트는 각 셀에 대해 /topic/livereport/{cell} 을 구독합니다.
+     * @param longitude 경도
+     * @param latitude 위도
+     * @param radiusKm 검색 반경 (km)
+     * @return 셀 ID 리스트
+     */
+    @GetMapping("/cells")
+    @Operation(summary = "실시간 제보 구독 셀 조회")
+    public ResponseEntity<List<String>> getSubscriptionCells(
+            @RequestParam("longitude") Double longitude,
+            @RequestParam("latitude") Double latitude,
+            @RequestParam(name = "radiusKm", defaultValue = "10") Double radiusKm) {
+        try {
+            return ResponseEntity.ok(liveReportService.getSubscriptionCells(longitude, latitude, radiusKm));
+        } catch (RuntimeException e) {
+            log.error("Error resolving live report cells: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * 특정 실시간 제보를 삭제합니다.
      * @param id 삭제할 제보 ID
@@ -188,4 +239,28 @@ public class LiveReportController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
+
+    /**
+     * 특정 실시간 제보의 '좋아요'를 취소합니다.
+     * @param id '좋아요'를 취소할 제보 ID
+     * @param user 현재 로그인한 사용자 정보
+     * @return 업데이트된 제보 정보
+     */
+    @DeleteMapping("/{id}/like")
+    @Operation(summary = "실시간 제보 '좋아요' 취소", security = @SecurityRequirement(name = "bearerAuth"))
+    public ResponseEntity<LiveReportResponseDTO> unlikeLiveReport(
+            @PathVariable("id") Integer id,
+            @AuthenticationPrincipal User user) {
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        try {
+            LiveReportResponseDTO report = liveReportService.unlikeLiveReport(id, user);
+            return ResponseEntity.ok(report);
+        } catch (RuntimeException e) {
+            log.error("Error unliking live report: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
 }
@@ -8,10 +8,11 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.NoSuchElementException;
 
 /**
  * 지역 정보를 조회하는 읽기 전용 API를 제공합니다.
- * 맨해튼 거리를 사용하여 간단하고 빠른 거리 계산을 수행합니다.
+ * 반경/최근접/포함 지역 검색은 메모리 공간 인덱스에서 대원 거리로 처리합니다.
  * <p>
  * 메인 엔드포인트: GET /api/region/search
  * 필수 파라미터: latitude, longitude, radius (도 단위)
@@ -20,6 +21,8 @@ import java.util.List;
  * 사용 예시:
  * - 도쿄 중심 0.1도 반경 내 지역 검색: /api/region/search?latitude=35.6762&amp;longitude=139.6503&amp;radius=0.1
  * - 일본 내 지역만 검색: /api/region/search?latitude=35.6762&amp;longitude=139.6503&amp;radius=0.1&amp;countryCode=JP
+ * - 좌표가 속한 지역 조회: /api/region/locate?latitude=35.6762&amp;longitude=139.6503
+ * - 가장 가까운 지역 5개 조회: /api/region/nearest?latitude=35.6762&amp;longitude=139.6503&amp;k=5
  */
 @Slf4j
 @RestController
@@ -30,11 +33,11 @@ public class RegionController {
     private final RegionService regionService;
 
     /**
-     * 맨해튼 거리를 사용하여 중심 좌표로부터 특정 반경 내의 지역을 검색합니다.
+     * 중심 좌표로부터 특정 반경 내의 지역을 가까운 순으로 검색합니다.
      *
      * @param latitude    중심 위도 (필수)
      * @param longitude   중심 경도 (필수)
-     * @param radius      반경 (도 단위, 필수) - 단순화를 위해 맨해튼 거리 사용
+     * @param radius      반경 (도 단위, 필수) - 위도 1도 길이를 기준으로 한 대원 거리
      * @param countryCode 결과를 필터링할 국가 코드 (선택)
      * @return 지정된 반경 내의 지역 리스트
      */
@@ -69,6 +72,65 @@ public class RegionController {
         }
     }
 
+    /**
+     * 좌표가 속한 지역을 조회합니다.
+     *
+     * @param latitude  위도 (필수)
+     * @param longitude 경도 (필수)
+     * @return 좌표를 포함하는 지역 정보
+     */
+    @GetMapping("/locate")
+    public ResponseEntity<RegionDTO> locateRegion(
+            @RequestParam("latitude") Double latitude,
+            @RequestParam("longitude") Double longitude) {
+        log.info("좌표 소속 지역 조회 요청 - 위도: {}, 경도: {}", latitude, longitude);
+
+        try {
+            RegionDTO region = regionService.locateRegion(latitude, longitude);
+            return ResponseEntity.ok(region);
+
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 좌표: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (NoSuchElementException e) {
+            log.warn("좌표를 포함하는 지역 없음: {}", e.getMessage());
+            return ResponseEntity.notFound().build();
+        } catch (Exception e) {
+            log.error("좌표 소속 지역 조회 중 오류 발생", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * 중심 좌표에서 가장 가까운 지역을 조회합니다.
+     *
+     * @param latitude    중심 위도 (필수)
+     * @param longitude   중심 경도 (필수)
+     * @param k           조회할 지역 수 (선택, 기본값 5, 최대 50)
+     * @param countryCode 결과를 필터링할 국가 코드 (선택)
+     * @return 가까운 순으로 정렬된 지역 리스트
+     */
+    @GetMapping("/nearest")
+    public ResponseEntity<List<RegionDTO>> getNearestRegions(
+            @RequestParam("latitude") Double latitude,
+            @RequestParam("longitude") Double longitude,
+            @RequestParam(value = "k", defaultValue = "5") Integer k,
+            @RequestParam(value = "countryCode", required = false) String countryCode) {
+        log.info("최근접 지역 조회 요청 - 위도: {}, 경도: {}, 개수: {}, 국가: {}", latitude, longitude, k, countryCode);
+
+        try {
+            List<RegionDTO> regions = regionService.findNearestRegions(latitude, longitude, k, countryCode);
+            return ResponseEntity.ok(regions);
+
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 검색 파라미터: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("최근접 지역 조회 중 오류 발생", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     /**
      * ID로 특정 지역 정보를 조회합니다.
      *
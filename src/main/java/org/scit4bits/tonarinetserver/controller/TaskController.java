@@ -8,6 +8,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.scit4bits.tonarinetserver.dto.*;
 import org.scit4bits.tonarinetserver.entity.User;
+import org.scit4bits.tonarinetserver.service.AIRequestExecutor;
 import org.scit4bits.tonarinetserver.service.AIService;
 import org.scit4bits.tonarinetserver.service.TaskGroupService;
 import org.scit4bits.tonarinetserver.service.TaskService;
@@ -15,8 +16,13 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
 
 /**
  * 과제 관련 API를 처리하는 컨트롤러입니다.
@@ -28,9 +34,13 @@ import java.util.List;
 @Tag(name = "Task", description = "과제 관리 API")
 public class TaskController {
 
+    /** 서블릿 비동기 제한 시간 없음 (AI 요청의 제한 시간은 AIRequestExecutor가 적용) */
+    private static final long NO_ASYNC_TIMEOUT = -1L;
+
     private final TaskService taskService;
     private final TaskGroupService taskGroupService;
     private final AIService aiService;
+    private final AIRequestExecutor aiRequestExecutor;
 
     /**
      * 새로운 과제를 생성합니다.
@@ -343,18 +353,49 @@ public class TaskController {
 
     /**
      * AI를 사용하여 과제 추천을 생성합니다.
+     * AI 호출은 전용 스레드 풀에서 실행되며, 응답을 기다리는 동안 서블릿 스레드를 점유하지 않습니다.
+     * 응답 대기 시간은 AIRequestExecutor의 제한 시간을 따르므로 이 요청에 한해 서블릿 비동기 제한 시간을 두지 않습니다.
      * @param entity 프롬프트 정보
+     * @param user 현재 로그인한 사용자 정보
      * @return HTML 형식의 AI 응답
      */
     @PostMapping("/ai-recommend")
-    public ResponseEntity<String> postTaskAIRecommend(@RequestBody TaskAIRecommendRequestDTO entity) {
+    public DeferredResult<ResponseEntity<String>> postTaskAIRecommend(@RequestBody TaskAIRecommendRequestDTO entity,
+                                                                      @AuthenticationPrincipal User user) {
+        DeferredResult<ResponseEntity<String>> result = new DeferredResult<>(NO_ASYNC_TIMEOUT);
         if (entity.getPrompt() == null || entity.getPrompt().isEmpty()) {
-            return ResponseEntity.badRequest().body("프롬프트는 비워둘 수 없습니다.");
+            result.setResult(ResponseEntity.badRequest().body("프롬프트는 비워둘 수 없습니다."));
+            return result;
         }
 
-        String htmlResponse = aiService.generateHTMLResponse(entity.getPrompt());
+        // 같은 프롬프트로 생성한 응답이 있으면 AI를 호출하지 않고 바로 반환합니다.
+        Optional<String> cached = aiService.getCachedHTMLResponse(entity.getPrompt());
+        if (cached.isPresent()) {
+            result.setResult(ResponseEntity.ok(cached.get()));
+            return result;
+        }
 
-        return ResponseEntity.ok(htmlResponse);
+        try {
+            aiRequestExecutor.submit("task-recommend", user != null ? user.getId() : null, null,
+                            () -> aiService.generateHTMLResponse(entity.getPrompt()))
+                    .thenApply(ResponseEntity::ok)
+                    .exceptionally(e -> {
+                        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                        log.error("Error generating AI task recommendation: {}", cause.toString());
+                        if (cause instanceof TimeoutException) {
+                            return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).build();
+                        }
+                        // 응답 생성 스레드 풀이 가득 찬 경우도 접수 단계의 거절과 같은 응답으로 처리
+                        if (cause instanceof RejectedExecutionException) {
+                            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(cause.getMessage());
+                        }
+                        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+                    })
+                    .thenAccept(result::setResult);
+        } catch (RejectedExecutionException e) {
+            result.setResult(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(e.getMessage()));
+        }
+        return result;
     }
 
 }
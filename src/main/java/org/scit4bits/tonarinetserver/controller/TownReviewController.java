@@ -220,6 +220,30 @@ public class TownReviewController {
         }
     }
 
+    /**
+     * 특정 동네 리뷰의 '좋아요'를 취소합니다.
+     * @param id '좋아요'를 취소할 리뷰 ID
+     * @param user 현재 로그인한 사용자 정보
+     * @return 업데이트된 리뷰 정보
+     */
+    @DeleteMapping("/{id}/like")
+    @Operation(summary = "동네 리뷰 '좋아요' 취소", security = @SecurityRequirement(name = "bearerAuth"))
+    public ResponseEntity<TownReviewResponseDTO> unlikeTownReview(
+            @PathVariable("id") Integer id,
+            @AuthenticationPrincipal User user) {
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        try {
+            TownReviewResponseDTO review = townReviewService.unlikeTownReview(id, user);
+            return ResponseEntity.ok(review);
+        } catch (RuntimeException e) {
+            log.error("Error unliking town review: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
     /**
      * 동네 리뷰를 검색합니다.
      * @param searchBy 검색 기준 (all, title, content, author)
@@ -0,0 +1,48 @@
+package org.scit4bits.tonarinetserver.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * AI 응답을 생성되는 대로 채팅방에 전송하기 위한 스트리밍 조각 DTO
+ * 클라이언트는 같은 streamId의 delta를 sequence 순서로 이어 붙여 표시하고,
+ * done이 true인 조각을 받으면 저장된 최종 메시지(messageId)로 교체합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "AI streaming response chunk DTO")
+public class AIStreamChunkDTO {
+
+    /** 일반 채팅 메시지와 구분하기 위한 프레임 타입 */
+    public static final String TYPE = "AI_STREAM";
+
+    @Schema(description = "Frame type", example = TYPE)
+    @Builder.Default
+    private String type = TYPE;
+
+    @Schema(description = "Stream ID (같은 응답의 조각은 같은 값)", example = "3f2b9c1e-...")
+    private String streamId;
+
+    @Schema(description = "Chat room ID", example = "1")
+    private Integer chatroomId;
+
+    @Schema(description = "Chunk sequence number (0부터 시작)", example = "0")
+    private Integer sequence;
+
+    @Schema(description = "이번 조각에서 추가된 텍스트", example = "안녕하세요")
+    private String delta;
+
+    @Schema(description = "마지막 조각 여부", example = "false")
+    private Boolean done;
+
+    @Schema(description = "저장된 최종 메시지 ID (done일 때만)", example = "123")
+    private Integer messageId;
+
+    @Schema(description = "오류 메시지 (생성 실패 시)")
+    private String error;
+}
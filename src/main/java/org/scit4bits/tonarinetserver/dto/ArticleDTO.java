@@ -56,8 +56,8 @@ public class ArticleDTO {
                 .files(article.getAttachments() != null
                         ? article.getAttachments().stream().map(FileAttachmentResponseDTO::fromEntity).toList()
                         : null)
-                .likedByUsers(article.getLikedByUsers() != null ? article.getLikedByUsers().size() : 0)
-                .replyCount(article.getReplies() != null ? article.getReplies().size() : 0)
+                .likedByUsers(article.getLikeCount() != null ? article.getLikeCount() : 0)
+                .replyCount(article.getReplyCount() != null ? article.getReplyCount() : 0)
                 .tags(article.getTags() != null ? article.getTags().stream().map(t -> t.getId().getTagName()).toList()
                         : null)
                 .build();
@@ -46,9 +46,6 @@ public class ChatMessageResponseDTO {
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime createdAt;
 
-    @Schema(description = "Whether the message is read", example = "false")
-    private Boolean isRead;
-
     @Schema(description = "Message type", example = "CHAT")
     private ChatMessageRequestDTO.MessageType type;
 
@@ -64,7 +61,6 @@ public class ChatMessageResponseDTO {
                 .senderId(chatMessage.getSenderId())
                 .message(chatMessage.getMessage())
                 .createdAt(chatMessage.getCreatedAt())
-                .isRead(chatMessage.getIsRead())
                 .type(ChatMessageRequestDTO.MessageType.CHAT); // Default to CHAT type
 
         // 발신자 사용자 정보가 있는 경우 추가
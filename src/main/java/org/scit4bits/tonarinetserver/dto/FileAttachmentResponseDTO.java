@@ -30,6 +30,7 @@ public class FileAttachmentResponseDTO {
     private Integer filesize;
     private Integer submissionId;
     private String submissionContents;
+    private String contentHash;
 
     /**
      * FileAttachment 엔티티를 FileAttachmentResponseDTO로 변환합니다.
@@ -54,6 +55,7 @@ public class FileAttachmentResponseDTO {
                 .submissionId(fileAttachment.getSubmissionId())
                 .submissionContents(fileAttachment.getSubmission() != null ?
                         fileAttachment.getSubmission().getContents() : null)
+                .contentHash(fileAttachment.getContentHash())
                 .build();
     }
 }
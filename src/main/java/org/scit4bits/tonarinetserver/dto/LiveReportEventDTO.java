@@ -0,0 +1,23 @@
+package org.scit4bits.tonarinetserver.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 실시간 제보 변경을 구독자에게 전달하기 위한 DTO
+ * /topic/livereport/{cell} 으로 발송됩니다.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class LiveReportEventDTO {
+    /** 변경 유형 (CREATED, UPDATED, DELETED, LIKED) */
+    private String type;
+    /** 셀 ID */
+    private String cell;
+    /** 제보 정보 */
+    private LiveReportResponseDTO report;
+}
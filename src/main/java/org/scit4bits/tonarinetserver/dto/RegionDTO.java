@@ -24,7 +24,7 @@ public class RegionDTO {
     private Double longitude;
     private Integer radius;
     private String countryName;
-    private Double distanceFromCenter; // 맨해튼 거리를 사용한 중심으로부터의 거리 (도 단위)
+    private Double distanceFromCenter; // 중심으로부터의 대원 거리 (위도 1도 길이 기준의 도 단위)
     private Double averageReviewScore; // 이 지역에 대한 모든 동네 리뷰의 평균 점수
     private Integer reviewsCount; // 이 지역에 대한 동네 리뷰의 총 개수
 
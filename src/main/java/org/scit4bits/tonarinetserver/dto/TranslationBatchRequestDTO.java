@@ -0,0 +1,20 @@
+package org.scit4bits.tonarinetserver.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 여러 텍스트의 일괄 번역 요청을 위한 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TranslationBatchRequestDTO {
+    private List<String> texts;
+    private String targetLanguage; // 예: "en", "ko", "ja"
+}
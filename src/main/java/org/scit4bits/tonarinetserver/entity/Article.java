@@ -17,6 +17,10 @@ import java.util.List;
  */
 @Entity
 @Table(name = "article")
+@NamedEntityGraph(name = "Article.listView", attributeNodes = {
+        @NamedAttributeNode("createdBy"),
+        @NamedAttributeNode("board")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -56,15 +60,25 @@ public class Article {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
-    /** 조회수 */
+    /** 조회수 (ArticleViewCountService가 일괄 UPDATE로만 변경) */
     @Builder.Default
-    @Column(name = "views", nullable = false)
+    @Column(name = "views", nullable = false, updatable = false)
     private Integer views = 0;
 
     /** 게시판 ID */
     @Column(name = "board_id", nullable = false)
     private Integer boardId;
 
+    /** 좋아요 수 (비정규화 카운터, 원자적 UPDATE 쿼리로만 변경) */
+    @Builder.Default
+    @Column(name = "like_count", nullable = false, updatable = false)
+    private Integer likeCount = 0;
+
+    /** 댓글 수 (비정규화 카운터, 원자적 UPDATE 쿼리로만 변경) */
+    @Builder.Default
+    @Column(name = "reply_count", nullable = false, updatable = false)
+    private Integer replyCount = 0;
+
     /** 작성자 */
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "created_by", insertable = false, updatable = false)
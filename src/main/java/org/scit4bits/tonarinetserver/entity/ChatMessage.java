@@ -41,11 +41,6 @@ public class ChatMessage {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
-    /** 읽음 여부 */
-    @Builder.Default
-    @Column(name = "is_read", nullable = false)
-    private Boolean isRead = false;
-
     /** 채팅방 ID */
     @Column(name = "chatroom_id", nullable = false)
     private Integer chatroomId;
@@ -66,6 +66,10 @@ public class FileAttachment {
     @Column(name = "submission_id")
     private Integer submissionId;
 
+    /** 파일 내용의 SHA-256 해시 (16진수, 업로드 시 계산) */
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     /** 업로드한 사용자 */
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "uploaded_by", insertable = false, updatable = false)
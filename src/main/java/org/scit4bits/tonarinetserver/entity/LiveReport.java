@@ -32,9 +32,9 @@ public class LiveReport {
     @Column(name = "contents", nullable = false, columnDefinition = "TEXT")
     private String contents;
 
-    /** 좋아요 수 */
+    /** 좋아요 수 (LikeCounterBuffer가 일괄 UPDATE로만 변경) */
     @Builder.Default
-    @Column(name = "like_count", nullable = false)
+    @Column(name = "like_count", nullable = false, updatable = false)
     private Integer likeCount = 0;
 
     /** 생성일 */
@@ -42,6 +42,10 @@ public class LiveReport {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
+    /** 수정일 (좋아요 수 반영을 포함해 행이 바뀔 때 DB가 갱신) */
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+
     /** 작성자 ID */
     @Column(name = "created_by", nullable = false)
     private Integer createdById;
@@ -0,0 +1,31 @@
+package org.scit4bits.tonarinetserver.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제 대기 중인 저장소 파일 엔티티
+ * 참조가 0이 된 파일은 바로 지우지 않고 이 테이블에 기록한 뒤, 유예 시간이 지나도 여전히 참조되지 않으면 삭제합니다.
+ */
+@Entity
+@Table(name = "orphanblob")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrphanBlob {
+
+    /** 파일 내용 해시 (SHA-256 hex) */
+    @Id
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    /** 참조가 0이 된 시간 */
+    @Column(name = "orphaned_at", insertable = false, updatable = false)
+    private LocalDateTime orphanedAt;
+}
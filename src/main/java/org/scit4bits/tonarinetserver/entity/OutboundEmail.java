@@ -0,0 +1,82 @@
+package org.scit4bits.tonarinetserver.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발송 대기 이메일 엔티티
+ * 이메일은 요청 스레드에서 바로 보내지 않고 이 테이블에 저장된 뒤 EmailDeliveryWorker가 발송합니다.
+ */
+@Entity
+@Table(name = "outboundemail")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class OutboundEmail {
+
+    /** 이메일 ID */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Integer id;
+
+    /** 언어 코드 */
+    @Column(name = "lang", length = 10)
+    private String lang;
+
+    /** 수신자 이메일 주소 */
+    @Column(name = "recipient", nullable = false, length = 320)
+    private String recipient;
+
+    /** 제목 */
+    @Column(name = "subject", nullable = false, columnDefinition = "TEXT")
+    private String subject;
+
+    /** 본문 (HTML) */
+    @Column(name = "body", nullable = false, columnDefinition = "MEDIUMTEXT")
+    private String body;
+
+    /** 발송 상태 */
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private Status status = Status.PENDING;
+
+    /** 발송 시도 횟수 */
+    @Builder.Default
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    /** 다음 발송 시도 시간 (SENDING 상태에서는 작업 점유 만료 시간) */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /** 마지막 발송 실패 사유 */
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    /** 생성일 */
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /** 발송 완료 시간 */
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    /**
+     * 발송 상태를 정의하는 열거형
+     */
+    public enum Status {
+        PENDING, SENDING, SENT, FAILED
+    }
+}
@@ -0,0 +1,67 @@
+package org.scit4bits.tonarinetserver.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 지역별 동네 리뷰 집계 엔티티
+ * 리뷰 수와 항목별 점수 합계를 저장하여 지역 평균 점수를 리뷰를 읽지 않고 계산할 수 있도록 합니다.
+ */
+@Entity
+@Table(name = "regionreviewstats")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RegionReviewStats {
+
+    /** 지역 ID */
+    @Id
+    @Column(name = "region_id")
+    private Integer regionId;
+
+    /** 리뷰 수 */
+    @Column(name = "review_count", nullable = false)
+    private Integer reviewCount;
+
+    /** 교통 점수 합계 */
+    @Column(name = "transportation_sum", nullable = false)
+    private Long transportationSum;
+
+    /** 치안 점수 합계 */
+    @Column(name = "safety_sum", nullable = false)
+    private Long safetySum;
+
+    /** 인프라 점수 합계 */
+    @Column(name = "infra_sum", nullable = false)
+    private Long infraSum;
+
+    /** 인구 점수 합계 */
+    @Column(name = "population_sum", nullable = false)
+    private Long populationSum;
+
+    /** 교육 점수 합계 */
+    @Column(name = "education_sum", nullable = false)
+    private Long educationSum;
+
+    /** 수정일 */
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * 모든 리뷰의 다섯 항목 평균 점수를 계산합니다.
+     * @return 평균 점수 (리뷰가 없으면 0.0)
+     */
+    public double getAverageScore() {
+        if (reviewCount == null || reviewCount <= 0) {
+            return 0.0;
+        }
+        long total = transportationSum + safetySum + infraSum + populationSum + educationSum;
+        return total / (5.0 * reviewCount);
+    }
+}
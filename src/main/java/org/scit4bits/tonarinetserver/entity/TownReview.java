@@ -69,9 +69,9 @@ public class TownReview {
     @Column(name = "country_code", length = 5, nullable = false)
     private String countryCode;
 
-    /** 좋아요 수 */
+    /** 좋아요 수 (LikeCounterBuffer가 일괄 UPDATE로만 변경) */
     @Builder.Default
-    @Column(name = "like_count", nullable = false)
+    @Column(name = "like_count", nullable = false, updatable = false)
     private Integer likeCount = 0;
 
     /** 작성자 */
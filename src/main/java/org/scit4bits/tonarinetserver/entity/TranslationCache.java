@@ -0,0 +1,57 @@
+package org.scit4bits.tonarinetserver.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 번역 결과 캐시 엔티티
+ * 원문 해시와 대상 언어별로 번역 결과를 저장하여 같은 텍스트를 다시 번역하지 않도록 합니다.
+ */
+@Entity
+@Table(name = "translationcache")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TranslationCache {
+
+    /** 복합 키 */
+    @EmbeddedId
+    private TranslationCacheId id;
+
+    /** 번역된 텍스트 */
+    @Column(name = "translated_text", nullable = false, columnDefinition = "TEXT")
+    private String translatedText;
+
+    /** 감지된 원문 언어 */
+    @Column(name = "source_language", length = 10)
+    private String sourceLanguage;
+
+    /** 생성 시간 */
+    @Column(name = "created_at", insertable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 번역 캐시 복합 키 클래스
+     */
+    @Embeddable
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class TranslationCacheId {
+
+        /** 원문의 SHA-256 해시 */
+        @Column(name = "text_hash", columnDefinition = "CHAR(64)")
+        private String textHash;
+
+        /** 대상 언어 코드 */
+        @Column(name = "target_language", length = 10)
+        private String targetLanguage;
+    }
+}
@@ -33,6 +33,11 @@ public class UserChatRoom {
     @JoinColumn(name = "chatroom_id")
     private ChatRoom chatroom;
 
+    /** 마지막으로 읽은 메시지 ID (이 ID 이하의 메시지는 읽은 것으로 간주) */
+    @Builder.Default
+    @Column(name = "last_read_message_id", nullable = false, updatable = false)
+    private Integer lastReadMessageId = 0;
+
     /**
      * 사용자-채팅방 ID 복합 키 클래스
      */
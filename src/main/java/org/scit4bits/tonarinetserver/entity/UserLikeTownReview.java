@@ -0,0 +1,43 @@
+package org.scit4bits.tonarinetserver.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자-동네 리뷰 좋아요 엔티티
+ * 사용자당 리뷰 하나에 한 번만 좋아요를 누를 수 있도록 기록합니다.
+ */
+@Entity
+@Table(name = "userliketownreview")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserLikeTownReview {
+
+    /** 복합 키 */
+    @EmbeddedId
+    private UserLikeTownReviewId id;
+
+    /**
+     * 사용자-동네 리뷰 좋아요 ID 복합 키 클래스
+     */
+    @Embeddable
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class UserLikeTownReviewId {
+
+        /** 사용자 ID */
+        @Column(name = "user_id")
+        private Integer userId;
+
+        /** 동네 리뷰 ID */
+        @Column(name = "townreview_id")
+        private Integer townReviewId;
+    }
+}
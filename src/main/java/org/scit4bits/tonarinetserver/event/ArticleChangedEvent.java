@@ -0,0 +1,36 @@
+package org.scit4bits.tonarinetserver.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 게시글이 생성/수정/삭제되었음을 알리는 애플리케이션 이벤트
+ * 트랜잭션 커밋 이후 검색 색인 갱신, 알림 발송 등 후속 처리에 사용됩니다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class ArticleChangedEvent {
+
+    /** 게시글 ID */
+    private final Integer articleId;
+
+    /** 게시판 ID */
+    private final Integer boardId;
+
+    /** 변경 유형 */
+    private final ChangeType changeType;
+
+    /**
+     * 게시글 변경 유형 열거형
+     */
+    public enum ChangeType {
+        /** 생성 */
+        CREATED,
+        /** 수정 */
+        UPDATED,
+        /** 삭제 */
+        DELETED
+    }
+}
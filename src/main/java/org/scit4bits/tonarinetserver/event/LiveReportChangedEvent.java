@@ -0,0 +1,36 @@
+package org.scit4bits.tonarinetserver.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import org.scit4bits.tonarinetserver.dto.LiveReportResponseDTO;
+
+/**
+ * 실시간 제보가 생성/수정/삭제되었거나 좋아요 수가 바뀌었음을 알리는 애플리케이션 이벤트
+ * 트랜잭션 커밋 이후 메모리 공간 인덱스 갱신과 구독자 알림에 사용됩니다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class LiveReportChangedEvent {
+
+    /** 변경 후 제보 정보 (삭제된 경우 삭제 직전 정보) */
+    private final LiveReportResponseDTO report;
+
+    /** 변경 유형 */
+    private final ChangeType changeType;
+
+    /**
+     * 실시간 제보 변경 유형 열거형
+     */
+    public enum ChangeType {
+        /** 생성 */
+        CREATED,
+        /** 수정 */
+        UPDATED,
+        /** 삭제 */
+        DELETED,
+        /** 좋아요 수 변경 */
+        LIKED
+    }
+}
@@ -3,11 +3,17 @@ package org.scit4bits.tonarinetserver.repository;
 import org.scit4bits.tonarinetserver.entity.Article;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -38,6 +44,14 @@ public interface ArticleRepository extends JpaRepository<Article, Integer> {
      */
     Page<Article> findById(Integer id, Pageable pageable);
 
+    /**
+     * ID 목록에 해당하는 게시글을 작성자/게시판 정보와 함께 조회합니다.
+     * @param ids 게시글 ID 목록
+     * @return 게시글 리스트 (순서는 보장되지 않음)
+     */
+    @EntityGraph("Article.listView")
+    List<Article> findByIdIn(Collection<Integer> ids);
+
     /**
      * 제목에 특정 문자열을 포함하는 게시글을 페이징하여 조회합니다. (대소문자 무시)
      * @param title 검색할 제목 문자열
@@ -85,6 +99,7 @@ public interface ArticleRepository extends JpaRepository<Article, Integer> {
      * @param pageable 페이징 정보
      * @return 페이징된 게시글
      */
+    @EntityGraph("Article.listView")
     Page<Article> findByBoardIdAndCategoryNot(Integer boardId, String category, Pageable pageable);
 
 
@@ -101,6 +116,7 @@ public interface ArticleRepository extends JpaRepository<Article, Integer> {
      * @param category 제외할 카테고리
      * @return 최신순으로 정렬된 게시글 리스트
      */
+    @EntityGraph("Article.listView")
     List<Article> findByBoardIdAndCategoryNotOrderByCreatedAtDesc(Integer boardId, String category);
 
     /**
@@ -135,6 +151,7 @@ public interface ArticleRepository extends JpaRepository<Article, Integer> {
      * @param pageable 페이징 정보
      * @return 페이징된 게시글
      */
+    @EntityGraph("Article.listView")
     @Query("SELECT a FROM Article a WHERE a.boardId = :boardId AND a.category != 'counsel' AND (" +
             "LOWER(a.title) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
             "LOWER(a.contents) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
@@ -158,6 +175,7 @@ public interface ArticleRepository extends JpaRepository<Article, Integer> {
      * @param pageable 페이징 정보
      * @return 페이징된 게시글
      */
+    @EntityGraph("Article.listView")
     Page<Article> findByBoardIdAndTitleContainingIgnoreCaseAndCategoryNot(Integer boardId, String title, String category, Pageable pageable);
 
     /**
@@ -177,6 +195,7 @@ public interface ArticleRepository extends JpaRepository<Article, Integer> {
      * @param pageable 페이징 정보
      * @return 페이징된 게시글
      */
+    @EntityGraph("Article.listView")
     Page<Article> findByBoardIdAndContentsContainingIgnoreCaseAndCategoryNot(Integer boardId, String contents, String category, Pageable pageable);
 
     /**
@@ -196,6 +215,7 @@ public interface ArticleRepository extends JpaRepository<Article, Integer> {
      * @param pageable 페이징 정보
      * @return 페이징된 게시글
      */
+    @EntityGraph("Article.listView")
     Page<Article> findByBoardIdAndCategoryContainingIgnoreCaseAndCategoryNot(Integer boardId, String categorySearch, String excludeCategory, Pageable pageable);
 
     /**
@@ -215,6 +235,7 @@ public interface ArticleRepository extends JpaRepository<Article, Integer> {
      * @param pageable 페이징 정보
      * @return 페이징된 게시글
      */
+    @EntityGraph("Article.listView")
     Page<Article> findByBoardIdAndCreatedByIdAndCategoryNot(Integer boardId, Integer createdById, String category, Pageable pageable);
 
     /**
@@ -224,7 +245,8 @@ public interface ArticleRepository extends JpaRepository<Article, Integer> {
      * @param pageable 페이징 정보
      * @return 페이징된 게시글
      */
-    @Query("SELECT a FROM Article a WHERE a.boardId = :boardId AND a.category != :category AND SIZE(a.likedByUsers) >= 5")
+    @EntityGraph("Article.listView")
+    @Query("SELECT a FROM Article a WHERE a.boardId = :boardId AND a.category != :category AND a.likeCount >= 5")
     Page<Article> findByBoardIdAndCategoryNotAndLikedByUsersCountGreaterThanEqual(@Param("boardId") Integer boardId, @Param("category") String category, Pageable pageable);
 
     /**
@@ -233,18 +255,17 @@ public interface ArticleRepository extends JpaRepository<Article, Integer> {
      * @param category 제외할 카테고리
      * @return 게시글 리스트
      */
-    @Query("SELECT a FROM Article a WHERE a.boardId = :boardId AND a.category != :category AND SIZE(a.likedByUsers) >= 10 ORDER BY a.createdAt DESC")
+    @Query("SELECT a FROM Article a WHERE a.boardId = :boardId AND a.category != :category AND a.likeCount >= 10 ORDER BY a.createdAt DESC")
     List<Article> findByBoardIdAndCategoryNotAndLikedByUsersCountGreaterThanEqualOrderByCreatedAtDesc(@Param("boardId") Integer boardId, @Param("category") String category);
 
     /**
-     * JOIN과 COUNT를 사용하여 성능을 개선한, 특정 카테고리를 제외하고 특정 게시판에서 좋아요가 10개 이상인 게시글을 페이징하여 조회합니다.
+     * 비정규화된 좋아요 카운터를 사용하여, 특정 카테고리를 제외하고 특정 게시판에서 좋아요가 10개 이상인 게시글을 페이징하여 조회합니다.
      * @param boardId 게시판 ID
      * @param category 제외할 카테고리
      * @param pageable 페이징 정보
      * @return 페이징된 게시글
      */
-    @Query("SELECT a FROM Article a WHERE a.boardId = :boardId AND a.category != :category AND " +
-            "(SELECT COUNT(ula) FROM UserLikeArticle ula WHERE ula.article = a) >= 10")
+    @Query("SELECT a FROM Article a WHERE a.boardId = :boardId AND a.category != :category AND a.likeCount >= 10")
     Page<Article> findByBoardIdAndCategoryNotWithLikeCountGreaterThanEqual(@Param("boardId") Integer boardId, @Param("category") String category, Pageable pageable);
 
     /**
@@ -254,6 +275,7 @@ public interface ArticleRepository extends JpaRepository<Article, Integer> {
      * @param pageable 페이징 정보
      * @return 페이징된 게시글
      */
+    @EntityGraph("Article.listView")
     Page<Article> findByBoardIdAndCategory(Integer boardId, String category, Pageable pageable);
 
     /**
@@ -264,6 +286,7 @@ public interface ArticleRepository extends JpaRepository<Article, Integer> {
      * @param pageable 페이징 정보
      * @return 페이징된 게시글
      */
+    @EntityGraph("Article.listView")
     Page<Article> findByBoardIdAndCategoryAndTitleContainingIgnoreCase(Integer boardId, String category, String title, Pageable pageable);
 
     /**
@@ -274,6 +297,7 @@ public interface ArticleRepository extends JpaRepository<Article, Integer> {
      * @param pageable 페이징 정보
      * @return 페이징된 게시글
      */
+    @EntityGraph("Article.listView")
     Page<Article> findByBoardIdAndCategoryAndContentsContainingIgnoreCase(Integer boardId, String category, String contents, Pageable pageable);
 
     /**
@@ -284,6 +308,7 @@ public interface ArticleRepository extends JpaRepository<Article, Integer> {
      * @param pageable 페이징 정보
      * @return 페이징된 게시글
      */
+    @EntityGraph("Article.listView")
     Page<Article> findByBoardIdAndCategoryAndCreatedById(Integer boardId, String category, Integer createdById, Pageable pageable);
 
     /**
@@ -294,8 +319,62 @@ public interface ArticleRepository extends JpaRepository<Article, Integer> {
      * @param pageable 페이징 정보
      * @return 페이징된 게시글
      */
+    @EntityGraph("Article.listView")
     @Query("SELECT a FROM Article a WHERE a.boardId = :boardId AND a.category = :category AND (" +
             "LOWER(a.title) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
             "LOWER(a.contents) LIKE LOWER(CONCAT('%', :search, '%')))")
     Page<Article> findByBoardIdAndCategoryAndAllFieldsContaining(@Param("boardId") Integer boardId, @Param("category") String category, @Param("search") String search, Pageable pageable);
+
+    /**
+     * 게시글의 좋아요 수를 원자적으로 증감합니다.
+     * 카운터 변경은 게시글 수정이 아니므로 수정일(updated_at)은 그대로 둡니다.
+     * @param articleId 게시글 ID
+     * @param delta 증감량 (+1 또는 -1)
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Article a SET a.likeCount = a.likeCount + :delta, a.updatedAt = a.updatedAt WHERE a.id = :articleId")
+    int adjustLikeCount(@Param("articleId") Integer articleId, @Param("delta") int delta);
+
+    /**
+     * 게시글의 댓글 수를 원자적으로 증감합니다.
+     * 카운터 변경은 게시글 수정이 아니므로 수정일(updated_at)은 그대로 둡니다.
+     * @param articleId 게시글 ID
+     * @param delta 증감량 (+1 또는 -1)
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Article a SET a.replyCount = a.replyCount + :delta, a.updatedAt = a.updatedAt WHERE a.id = :articleId")
+    int adjustReplyCount(@Param("articleId") Integer articleId, @Param("delta") int delta);
+
+    /**
+     * 실제 좋아요/댓글 테이블을 기준으로 어긋난 카운터를 재계산합니다.
+     * 카운터 변경은 게시글 수정이 아니므로 수정일(updated_at)은 그대로 둡니다.
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE article a " +
+            "LEFT JOIN (SELECT article_id, COUNT(*) AS cnt FROM userlikearticle GROUP BY article_id) l ON l.article_id = a.id " +
+            "LEFT JOIN (SELECT article_id, COUNT(*) AS cnt FROM reply GROUP BY article_id) r ON r.article_id = a.id " +
+            "SET a.like_count = COALESCE(l.cnt, 0), a.reply_count = COALESCE(r.cnt, 0), a.updated_at = a.updated_at " +
+            "WHERE a.like_count <> COALESCE(l.cnt, 0) OR a.reply_count <> COALESCE(r.cnt, 0)", nativeQuery = true)
+    int rebuildCounters();
+
+    /**
+     * 특정 시간 이후에 수정된 게시글을 조회합니다. (검색 색인 증분 동기화용)
+     * @param since 기준 시간 (이 시간 이후 수정분 포함)
+     * @param pageable 페이징 정보
+     * @return 게시글 슬라이스
+     */
+    Slice<Article> findByUpdatedAtGreaterThanEqual(LocalDateTime since, Pageable pageable);
+
+    /**
+     * 모든 게시글 ID를 조회합니다. (검색 색인과 DB의 게시글 목록 대조용)
+     * @return 게시글 ID 리스트
+     */
+    @Query("SELECT a.id FROM Article a")
+    List<Integer> findAllIds();
 }
@@ -3,6 +3,7 @@ package org.scit4bits.tonarinetserver.repository;
 import org.scit4bits.tonarinetserver.entity.ChatMessage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -31,14 +32,6 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Intege
      */
     Page<ChatMessage> findByChatroomIdOrderByCreatedAtDesc(Integer chatroomId, Pageable pageable);
 
-    /**
-     * 특정 채팅방의 읽지 않은 메시지를 조회합니다.
-     * (사용자별 읽음 상태를 추적하려면 추가 구현이 필요합니다.)
-     * @param chatroomId 채팅방 ID
-     * @return 읽지 않은 메시지 리스트
-     */
-    List<ChatMessage> findByChatroomIdAndIsReadFalse(Integer chatroomId);
-
     /**
      * 특정 채팅방의 메시지 수를 계산합니다.
      * @param chatroomId 채팅방 ID
@@ -47,12 +40,26 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Intege
     Long countByChatroomId(Integer chatroomId);
 
     /**
-     * 특정 발신자를 제외하고 특정 채팅방의 읽지 않은 메시지 수를 계산합니다.
+     * 특정 채팅방의 가장 최근 메시지 ID를 조회합니다.
+     * 새로 참여한 사용자의 읽음 위치 설정과 캐시된 AI 대화 기록의 최신 여부 확인에 사용합니다.
      * @param chatroomId 채팅방 ID
-     * @param senderId 제외할 발신자 ID
-     * @return 읽지 않은 메시지 수
+     * @return 가장 최근 메시지 ID (메시지가 없으면 0)
+     */
+    @Query("SELECT COALESCE(MAX(m.id), 0) FROM ChatMessage m WHERE m.chatroomId = :chatroomId")
+    Integer findLatestMessageId(@Param("chatroomId") Integer chatroomId);
+
+    /**
+     * 사용자가 참여한 모든 채팅방의 읽지 않은 메시지 수를 한 번의 쿼리로 계산합니다.
+     * 사용자의 읽음 위치(lastReadMessageId) 이후에 다른 사용자가 보낸 메시지만 집계하며,
+     * 읽지 않은 메시지가 없는 채팅방은 결과에 포함되지 않습니다.
+     * @param userId 사용자 ID
+     * @return [채팅방 ID, 읽지 않은 메시지 수] 배열의 리스트
      */
-    Long countByChatroomIdAndIsReadFalseAndSenderIdNot(Integer chatroomId, Integer senderId);
+    @Query("SELECT m.chatroomId, COUNT(m) FROM UserChatRoom ucr " +
+            "JOIN ChatMessage m ON m.chatroomId = ucr.id.chatroomId " +
+            "WHERE ucr.id.userId = :userId AND m.id > ucr.lastReadMessageId AND m.senderId <> :userId " +
+            "GROUP BY m.chatroomId")
+    List<Object[]> countUnreadMessagesGroupByChatroom(@Param("userId") Integer userId);
 
     /**
      * 특정 채팅방의 최근 메시지를 조회합니다. (초기 로딩에 유용)
@@ -62,4 +69,34 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Intege
      */
     @Query("SELECT cm FROM ChatMessage cm WHERE cm.chatroomId = :chatroomId ORDER BY cm.createdAt DESC")
     List<ChatMessage> findRecentMessagesByChatroomId(@Param("chatroomId") Integer chatroomId, Pageable pageable);
+
+    /**
+     * 특정 채팅방에서 기준 메시지 ID보다 이전(작은 ID)의 메시지를 최신순으로 조회합니다. (키셋 페이징)
+     * (chatroom_id, id) 인덱스를 사용하므로 스크롤 깊이와 관계없이 일정한 비용으로 조회됩니다.
+     * @param chatroomId 채팅방 ID
+     * @param id 기준 메시지 ID (이 ID는 포함하지 않음)
+     * @param pageable 조회할 메시지 수 (페이지 번호는 항상 0)
+     * @return 메시지 리스트 (ID 내림차순)
+     */
+    @EntityGraph(attributePaths = "sender")
+    List<ChatMessage> findByChatroomIdAndIdLessThanOrderByIdDesc(Integer chatroomId, Integer id, Pageable pageable);
+
+    /**
+     * 특정 채팅방에서 기준 메시지 ID보다 이후(큰 ID)의 메시지를 오래된 순으로 조회합니다. (키셋 페이징)
+     * @param chatroomId 채팅방 ID
+     * @param id 기준 메시지 ID (이 ID는 포함하지 않음)
+     * @param pageable 조회할 메시지 수 (페이지 번호는 항상 0)
+     * @return 메시지 리스트 (ID 오름차순)
+     */
+    @EntityGraph(attributePaths = "sender")
+    List<ChatMessage> findByChatroomIdAndIdGreaterThanOrderByIdAsc(Integer chatroomId, Integer id, Pageable pageable);
+
+    /**
+     * 특정 채팅방의 가장 최근 메시지를 최신순으로 조회합니다. (키셋 페이징의 첫 페이지)
+     * @param chatroomId 채팅방 ID
+     * @param pageable 조회할 메시지 수 (페이지 번호는 항상 0)
+     * @return 메시지 리스트 (ID 내림차순)
+     */
+    @EntityGraph(attributePaths = "sender")
+    List<ChatMessage> findByChatroomIdOrderByIdDesc(Integer chatroomId, Pageable pageable);
 }
@@ -17,6 +17,13 @@ import java.util.List;
 @Repository
 public interface FileAttachmentRepository extends JpaRepository<FileAttachment, Integer> {
 
+    /**
+     * 같은 내용(해시)의 파일을 참조하는 파일 첨부 수를 계산합니다. (저장된 파일의 참조 수)
+     * @param contentHash 파일 내용의 SHA-256 해시
+     * @return 참조 수
+     */
+    long countByContentHash(String contentHash);
+
     /**
      * 특정 게시글 ID에 해당하는 모든 파일 첨부를 조회합니다.
      * @param articleId 게시글 ID
@@ -3,11 +3,13 @@ package org.scit4bits.tonarinetserver.repository;
 import org.scit4bits.tonarinetserver.entity.LiveReport;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -56,18 +58,48 @@ public interface LiveReportRepository extends JpaRepository<LiveReport, Integer>
     Page<LiveReport> findByLikeCountBetween(Integer minLikes, Integer maxLikes, Pageable pageable);
 
     /**
-     * 특정 위치 근처의 오늘 작성된 실시간 제보를 좋아요 순으로 조회합니다.
-     * @param longitude 경도
-     * @param latitude 위도
-     * @param range 검색 범위
+     * 기준 시간 이후 작성된 실시간 제보를 작성자와 함께 조회합니다.
+     * @param since 기준 시간
+     * @return 실시간 제보 리스트
+     */
+    @EntityGraph(attributePaths = "createdBy")
+    List<LiveReport> findByCreatedAtGreaterThanEqual(LocalDateTime since);
+
+    /**
+     * 기준 시간 이후 작성되거나 수정된 실시간 제보를 작성자와 함께 조회합니다.
+     * @param since 기준 시간
+     * @return 실시간 제보 리스트
+     */
+    @EntityGraph(attributePaths = "createdBy")
+    List<LiveReport> findByUpdatedAtGreaterThanEqual(LocalDateTime since);
+
+    /**
+     * 특정 위치에서 반경 안에 있는, 기준 시간 이후 작성된 실시간 제보를 좋아요 순으로 조회합니다.
+     * 경계 상자(MBRContains)로 location 컬럼의 공간 인덱스를 사용해 후보를 좁힌 뒤
+     * ST_Distance_Sphere로 실제 거리를 계산하여 반경 밖의 제보를 제외합니다.
+     * @param longitude 중심 경도
+     * @param latitude 중심 위도
+     * @param minLongitude 경계 상자의 최소 경도
+     * @param minLatitude 경계 상자의 최소 위도
+     * @param maxLongitude 경계 상자의 최대 경도
+     * @param maxLatitude 경계 상자의 최대 위도
+     * @param radiusMeters 검색 반경 (m)
+     * @param since 기준 시간 (이 시간 이후 작성된 제보만 조회)
      * @return 근처의 실시간 제보 리스트
      */
-    @Query("SELECT lr FROM LiveReport lr WHERE " +
-            "ABS(lr.longitude - :longitude) <= :range AND " +
-            "ABS(lr.latitude - :latitude) <= :range AND " +
-            "DATE(lr.createdAt) = CURRENT_DATE " +
-            "ORDER BY lr.likeCount DESC")
-    List<LiveReport> findByLocationRange(@Param("longitude") Double longitude, @Param("latitude") Double latitude, @Param("range") Double range);
+    @Query(value = "SELECT lr.* FROM livereport lr " +
+            "WHERE MBRContains(ST_MakeEnvelope(POINT(:minLongitude, :minLatitude), POINT(:maxLongitude, :maxLatitude)), lr.location) " +
+            "AND ST_Distance_Sphere(lr.location, POINT(:longitude, :latitude)) <= :radiusMeters " +
+            "AND lr.created_at >= :since " +
+            "ORDER BY lr.like_count DESC", nativeQuery = true)
+    List<LiveReport> findWithinRadius(@Param("longitude") double longitude,
+                                      @Param("latitude") double latitude,
+                                      @Param("minLongitude") double minLongitude,
+                                      @Param("minLatitude") double minLatitude,
+                                      @Param("maxLongitude") double maxLongitude,
+                                      @Param("maxLatitude") double maxLatitude,
+                                      @Param("radiusMeters") double radiusMeters,
+                                      @Param("since") LocalDateTime since);
 
     /**
      * 모든 필드(내용)에서 검색어와 일치하는 실시간 제보를 페이징하여 조회합니다.
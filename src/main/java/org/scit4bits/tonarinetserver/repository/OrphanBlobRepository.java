@@ -0,0 +1,47 @@
+package org.scit4bits.tonarinetserver.repository;
+
+import org.scit4bits.tonarinetserver.entity.OrphanBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 삭제 대기 중인 저장소 파일(OrphanBlob) 엔티티에 대한 데이터 액세스 작업을 처리하는 리포지토리
+ */
+@Repository
+public interface OrphanBlobRepository extends JpaRepository<OrphanBlob, String> {
+
+    /**
+     * 파일을 삭제 대기 목록에 올립니다. 이미 있으면 유예 시간을 지금부터 다시 계산합니다.
+     * @param contentHash 파일 내용 해시
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO orphanblob (content_hash, orphaned_at) VALUES (:contentHash, NOW()) " +
+            "ON DUPLICATE KEY UPDATE orphaned_at = NOW()", nativeQuery = true)
+    int markOrphaned(@Param("contentHash") String contentHash);
+
+    /**
+     * 파일을 삭제 대기 목록에서 뺍니다. 삭제 작업이 같은 행을 잠그고 있으면 그 작업이 끝날 때까지 기다립니다.
+     * @param contentHash 파일 내용 해시
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query(value = "DELETE FROM orphanblob WHERE content_hash = :contentHash", nativeQuery = true)
+    int unmark(@Param("contentHash") String contentHash);
+
+    /**
+     * 유예 시간이 지난 삭제 대기 파일을 잠그고 조회합니다. 다른 서버 인스턴스가 잠근 행은 건너뜁니다.
+     * @param orphanedBefore 이 시간 이전에 참조가 0이 된 파일만 조회
+     * @param limit 최대 조회 수
+     * @return 파일 내용 해시 리스트
+     */
+    @Query(value = "SELECT content_hash FROM orphanblob WHERE orphaned_at < :orphanedBefore " +
+            "ORDER BY orphaned_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<String> findDueForUpdate(@Param("orphanedBefore") LocalDateTime orphanedBefore, @Param("limit") int limit);
+}
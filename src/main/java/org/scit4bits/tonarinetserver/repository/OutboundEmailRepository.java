@@ -0,0 +1,72 @@
+package org.scit4bits.tonarinetserver.repository;
+
+import org.scit4bits.tonarinetserver.entity.OutboundEmail;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 발송 대기 이메일(OutboundEmail) 엔티티에 대한 데이터 액세스 작업을 처리하는 리포지토리
+ */
+@Repository
+public interface OutboundEmailRepository extends JpaRepository<OutboundEmail, Integer> {
+
+    /**
+     * 발송 시간이 된 이메일을 행 잠금과 함께 조회합니다.
+     * 점유 만료 시간이 지난 SENDING 이메일(발송 중 서버가 종료된 경우)도 다시 가져오며,
+     * 다른 워커나 서버가 잠근 행은 건너뛰므로 여러 인스턴스가 같은 이메일을 중복 발송하지 않습니다.
+     * @param now 기준 시간
+     * @param limit 최대 조회 수
+     * @return 발송할 이메일 리스트
+     */
+    @Query(value = "SELECT * FROM outboundemail " +
+            "WHERE status IN ('PENDING', 'SENDING') AND next_attempt_at <= :now " +
+            "ORDER BY next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboundEmail> findDueForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 발송 결과를 기록합니다. 이 워커가 점유한 뒤로 다른 워커가 다시 점유하지 않은 경우에만 반영되며,
+     * 점유 시간이 지나 다른 워커가 가져간 이메일은 그 워커의 상태를 덮어쓰지 않습니다.
+     * @param id 이메일 ID
+     * @param attempts 점유 시점의 시도 횟수
+     * @param status 새 발송 상태
+     * @param nextAttemptAt 다음 발송 시도 시간
+     * @param lastError 마지막 실패 사유
+     * @param sentAt 발송 완료 시간
+     * @return 변경된 행 수 (다른 워커가 다시 점유했으면 0)
+     */
+    @Modifying
+    @Query(value = "UPDATE outboundemail SET status = :status, next_attempt_at = :nextAttemptAt, " +
+            "last_error = :lastError, sent_at = :sentAt " +
+            "WHERE id = :id AND status = 'SENDING' AND attempts = :attempts", nativeQuery = true)
+    int recordOutcome(@Param("id") Integer id,
+                      @Param("attempts") int attempts,
+                      @Param("status") String status,
+                      @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                      @Param("lastError") String lastError,
+                      @Param("sentAt") LocalDateTime sentAt);
+
+    /**
+     * 특정 상태의 이메일 수를 계산합니다.
+     * @param status 발송 상태
+     * @return 이메일 수
+     */
+    long countByStatus(OutboundEmail.Status status);
+
+    /**
+     * 발송 완료 후 보관 기간이 지난 이메일을 삭제합니다.
+     * @param before 기준 시간
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM OutboundEmail e WHERE e.status = org.scit4bits.tonarinetserver.entity.OutboundEmail.Status.SENT " +
+            "AND e.sentAt < :before")
+    int deleteSentBefore(@Param("before") LocalDateTime before);
+}
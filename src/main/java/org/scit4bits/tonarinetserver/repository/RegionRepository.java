@@ -50,4 +50,13 @@ public interface RegionRepository extends JpaRepository<Region, Integer> {
                                                    @Param("longitude") Double longitude,
                                                    @Param("radiusKm") Double radiusKm,
                                                    @Param("countryCode") String countryCode);
+
+    /**
+     * 좌표가 있는 모든 지역을 국가 정보와 함께 조회합니다. (메모리 공간 인덱스 적재용)
+     * @return 좌표가 있는 지역 리스트
+     */
+    @Query("SELECT r FROM Region r LEFT JOIN FETCH r.country " +
+            "WHERE r.latitude IS NOT NULL " +
+            "AND r.longitude IS NOT NULL")
+    List<Region> findAllWithCoordinates();
 }
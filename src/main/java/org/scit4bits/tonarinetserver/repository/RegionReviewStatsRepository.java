@@ -0,0 +1,78 @@
+package org.scit4bits.tonarinetserver.repository;
+
+import org.scit4bits.tonarinetserver.entity.RegionReviewStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 지역별 동네 리뷰 집계(RegionReviewStats) 엔티티에 대한 데이터 액세스 작업을 처리하는 리포지토리
+ */
+@Repository
+public interface RegionReviewStatsRepository extends JpaRepository<RegionReviewStats, Integer> {
+
+    /**
+     * 지역의 리뷰 집계에 증감분을 원자적으로 더합니다. 집계 행이 없으면 새로 만듭니다.
+     * @param regionId 지역 ID
+     * @param countDelta 리뷰 수 증감분
+     * @param transportation 교통 점수 증감분
+     * @param safety 치안 점수 증감분
+     * @param infra 인프라 점수 증감분
+     * @param population 인구 점수 증감분
+     * @param education 교육 점수 증감분
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO regionreviewstats " +
+            "(region_id, review_count, transportation_sum, safety_sum, infra_sum, population_sum, education_sum) " +
+            "VALUES (:regionId, :countDelta, :transportation, :safety, :infra, :population, :education) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "review_count = review_count + :countDelta, " +
+            "transportation_sum = transportation_sum + :transportation, " +
+            "safety_sum = safety_sum + :safety, " +
+            "infra_sum = infra_sum + :infra, " +
+            "population_sum = population_sum + :population, " +
+            "education_sum = education_sum + :education", nativeQuery = true)
+    int applyDelta(@Param("regionId") Integer regionId,
+                   @Param("countDelta") int countDelta,
+                   @Param("transportation") long transportation,
+                   @Param("safety") long safety,
+                   @Param("infra") long infra,
+                   @Param("population") long population,
+                   @Param("education") long education);
+
+    /**
+     * townreview 테이블을 기준으로 모든 지역의 집계를 다시 계산합니다.
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO regionreviewstats " +
+            "(region_id, review_count, transportation_sum, safety_sum, infra_sum, population_sum, education_sum) " +
+            "SELECT region_id, COUNT(*), SUM(transportation), SUM(safety), SUM(infra), SUM(population), SUM(education) " +
+            "FROM townreview GROUP BY region_id " +
+            "ON DUPLICATE KEY UPDATE " +
+            "review_count = VALUES(review_count), " +
+            "transportation_sum = VALUES(transportation_sum), " +
+            "safety_sum = VALUES(safety_sum), " +
+            "infra_sum = VALUES(infra_sum), " +
+            "population_sum = VALUES(population_sum), " +
+            "education_sum = VALUES(education_sum)", nativeQuery = true)
+    int rebuildAll();
+
+    /**
+     * 리뷰가 모두 삭제된 지역의 집계를 0으로 되돌립니다.
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE regionreviewstats s " +
+            "LEFT JOIN (SELECT DISTINCT region_id FROM townreview) t ON t.region_id = s.region_id " +
+            "SET s.review_count = 0, s.transportation_sum = 0, s.safety_sum = 0, " +
+            "s.infra_sum = 0, s.population_sum = 0, s.education_sum = 0 " +
+            "WHERE t.region_id IS NULL AND s.review_count <> 0", nativeQuery = true)
+    int resetOrphaned();
+}
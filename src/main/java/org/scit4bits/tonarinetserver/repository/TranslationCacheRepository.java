@@ -0,0 +1,23 @@
+package org.scit4bits.tonarinetserver.repository;
+
+import org.scit4bits.tonarinetserver.entity.TranslationCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 번역 캐시(TranslationCache) 엔티티에 대한 데이터 액세스 작업을 처리하는 리포지토리
+ */
+@Repository
+public interface TranslationCacheRepository extends JpaRepository<TranslationCache, TranslationCache.TranslationCacheId> {
+
+    /**
+     * 대상 언어의 번역 결과 중 원문 해시 목록에 해당하는 항목을 조회합니다.
+     * @param targetLanguage 대상 언어 코드
+     * @param textHashes 원문 해시 목록
+     * @return 번역 캐시 리스트
+     */
+    List<TranslationCache> findByIdTargetLanguageAndIdTextHashIn(String targetLanguage, Collection<String> textHashes);
+}
@@ -8,6 +8,9 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * 사용자-채팅방(UserChatRoom) 엔티티에 대한 데이터 액세스 작업을 처리하는 리포지토리
  */
@@ -32,14 +35,37 @@ public interface UserChatRoomRepository extends JpaRepository<UserChatRoom, User
     void deleteByChatroomId(@Param("chatroomId") Integer chatroomId);
 
     /**
-     * 특정 사용자를 제외하고 특정 채팅방의 모든 사용자 참여 정보를 삭제합니다.
+     * 특정 채팅방에 참여한 사용자 ID 목록을 조회합니다.
+     * @param chatroomId 채팅방 ID
+     * @return 사용자 ID 리스트
+     */
+    @Query("SELECT ucr.id.userId FROM UserChatRoom ucr WHERE ucr.id.chatroomId = :chatroomId")
+    List<Integer> findUserIdsByChatroomId(@Param("chatroomId") Integer chatroomId);
+
+    /**
+     * 특정 채팅방에서 지정한 사용자들의 참여 정보를 삭제합니다.
+     * @param chatroomId 채팅방 ID
+     * @param userIds 삭제할 사용자 ID 목록
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM UserChatRoom ucr WHERE ucr.id.chatroomId = :chatroomId AND ucr.id.userId IN :userIds")
+    void deleteByChatroomIdAndUserIdIn(@Param("chatroomId") Integer chatroomId,
+                                       @Param("userIds") Collection<Integer> userIds);
+
+    /**
+     * 사용자의 읽음 위치를 채팅방의 최신 메시지로 이동합니다.
+     * 메시지를 하나씩 갱신하지 않고 단일 UPDATE로 처리하며, 읽음 위치는 뒤로 이동하지 않습니다.
+     * @param userId 사용자 ID
      * @param chatroomId 채팅방 ID
-     * @param userId 제외할 사용자 ID
+     * @return 갱신된 행 수
      */
     @Modifying
     @Transactional
-    @Query("DELETE FROM UserChatRoom ucr WHERE ucr.id.chatroomId = :chatroomId AND ucr.id.userId != :userId")
-    void deleteByChatroomIdAndUserIdNot(@Param("chatroomId") Integer chatroomId, @Param("userId") Integer userId);
+    @Query(value = "UPDATE userchatroom SET last_read_message_id = GREATEST(last_read_message_id, " +
+            "COALESCE((SELECT MAX(m.id) FROM chatmessage m WHERE m.chatroom_id = :chatroomId), 0)) " +
+            "WHERE user_id = :userId AND chatroom_id = :chatroomId", nativeQuery = true)
+    int markAllAsRead(@Param("userId") Integer userId, @Param("chatroomId") Integer chatroomId);
 
     /**
      * 특정 사용자의 특정 채팅방 참여 정보를 삭제합니다.
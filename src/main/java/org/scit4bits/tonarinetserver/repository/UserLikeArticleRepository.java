@@ -2,9 +2,11 @@ package org.scit4bits.tonarinetserver.repository;
 
 import org.scit4bits.tonarinetserver.entity.UserLikeArticle;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -56,4 +58,15 @@ public interface UserLikeArticleRepository extends JpaRepository<UserLikeArticle
      */
     @Query("SELECT CASE WHEN COUNT(ula) > 0 THEN true ELSE false END FROM UserLikeArticle ula WHERE ula.user.id = :userId AND ula.article.id = :articleId")
     boolean existsByUserIdAndArticleId(@Param("userId") Integer userId, @Param("articleId") Integer articleId);
+
+    /**
+     * 사용자의 특정 게시글 좋아요를 삭제합니다.
+     * @param userId 사용자 ID
+     * @param articleId 게시글 ID
+     * @return 삭제된 행 수 (좋아요를 누르지 않았던 경우 0)
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM UserLikeArticle ula WHERE ula.id.userId = :userId AND ula.id.articleId = :articleId")
+    int deleteByUserIdAndArticleId(@Param("userId") Integer userId, @Param("articleId") Integer articleId);
 }
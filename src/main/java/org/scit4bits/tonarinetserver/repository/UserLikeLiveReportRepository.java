@@ -0,0 +1,36 @@
+package org.scit4bits.tonarinetserver.repository;
+
+import org.scit4bits.tonarinetserver.entity.UserLikeLiveReport;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 사용자-실시간 제보 좋아요(UserLikeLiveReport) 엔티티에 대한 데이터 액세스 작업을 처리하는 리포지토리
+ */
+@Repository
+public interface UserLikeLiveReportRepository extends JpaRepository<UserLikeLiveReport, UserLikeLiveReport.UserLikeLiveReportId> {
+
+    /**
+     * 좋아요를 추가합니다. 이미 좋아요를 누른 경우 아무것도 하지 않습니다.
+     * 존재 확인과 추가를 한 문장으로 처리하므로 동시에 같은 요청이 와도 한 번만 추가됩니다.
+     * @param userId 사용자 ID
+     * @param liveReportId 실시간 제보 ID
+     * @return 추가된 행 수 (이미 좋아요를 누른 경우 0)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO userlikelivereport (user_id, livereport_id) VALUES (:userId, :liveReportId)", nativeQuery = true)
+    int insertIgnore(@Param("userId") Integer userId, @Param("liveReportId") Integer liveReportId);
+
+    /**
+     * 좋아요를 삭제합니다.
+     * @param userId 사용자 ID
+     * @param liveReportId 실시간 제보 ID
+     * @return 삭제된 행 수 (좋아요를 누르지 않았던 경우 0)
+     */
+    @Modifying
+    @Query("DELETE FROM UserLikeLiveReport u WHERE u.id.userId = :userId AND u.id.liveReportId = :liveReportId")
+    int deleteByUserIdAndLiveReportId(@Param("userId") Integer userId, @Param("liveReportId") Integer liveReportId);
+}
@@ -0,0 +1,335 @@
+package org.scit4bits.tonarinetserver.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * AI 모델 호출의 실행을 제한하고 관리하는 서비스입니다.
+ * <ul>
+ *     <li>전체 동시 실행 수와 사용자별 동시 요청 수를 제한합니다.</li>
+ *     <li>실행을 기다리는 요청 수가 대기 큐 크기를 넘으면 {@link RejectedExecutionException}으로 바로 거절합니다.</li>
+ *     <li>제한 시간을 넘기거나 사용자가 채팅방을 나가면 요청을 취소합니다.</li>
+ *     <li>대기 요청 수, 실행 중인 요청 수, 대기 시간과 전체 소요 시간을 메트릭으로 기록합니다.</li>
+ * </ul>
+ * 블로킹 호출은 전용 스레드 풀(aiExecutor)에서 실행하고, 스트리밍 호출은 실행 허가를 받은 뒤 스레드를 점유하지 않고 진행합니다.
+ */
+@Service
+@Slf4j
+public class AIRequestExecutor {
+
+    private final ThreadPoolTaskExecutor aiExecutor;
+    private final Scheduler aiScheduler;
+    private final MeterRegistry meterRegistry;
+    private final int maxConcurrency;
+    private final int queueCapacity;
+    private final int perUserLimit;
+    private final Duration timeout;
+
+    /** 동시에 실행 중인 AI 호출 수를 제한하는 허가 */
+    private final Semaphore concurrency;
+    /** 접수되었지만 아직 실행 허가를 받지 못한 요청 수 */
+    private final AtomicInteger waiting = new AtomicInteger();
+    /** 사용자 ID → 진행 중인 요청 수 */
+    private final ConcurrentHashMap<Integer, Integer> perUser = new ConcurrentHashMap<>();
+    /** "채팅방 ID:사용자 ID" → 진행 중인 요청 (채팅방을 나가면 취소) */
+    private final ConcurrentHashMap<String, Set<Execution>> byRoom = new ConcurrentHashMap<>();
+
+    /**
+     * AIRequestExecutor 생성자
+     * @param aiExecutor AI 호출 전용 스레드 풀
+     * @param meterRegistry 메트릭 등록에 사용할 MeterRegistry
+     * @param maxConcurrency 전체 동시 실행 수
+     * @param queueCapacity 실행을 기다릴 수 있는 최대 요청 수
+     * @param perUserLimit 사용자별 동시 요청 수
+     * @param timeout 요청 제한 시간 (스트리밍은 다음 조각이 도착하기까지의 제한 시간)
+     */
+    public AIRequestExecutor(@Qualifier("aiExecutor") ThreadPoolTaskExecutor aiExecutor,
+                             MeterRegistry meterRegistry,
+                             @Value("${ai.executor.max-concurrency:8}") int maxConcurrency,
+                             @Value("${ai.executor.queue-capacity:50}") int queueCapacity,
+                             @Value("${ai.executor.per-user-limit:2}") int perUserLimit,
+                             @Value("${ai.executor.timeout:60s}") Duration timeout) {
+        this.aiExecutor = aiExecutor;
+        this.aiScheduler = Schedulers.fromExecutor(aiExecutor);
+        this.meterRegistry = meterRegistry;
+        this.maxConcurrency = maxConcurrency;
+        this.queueCapacity = queueCapacity;
+        this.perUserLimit = perUserLimit;
+        this.timeout = timeout;
+        this.concurrency = new Semaphore(maxConcurrency, true);
+
+        meterRegistry.gauge("ai.request.queue.depth", waiting);
+        meterRegistry.gauge("ai.request.active", concurrency,
+                permits -> this.maxConcurrency - permits.availablePermits());
+    }
+
+    /**
+     * 블로킹 AI 호출을 전용 스레드 풀에서 실행합니다.
+     * 반환된 Future는 제한 시간을 넘기면 {@link TimeoutException}, 취소되면 {@link CancellationException}으로 완료됩니다.
+     * @param operation 호출 종류 (메트릭 태그)
+     * @param userId 요청한 사용자 ID (null이면 사용자별 제한을 적용하지 않음)
+     * @param roomId 요청이 속한 채팅방 ID (null이면 채팅방 퇴장 시 취소하지 않음)
+     * @param call 실행할 AI 호출
+     * @return AI 호출 결과
+     * @throws RejectedExecutionException 대기 큐 또는 사용자별 제한을 넘은 경우
+     */
+    public <T> CompletableFuture<T> submit(String operation, Integer userId, Integer roomId, Supplier<T> call) {
+        Execution execution = admit(operation, userId, roomId);
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = aiExecutor.submit(() -> {
+                try {
+                    if (!execution.start()) {
+                        return;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                try {
+                    result.complete(call.get());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                } finally {
+                    execution.releasePermit();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            execution.finish(e);
+            reject(operation, "executor-full");
+            throw new RejectedExecutionException("AI 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.", e);
+        }
+
+        execution.onCancel(() -> result.completeExceptionally(new CancellationException("AI 요청이 취소되었습니다.")));
+        result.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((value, error) -> {
+                    if (error != null) {
+                        // 대기 중이면 큐에서 빠지고, 실행 중이면 인터럽트하여 응답 대기를 중단
+                        task.cancel(true);
+                    }
+                    execution.finish(error);
+                });
+        return result;
+    }
+
+    /**
+     * 스트리밍 AI 호출을 실행 허가를 받은 뒤 시작합니다.
+     * 구독할 때 요청이 접수되며, 다음 조각이 제한 시간 안에 도착하지 않으면 {@link TimeoutException},
+     * 채팅방 퇴장으로 취소되면 {@link CancellationException}으로 종료됩니다.
+     * @param operation 호출 종류 (메트릭 태그)
+     * @param userId 요청한 사용자 ID (null이면 사용자별 제한을 적용하지 않음)
+     * @param roomId 요청이 속한 채팅방 ID (null이면 채팅방 퇴장 시 취소하지 않음)
+     * @param call 시작할 스트리밍 AI 호출
+     * @return AI 응답 조각의 Flux (대기 큐 또는 사용자별 제한을 넘으면 RejectedExecutionException으로 종료)
+     */
+    public <T> Flux<T> stream(String operation, Integer userId, Integer roomId, Supplier<Flux<T>> call) {
+        return Flux.defer(() -> {
+            Execution execution = admit(operation, userId, roomId);
+            Sinks.One<Boolean> cancelSignal = Sinks.one();
+            execution.onCancel(() -> cancelSignal.tryEmitValue(true));
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+
+            // 실행 허가는 AI 스레드에서 기다리고, 허가를 받은 뒤에는 스레드를 점유하지 않음
+            return Mono.fromCallable(execution::start)
+                    .subscribeOn(aiScheduler)
+                    .flatMapMany(started -> started
+                            ? call.get()
+                            : Flux.<T>error(new CancellationException("AI 요청이 취소되었습니다.")))
+                    .timeout(timeout)
+                    .takeUntilOther(cancelSignal.asMono())
+                    .concatWith(Mono.defer(() -> execution.isCancelled()
+                            ? Mono.<T>error(new CancellationException("AI 요청이 취소되었습니다."))
+                            : Mono.<T>empty()))
+                    .doOnError(failure::set)
+                    .doFinally(signal -> {
+                        execution.releasePermit();
+                        execution.finish(signal == SignalType.CANCEL
+                                ? new CancellationException("구독이 취소되었습니다.")
+                                : failure.get());
+                    });
+        });
+    }
+
+    /**
+     * 사용자가 채팅방에서 시작한 진행 중인 AI 요청을 모두 취소합니다.
+     * @param roomId 채팅방 ID
+     * @param userId 사용자 ID
+     */
+    public void cancel(Integer roomId, Integer userId) {
+        Set<Execution> executions = byRoom.get(roomKey(roomId, userId));
+        if (executions == null) {
+            return;
+        }
+        for (Execution execution : executions) {
+            execution.cancel();
+        }
+        log.debug("채팅방 {}에서 사용자 {}의 AI 요청 {}건 취소", roomId, userId, executions.size());
+    }
+
+    private Execution admit(String operation, Integer userId, Integer roomId) {
+        if (waiting.incrementAndGet() > queueCapacity) {
+            waiting.decrementAndGet();
+            reject(operation, "queue-full");
+            throw new RejectedExecutionException("AI 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        if (userId != null) {
+            AtomicBoolean admitted = new AtomicBoolean();
+            perUser.compute(userId, (id, count) -> {
+                int current = count != null ? count : 0;
+                if (current >= perUserLimit) {
+                    return count;
+                }
+                admitted.set(true);
+                return current + 1;
+            });
+            if (!admitted.get()) {
+                waiting.decrementAndGet();
+                reject(operation, "per-user");
+                throw new RejectedExecutionException("동시에 처리할 수 있는 AI 요청 수를 초과했습니다.");
+            }
+        }
+
+        Execution execution = new Execution(operation, userId, roomId);
+        if (roomId != null && userId != null) {
+            byRoom.computeIfAbsent(roomKey(roomId, userId), key -> ConcurrentHashMap.newKeySet()).add(execution);
+        }
+        return execution;
+    }
+
+    private void reject(String operation, String reason) {
+        meterRegistry.counter("ai.request.rejected", "operation", operation, "reason", reason).increment();
+        log.warn("AI 요청 거절 - {} ({})", operation, reason);
+    }
+
+    private static String roomKey(Integer roomId, Integer userId) {
+        return roomId + ":" + userId;
+    }
+
+    private static String outcomeOf(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause == null) {
+            return "success";
+        } else if (cause instanceof TimeoutException) {
+            return "timeout";
+        } else if (cause instanceof CancellationException) {
+            return "cancelled";
+        } else if (cause instanceof RejectedExecutionException) {
+            return "rejected";
+        }
+        return "error";
+    }
+
+    /**
+     * 접수된 AI 요청 하나의 상태
+     */
+    private final class Execution {
+        private static final int QUEUED = 0;
+        private static final int RUNNING = 1;
+        private static final int DONE = 2;
+
+        private final String operation;
+        private final Integer userId;
+        private final Integer roomId;
+        private final long admittedAt = System.nanoTime();
+        private final AtomicInteger state = new AtomicInteger(QUEUED);
+        private final AtomicBoolean permitHeld = new AtomicBoolean();
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+        private final AtomicReference<Runnable> cancelHook = new AtomicReference<>();
+
+        Execution(String operation, Integer userId, Integer roomId) {
+            this.operation = operation;
+            this.userId = userId;
+            this.roomId = roomId;
+        }
+
+        /**
+         * 실행 허가를 기다립니다. 이미 종료(시간 초과, 취소)된 요청이면 false를 반환합니다.
+         */
+        boolean start() throws InterruptedException {
+            concurrency.acquire();
+            permitHeld.set(true);
+            if (!state.compareAndSet(QUEUED, RUNNING)) {
+                releasePermit();
+                return false;
+            }
+            waiting.decrementAndGet();
+            meterRegistry.timer("ai.request.queue.wait", "operation", operation)
+                    .record(System.nanoTime() - admittedAt, TimeUnit.NANOSECONDS);
+            return true;
+        }
+
+        void releasePermit() {
+            if (permitHeld.getAndSet(false)) {
+                concurrency.release();
+            }
+        }
+
+        void finish(Throwable error) {
+            int previous = state.getAndSet(DONE);
+            if (previous == DONE) {
+                return;
+            }
+            if (previous == QUEUED) {
+                waiting.decrementAndGet();
+            }
+            if (userId != null) {
+                perUser.computeIfPresent(userId, (id, count) -> count <= 1 ? null : count - 1);
+            }
+            if (roomId != null && userId != null) {
+                byRoom.computeIfPresent(roomKey(roomId, userId), (key, executions) -> {
+                    executions.remove(this);
+                    return executions.isEmpty() ? null : executions;
+                });
+            }
+            meterRegistry.timer("ai.request.latency", "operation", operation, "outcome", outcomeOf(error))
+                    .record(System.nanoTime() - admittedAt, TimeUnit.NANOSECONDS);
+        }
+
+        void onCancel(Runnable hook) {
+            cancelHook.set(hook);
+            if (cancelled.get()) {
+                hook.run();
+            }
+        }
+
+        void cancel() {
+            if (cancelled.compareAndSet(false, true)) {
+                Runnable hook = cancelHook.get();
+                if (hook != null) {
+                    hook.run();
+                }
+            }
+        }
+
+        boolean isCancelled() {
+            return cancelled.get();
+        }
+    }
+}
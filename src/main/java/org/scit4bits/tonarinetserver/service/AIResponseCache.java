@@ -0,0 +1,131 @@
+package org.scit4bits.tonarinetserver.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * 대화 기록을 사용하지 않는 AI 응답을 프롬프트 기준으로 캐싱하는 서비스입니다.
+ * 캐시 키는 시스템 프롬프트와 정규화한 사용자 프롬프트의 SHA-256 해시이며,
+ * 공백, 대소문자, 유니코드 표기 차이만 있는 프롬프트는 같은 응답을 사용합니다.
+ * 항목 수 상한과 만료 시간(TTL)으로 캐시 크기를 제한합니다.
+ * 응답 생성은 캐시 내부 잠금 밖의 전용 스레드 풀에서 실행하고, 같은 키의 동시 요청은 진행 중인 생성 결과를 함께 기다립니다.
+ */
+@Service
+@Slf4j
+public class AIResponseCache {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final AsyncCache<String, String> cache;
+    private final ThreadPoolTaskExecutor aiResponseCacheExecutor;
+
+    /**
+     * AIResponseCache 생성자
+     * @param meterRegistry 캐시 메트릭 등록에 사용할 MeterRegistry
+     * @param aiResponseCacheExecutor 응답 생성에 사용할 스레드 풀
+     * @param maximumSize 캐시에 보관할 최대 응답 수
+     * @param ttl 캐시 항목 만료 시간
+     */
+    public AIResponseCache(MeterRegistry meterRegistry,
+                           @Qualifier("aiResponseCacheExecutor") ThreadPoolTaskExecutor aiResponseCacheExecutor,
+                           @Value("${ai.response-cache.maximum-size:1000}") long maximumSize,
+                           @Value("${ai.response-cache.ttl:24h}") Duration ttl) {
+        this.aiResponseCacheExecutor = aiResponseCacheExecutor;
+        // 캐시 내부 유지 작업은 기본 실행기(ForkJoinPool)에서 처리하고, 응답 생성만 전용 풀에서 실행
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "ai.response");
+    }
+
+    /**
+     * 캐시된 응답을 조회합니다.
+     * @param systemPrompt 시스템 프롬프트
+     * @param userPrompt 사용자 프롬프트
+     * @return 캐시된 응답 (없거나 아직 생성 중이면 빈 Optional)
+     */
+    public Optional<String> get(String systemPrompt, String userPrompt) {
+        CompletableFuture<String> future = cache.getIfPresent(keyOf(systemPrompt, userPrompt));
+        if (future == null || !future.isDone() || future.isCompletedExceptionally()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(future.join());
+    }
+
+    /**
+     * 캐시된 응답을 반환하고, 없으면 생성하여 저장합니다.
+     * 같은 키에 대한 동시 요청은 한 번만 생성하며, 생성에 실패한 항목은 캐시에서 제거되어 다음 요청에서 다시 생성합니다.
+     * 생성 스레드 풀의 대기 큐가 가득 차면 {@link RejectedExecutionException}을 던집니다.
+     * @param systemPrompt 시스템 프롬프트
+     * @param userPrompt 사용자 프롬프트
+     * @param generator 응답 생성 함수
+     * @return AI 응답
+     */
+    public String get(String systemPrompt, String userPrompt, Supplier<String> generator) {
+        CompletableFuture<String> future;
+        try {
+            future = cache.get(keyOf(systemPrompt, userPrompt),
+                    (key, executor) -> CompletableFuture.supplyAsync(generator, aiResponseCacheExecutor));
+        } catch (RejectedExecutionException e) {
+            throw new RejectedExecutionException("AI 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.", e);
+        }
+        try {
+            // join()과 달리 인터럽트에 반응하므로 AIRequestExecutor가 요청을 취소하면 대기를 멈춥니다.
+            // 진행 중인 생성은 같은 키를 기다리는 다른 요청이 있을 수 있으므로 취소하지 않습니다.
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("AI 응답 생성 대기 중 요청이 취소되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException("AI 응답 생성에 실패했습니다.", e.getCause());
+        }
+    }
+
+    /**
+     * 프롬프트를 정규화합니다. (유니코드 NFKC, 앞뒤 공백 제거, 연속 공백 축약, 소문자 변환)
+     * @param prompt 프롬프트
+     * @return 정규화된 프롬프트
+     */
+    private static String normalize(String prompt) {
+        String normalized = Normalizer.normalize(prompt, Normalizer.Form.NFKC).strip();
+        return WHITESPACE.matcher(normalized).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    private static String keyOf(String systemPrompt, String userPrompt) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(systemPrompt.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(normalize(userPrompt).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -5,13 +5,15 @@ import org.scit4bits.tonarinetserver.repository.ChatMessageRepository;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.client.advisor.MessageChatMemoryAdvisor;
 import org.springframework.ai.chat.memory.ChatMemory;
-import org.springframework.ai.chat.memory.MessageWindowChatMemory;
 import org.springframework.ai.chat.messages.SystemMessage;
 import org.springframework.ai.chat.messages.UserMessage;
 import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.openai.OpenAiChatModel;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.util.Optional;
 
 /**
  * AI 관련 서비스를 처리하는 클래스
@@ -22,7 +24,10 @@ public class AIService {
 
     private final ChatMessageRepository chatMessageRepository;
     private final ChatClient chatClient;
-    private final MessageWindowChatMemory chatMemory;
+    private final ChatMemory chatMemory;
+
+    /** AI 응답을 생성하는 동안 채팅방에 표시하는 안내 메시지 (대화 기록에서는 제외) */
+    public static final String PENDING_NOTICE = "AI가 응답을 생성 중입니다...";
 
     // AI의 행동을 정의하는 기본 시스템 프롬프트
     private static final String SYSTEM_PROMPT = """
@@ -36,17 +41,29 @@ public class AIService {
             if possible, respond in the language of the user's request.
             """;
 
+    // HTML 형식 응답을 요청하는 시스템 프롬프트
+    private static final String HTML_SYSTEM_PROMPT = SYSTEM_PROMPT + "\n" + """
+            Please provide your answer in HTML format. Use appropriate HTML tags such as <p>, <ul>, <li>, <strong>, <em>, and <br> to structure your response. Avoid using complex HTML structures like <div> or <span>. Ensure that the HTML is well-formed and easy to read.
+            """;
+
     private final OpenAiChatModel chatModel;
+    private final ChatClient statelessChatClient;
+    private final AIResponseCache responseCache;
 
     /**
      * AIService 생성자
      * @param chatClientBuilder ChatClient 빌더
      * @param chatMessageRepository 채팅 메시지 레포지토리
      * @param chatModel OpenAI 채팅 모델
+     * @param chatMemory 채팅방별 대화 기록 (DB 기반)
+     * @param responseCache 대화 기록을 사용하지 않는 응답의 캐시
      */
     public AIService(ChatClient.Builder chatClientBuilder, ChatMessageRepository chatMessageRepository,
-                     OpenAiChatModel chatModel) {
-        this.chatMemory = MessageWindowChatMemory.builder().maxMessages(20).build();
+                     OpenAiChatModel chatModel, DatabaseChatMemory chatMemory, AIResponseCache responseCache) {
+        this.chatMemory = chatMemory;
+        this.responseCache = responseCache;
+        // 대화 기록 없이 프롬프트만으로 응답하는 클라이언트 (응답 캐싱 가능)
+        this.statelessChatClient = chatClientBuilder.clone().build();
         this.chatClient = chatClientBuilder.defaultSystem(SYSTEM_PROMPT)
                 .defaultAdvisors(
                         MessageChatMemoryAdvisor.builder(chatMemory).build())
@@ -101,28 +118,52 @@ public class AIService {
         }
     }
 
+    /**
+     * 대화 기록을 포함하여 AI 응답을 스트리밍으로 생성합니다.
+     * 모델이 생성하는 텍스트 조각이 도착하는 대로 발행되며, 스트림이 끝나면 대화 기록에 응답 전체가 저장됩니다.
+     * 호출 스레드를 블로킹하지 않으므로 구독한 뒤 바로 반환할 수 있습니다.
+     * @param userInput 사용자 입력 문자열
+     * @param roomId 채팅방 ID
+     * @return AI 응답 텍스트 조각의 Flux
+     */
+    public Flux<String> streamResponseWithMemory(String userInput, Integer roomId) {
+        return chatClient.prompt()
+                .user(userInput)
+                .system(SYSTEM_PROMPT)
+                .advisors(a -> a.param(ChatMemory.CONVERSATION_ID, roomId.toString()))
+                .stream()
+                .content()
+                .doOnError(e -> log.error("Error streaming OpenAI API response with memory", e));
+    }
+
     /**
      * HTML 형식으로 AI 응답을 생성합니다.
+     * 대화 기록을 사용하지 않으므로 같은 프롬프트에 대한 응답은 캐시에서 반환합니다.
      * @param userInput 사용자 입력 문자열
      * @return HTML 형식의 AI 응답 문자열
      */
     public String generateHTMLResponse(String userInput) {
-        String prompt = """
-                Please provide your answer in HTML format. Use appropriate HTML tags such as <p>, <ul>, <li>, <strong>, <em>, and <br> to structure your response. Avoid using complex HTML structures like <div> or <span>. Ensure that the HTML is well-formed and easy to read.
-                """;
-
-        try {
-            // HTML 형식으로 응답을 요청하는 프롬프트를 추가하여 AI 호출
-            String aiResponse = chatClient.prompt()
-                    .user(userInput)
-                    .system(SYSTEM_PROMPT + "\n" + prompt)
-                    .call()
-                    .content();
+        return responseCache.get(HTML_SYSTEM_PROMPT, userInput, () -> {
+            try {
+                // HTML 형식으로 응답을 요청하는 시스템 프롬프트로 AI 호출
+                return statelessChatClient.prompt()
+                        .user(userInput)
+                        .system(HTML_SYSTEM_PROMPT)
+                        .call()
+                        .content();
+            } catch (Exception e) {
+                log.error("Error calling OpenAI API for HTML response", e);
+                throw new RuntimeException("Failed to generate HTML AI response", e);
+            }
+        });
+    }
 
-            return aiResponse;
-        } catch (Exception e) {
-            log.error("Error calling OpenAI API with memory", e);
-            throw new RuntimeException("Failed to generate AI response with memory", e);
-        }
+    /**
+     * 캐시된 HTML 형식 AI 응답을 조회합니다. (AI 호출 없이 바로 응답할 때 사용)
+     * @param userInput 사용자 입력 문자열
+     * @return 캐시된 HTML 응답 (없으면 빈 Optional)
+     */
+    public Optional<String> getCachedHTMLResponse(String userInput) {
+        return responseCache.get(HTML_SYSTEM_PROMPT, userInput);
     }
 }
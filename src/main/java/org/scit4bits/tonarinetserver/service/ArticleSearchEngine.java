@@ -0,0 +1,30 @@
+package org.scit4bits.tonarinetserver.service;
+
+import org.scit4bits.tonarinetserver.entity.Article;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 게시글 본문 검색 엔진 인터페이스
+ * {@code article.search.engine} 설정에 따라 구현체(lucene, database)가 선택됩니다.
+ */
+public interface ArticleSearchEngine {
+
+    /** 제목, 내용, 카테고리 전체 검색 */
+    String FIELD_ALL = "all";
+    /** 제목 검색 */
+    String FIELD_TITLE = "title";
+    /** 내용 검색 */
+    String FIELD_CONTENTS = "contents";
+
+    /**
+     * 특정 게시판의 게시글을 검색어로 검색합니다.
+     * @param boardId 게시판 ID
+     * @param field 검색 대상 필드 (all, title, contents)
+     * @param search 검색어
+     * @param category 필터링할 카테고리 (null이면 상담 게시글을 제외한 전체)
+     * @param pageable 페이징 정보 (정렬이 지정되지 않으면 관련도순)
+     * @return 페이징된 게시글
+     */
+    Page<Article> search(Integer boardId, String field, String search, String category, Pageable pageable);
+}
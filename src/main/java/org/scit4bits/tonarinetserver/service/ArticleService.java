@@ -8,11 +8,14 @@ import org.scit4bits.tonarinetserver.dto.FileAttachmentRequestDTO;
 import org.scit4bits.tonarinetserver.dto.PagedResponse;
 import org.scit4bits.tonarinetserver.entity.*;
 import org.scit4bits.tonarinetserver.entity.FileAttachment.FileType;
+import org.scit4bits.tonarinetserver.event.ArticleChangedEvent;
 import org.scit4bits.tonarinetserver.repository.*;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -35,8 +38,9 @@ public class ArticleService {
     private final OrganizationRepository organizationRepository;
     private final TagRepository tagRepository;
     private final FileAttachmentService fileAttachmentService;
-    private final UserRepository userRepository;
-    private final NotificationService notificationService;
+    private final ArticleViewCountService articleViewCountService;
+    private final ArticleSearchEngine articleSearchEngine;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * ID로 특정 게시글을 조회합니다.
@@ -88,6 +92,7 @@ public class ArticleService {
                 .build();
 
         Article savedArticle = articleRepository.save(article);
+        eventPublisher.publishEvent(new ArticleChangedEvent(savedArticle.getId(), boardId, ArticleChangedEvent.ChangeType.CREATED));
 
         log.debug("게시글 생성 완료, ID: {}", savedArticle.getId());
 
@@ -120,26 +125,7 @@ public class ArticleService {
 
         log.debug("게시글 카테고리: {}", savedArticle.getCategory());
 
-        // 공지사항인 경우 알림 발송
-        if (savedArticle.getCategory().equals("notice")) {
-            log.debug("공지사항 게시글에 대한 알림 발송: {}", savedArticle.getTitle());
-            if (board.getId() == 0) {
-                // 전체 공지
-                log.debug("전체 공지, 모든 사용자에게 알림");
-                List<User> allUsers = userRepository.findAll();
-                for (User u : allUsers) {
-                    notificationService.addNotification(u.getId(), "{\"messageType\": \"newNotice\"}", "/board/view/" + savedArticle.getId());
-                }
-            } else if (board.getOrgId() != null) {
-                // 조직 공지
-                log.debug("조직 공지, 조직 {}의 모든 사용자에게 알림", board.getOrgId());
-                Organization organization = organizationRepository.findById(board.getOrgId()).get();
-                List<User> orgUsers = organization.getUsers();
-                for (User u : orgUsers) {
-                    notificationService.addNotification(u.getId(), "{\"messageType\": \"newOrgNotice\"}", "/board/view/" + savedArticle.getId());
-                }
-            }
-        }
+        // 공지사항 알림은 커밋 이후 NotificationFanoutService가 비동기로 발송합니다.
     }
 
     /**
@@ -149,7 +135,9 @@ public class ArticleService {
      * @return 수정된 Article 엔티티
      */
     public Article updateArticle(Integer articleId, Article article) {
-        return articleRepository.save(article);
+        Article savedArticle = articleRepository.save(article);
+        eventPublisher.publishEvent(new ArticleChangedEvent(savedArticle.getId(), savedArticle.getBoardId(), ArticleChangedEvent.ChangeType.UPDATED));
+        return savedArticle;
     }
 
     /**
@@ -166,6 +154,7 @@ public class ArticleService {
         }
 
         articleRepository.delete(article);
+        eventPublisher.publishEvent(new ArticleChangedEvent(articleId, article.getBoardId(), ArticleChangedEvent.ChangeType.DELETED));
     }
 
     /**
@@ -232,7 +221,8 @@ public class ArticleService {
 
     /**
      * 특정 게시판의 게시글을 검색합니다. (카테고리 필터링 포함)
-     * 모든 필터링은 성능 최적화를 위해 데이터베이스 수준에서 수행됩니다.
+     * 제목/내용 텍스트 검색은 {@link ArticleSearchEngine}이, 그 외 필터링은 데이터베이스가 수행합니다.
+     * 정렬 기준이 relevance인 경우 검색 결과는 관련도순으로 정렬됩니다.
      * @param user 현재 로그인한 사용자 정보
      * @param boardId 게시판 ID
      * @param searchBy 검색 기준
@@ -266,11 +256,14 @@ public class ArticleService {
             case "created" -> "createdAt";
             case "updated" -> "updatedAt";
             case "creator" -> "createdById";
+            case "relevance" -> null;
             default -> "id";
         };
 
-        Sort sort = Sort.by(sortDir, entityFieldName);
+        // 관련도순은 검색어가 있을 때만 의미가 있으므로 목록 조회에서는 ID순으로 대체
+        Sort sort = Sort.by(sortDir, entityFieldName != null ? entityFieldName : "id");
         Pageable pageable = PageRequest.of(pageNum, pageSizeNum, sort);
+        Pageable searchPageable = entityFieldName != null ? pageable : PageRequest.of(pageNum, pageSizeNum);
 
         Page<Article> articlePage;
 
@@ -291,11 +284,7 @@ public class ArticleService {
             // 검색어가 있는 경우
             switch (searchBy.toLowerCase()) {
                 case "all":
-                    if (shouldFilterByCategory) {
-                        articlePage = articleRepository.findByBoardIdAndCategoryAndAllFieldsContaining(boardId, categoryFilter, search.trim(), pageable);
-                    } else {
-                        articlePage = articleRepository.findByBoardIdAndAllFieldsContainingExcludingCounsel(boardId, search.trim(), pageable);
-                    }
+                    articlePage = articleSearchEngine.search(boardId, ArticleSearchEngine.FIELD_ALL, search.trim(), categoryFilter, searchPageable);
                     break;
                 case "id":
                     try {
@@ -322,18 +311,10 @@ public class ArticleService {
                     }
                     break;
                 case "title":
-                    if (shouldFilterByCategory) {
-                        articlePage = articleRepository.findByBoardIdAndCategoryAndTitleContainingIgnoreCase(boardId, categoryFilter, search.trim(), pageable);
-                    } else {
-                        articlePage = articleRepository.findByBoardIdAndTitleContainingIgnoreCaseAndCategoryNot(boardId, search.trim(), "counsel", pageable);
-                    }
+                    articlePage = articleSearchEngine.search(boardId, ArticleSearchEngine.FIELD_TITLE, search.trim(), categoryFilter, searchPageable);
                     break;
                 case "contents":
-                    if (shouldFilterByCategory) {
-                        articlePage = articleRepository.findByBoardIdAndCategoryAndContentsContainingIgnoreCase(boardId, categoryFilter, search.trim(), pageable);
-                    } else {
-                        articlePage = articleRepository.findByBoardIdAndContentsContainingIgnoreCaseAndCategoryNot(boardId, search.trim(), "counsel", pageable);
-                    }
+                    articlePage = articleSearchEngine.search(boardId, ArticleSearchEngine.FIELD_CONTENTS, search.trim(), categoryFilter, searchPageable);
                     break;
                 case "category":
                     if (shouldFilterByCategory) {
@@ -365,11 +346,7 @@ public class ArticleService {
                     break;
                 default:
                     log.warn("알 수 없는 검색 기준: {}. 'all'을 기본값으로 사용합니다.", searchBy);
-                    if (shouldFilterByCategory) {
-                        articlePage = articleRepository.findByBoardIdAndCategoryAndAllFieldsContaining(boardId, categoryFilter, search.trim(), pageable);
-                    } else {
-                        articlePage = articleRepository.findByBoardIdAndAllFieldsContainingExcludingCounsel(boardId, search.trim(), pageable);
-                    }
+                    articlePage = articleSearchEngine.search(boardId, ArticleSearchEngine.FIELD_ALL, search.trim(), categoryFilter, searchPageable);
                     break;
             }
         }
@@ -392,10 +369,18 @@ public class ArticleService {
      * @return 성공 여부
      */
     public boolean increaseArticleViews(User user, Integer articleId) {
-        Article article = articleRepository.findById(articleId).get();
-
-        article.setViews(article.getViews() + 1);
-        articleRepository.save(article);
+        // 조회수는 메모리에 누적한 뒤 주기적으로 일괄 반영합니다.
+        articleViewCountService.increment(articleId);
         return true;
     }
+
+    /**
+     * 비정규화된 좋아요/댓글 카운터를 실제 데이터 기준으로 재계산합니다.
+     * 원자적 증감 중 누락된 변경(직접 DB 수정, 장애 등)으로 생긴 오차를 주기적으로 보정합니다.
+     */
+    @Scheduled(cron = "${article.counter.rebuild-cron:0 30 4 * * *}")
+    public void rebuildArticleCounters() {
+        int updated = articleRepository.rebuildCounters();
+        log.info("게시글 카운터 재계산 완료, 보정된 게시글 수: {}", updated);
+    }
 }
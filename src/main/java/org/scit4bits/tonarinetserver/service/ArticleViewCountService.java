@@ -0,0 +1,96 @@
+package org.scit4bits.tonarinetserver.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 조회수를 메모리에 누적했다가 주기적으로 DB에 일괄 반영하는 서비스입니다.
+ * 조회할 때마다 게시글 행을 읽고 쓰지 않으므로 인기 게시글의 행 잠금 경합과 증가분 유실을 막습니다.
+ * 누적과 플러시는 {@link KeyedDeltaBuffer}가 처리하며, 이 서비스는 일괄 UPDATE와 메트릭을 담당합니다.
+ */
+@Service
+@Slf4j
+public class ArticleViewCountService {
+
+    /** 조회수 반영은 게시글 수정이 아니므로 수정일(updated_at)이 자동 갱신되지 않도록 현재 값을 그대로 지정합니다. */
+    private static final String FLUSH_SQL = "UPDATE article SET views = views + ?, updated_at = updated_at WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Counter flushedViews;
+    private final KeyedDeltaBuffer<Integer> buffer;
+
+    /**
+     * ArticleViewCountService 생성자
+     * @param jdbcTemplate 일괄 UPDATE 실행에 사용할 JdbcTemplate
+     * @param meterRegistry 메트릭 등록에 사용할 MeterRegistry
+     */
+    public ArticleViewCountService(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.buffer = new KeyedDeltaBuffer<>("게시글 조회수", this::write);
+        this.flushedViews = Counter.builder("article.views.flushed")
+                .description("DB에 반영된 게시글 조회수 합계")
+                .register(meterRegistry);
+        Gauge.builder("article.views.pending", this, ArticleViewCountService::getPendingViews)
+                .description("아직 DB에 반영되지 않은 조회수 합계")
+                .register(meterRegistry);
+        Gauge.builder("article.views.pending.articles", buffer, KeyedDeltaBuffer::getPendingKeys)
+                .description("반영 대기 중인 조회수를 가진 게시글 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 게시글의 조회수를 1 증가시킵니다. (메모리에만 누적)
+     * @param articleId 게시글 ID
+     */
+    public void increment(Integer articleId) {
+        buffer.add(articleId, 1);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수 합계를 반환합니다.
+     * @return 대기 중인 조회수 합계
+     */
+    public long getPendingViews() {
+        return buffer.getPendingTotal();
+    }
+
+    /**
+     * 누적된 조회수를 게시글별로 합산하여 일괄 UPDATE로 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${article.views.flush-interval-ms:5000}")
+    public void flush() {
+        buffer.flush();
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 조회수를 모두 반영합니다.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        buffer.flushAll();
+    }
+
+    private Map<Integer, Long> write(Map<Integer, Long> deltas) {
+        List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+        long total = 0;
+        for (Map.Entry<Integer, Long> entry : deltas.entrySet()) {
+            batchArgs.add(new Object[]{entry.getValue(), entry.getKey()});
+            total += entry.getValue();
+        }
+
+        jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs);
+        flushedViews.increment(total);
+        log.debug("게시글 조회수 반영 완료 - 게시글 {}개, 조회수 {}", deltas.size(), total);
+        return Map.of();
+    }
+}
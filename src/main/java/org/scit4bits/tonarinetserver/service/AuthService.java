@@ -1,11 +1,8 @@
 package org.scit4bits.tonarinetserver.service;
 
-import com.auth0.jwt.JWT;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.tomcat.util.json.JSONParser;
-import org.scit4bits.tonarinetserver.dto.AuthCheckResponse;
 import org.scit4bits.tonarinetserver.dto.ChatRoomRequestDTO;
 import org.scit4bits.tonarinetserver.dto.GenerateStateResponse;
 import org.scit4bits.tonarinetserver.dto.SignUpRequest;
@@ -15,18 +12,11 @@ import org.scit4bits.tonarinetserver.repository.CountryRepository;
 import org.scit4bits.tonarinetserver.repository.OrganizationRepository;
 import org.scit4bits.tonarinetserver.repository.UserRepository;
 import org.scit4bits.tonarinetserver.repository.UserRoleRepository;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.MediaType;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.reactive.function.BodyInserters;
-import org.springframework.web.reactive.function.client.WebClient;
 
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
 
 /**
@@ -46,33 +36,7 @@ public class AuthService {
     private final JwtService jwtService;
     private final EmailService emailService;
     private final ChatRoomService chatRoomService;
-
-    @Value("${line.api.client_id}")
-    private String lineApiClientId;
-
-    @Value("${line.api.client_secret}")
-    private String lineApiClientSecret;
-
-    @Value("${line.api.redirect_uri}")
-    private String lineApiRedirectUri;
-
-    @Value("${google.api.client_id}")
-    private String googleApiClientId;
-
-    @Value("${google.api.client_secret}")
-    private String googleApiClientSecret;
-
-    @Value("${google.api.redirect_uri}")
-    private String googleApiRedirectUri;
-
-    @Value("${kakao.client_id}")
-    private String kakaoClientId;
-
-    @Value("${kakao.client_secret}")
-    private String kakaoClientSecret;
-
-    @Value("${kakao.redirect_uri}")
-    private String kakaoRedirectUri;
+    private final UserPrincipalCache userPrincipalCache;
 
     /**
      * OAuth 인증에 사용할 state와 nonce를 생성합니다.
@@ -86,163 +50,6 @@ public class AuthService {
         return new GenerateStateResponse(state, nonce);
     }
 
-    /**
-     * LINE OAuth 인증 코드를 사용하여 사용자 정보를 확인합니다.
-     * @param code 인증 코드
-     * @param state CSRF 방지를 위한 state 값
-     * @return 인증된 사용자 정보를 담은 응답 객체
-     */
-    public AuthCheckResponse getLineCheck(String code, String state) {
-        WebClient webClient = WebClient.create();
-
-        MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
-        formData.add("grant_type", "authorization_code");
-        formData.add("code", code);
-        formData.add("redirect_uri", lineApiRedirectUri);
-        formData.add("client_id", lineApiClientId);
-        formData.add("client_secret", lineApiClientSecret);
-
-        try {
-            // LINE 토큰 API 호출
-            String response = webClient.post()
-                    .uri("https://api.line.me/oauth2/v2.1/token")
-                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-                    .body(BodyInserters.fromFormData(formData))
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            log.debug("Line token response: {}", response);
-
-            JSONParser parser = new JSONParser(response);
-            LinkedHashMap<String, Object> jsonMap = parser.parseObject();
-            String idToken = (String) jsonMap.get("id_token");
-            log.debug("Extracted id_token: {}", idToken);
-
-            // JWT 토큰 디코딩
-            DecodedJWT decodedJWT = JWT.decode(idToken);
-            log.debug("Decoded JWT - Subject: {}, Issuer: {}, Audience: {}",
-                    decodedJWT.getSubject(), decodedJWT.getIssuer(), decodedJWT.getAudience());
-
-            // 클레임 추출
-            String userId = decodedJWT.getSubject();
-            String name = decodedJWT.getClaim("name").asString();
-            String picture = decodedJWT.getClaim("picture").asString();
-
-            log.debug("User ID: {}, Name: {}, Picture: {}", userId, name, picture);
-
-            return new AuthCheckResponse(userId, name, picture);
-        } catch (Exception e) {
-            log.error("JSON 응답 파싱 오류: {}", e.getMessage());
-            return null;
-        }
-    }
-
-    /**
-     * Google OAuth 인증 코드를 사용하여 사용자 정보를 확인합니다.
-     * @param code 인증 코드
-     * @param state CSRF 방지를 위한 state 값
-     * @return 인증된 사용자 정보를 담은 응답 객체
-     */
-    public AuthCheckResponse getGoogleCheck(String code, String state) {
-        WebClient webClient = WebClient.create();
-
-        MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
-        formData.add("code", code);
-        formData.add("client_id", googleApiClientId);
-        formData.add("client_secret", googleApiClientSecret);
-        formData.add("redirect_uri", googleApiRedirectUri);
-        formData.add("grant_type", "authorization_code");
-
-        try {
-            // Google 토큰 API 호출
-            String response = webClient.post()
-                    .uri("https://oauth2.googleapis.com/token")
-                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-                    .body(BodyInserters.fromFormData(formData))
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            log.debug("Google token response: {}", response);
-
-            JSONParser parser = new JSONParser(response);
-            LinkedHashMap<String, Object> jsonMap = parser.parseObject();
-            String idToken = (String) jsonMap.get("id_token");
-            log.debug("Extracted id_token: {}", idToken);
-
-            // JWT 토큰 디코딩
-            DecodedJWT decodedJWT = JWT.decode(idToken);
-            log.debug("Decoded JWT - Subject: {}, Issuer: {}, Audience: {}",
-                    decodedJWT.getSubject(), decodedJWT.getIssuer(), decodedJWT.getAudience());
-
-            // 클레임 추출
-            String userId = decodedJWT.getSubject();
-            String name = decodedJWT.getClaim("name").asString();
-            String email = decodedJWT.getClaim("email").asString();
-            String picture = decodedJWT.getClaim("picture").asString();
-
-            log.debug("User ID: {}, Name: {}, Picture: {}", userId, name, picture);
-            log.debug("Email: {}", email);
-            return new AuthCheckResponse(userId, name, picture, email);
-        } catch (Exception e) {
-            log.error("JSON 응답 파싱 오류: {}", e.getMessage());
-            return null;
-        }
-    }
-
-    /**
-     * Kakao OAuth 인증 코드를 사용하여 사용자 정보를 확인합니다.
-     * @param code 인증 코드
-     * @param state CSRF 방지를 위한 state 값
-     * @return 인증된 사용자 정보를 담은 응답 객체
-     */
-    public AuthCheckResponse getKakaoCheck(String code, String state) {
-        WebClient webClient = WebClient.create();
-
-        MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
-        formData.add("code", code);
-        formData.add("client_id", kakaoClientId);
-        formData.add("client_secret", kakaoClientSecret);
-        formData.add("redirect_uri", kakaoRedirectUri);
-        formData.add("grant_type", "authorization_code");
-
-        try {
-            // Kakao 토큰 API 호출
-            String response = webClient.post()
-                    .uri("https://kauth.kakao.com/oauth/token")
-                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-                    .body(BodyInserters.fromFormData(formData))
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            log.debug("Kakao token response: {}", response);
-
-            JSONParser parser = new JSONParser(response);
-            LinkedHashMap<String, Object> jsonMap = parser.parseObject();
-            String idToken = (String) jsonMap.get("id_token");
-            log.debug("Extracted id_token: {}", idToken);
-
-            // JWT 토큰 디코딩
-            DecodedJWT decodedJWT = JWT.decode(idToken);
-            log.debug("Decoded JWT - Subject: {}, Issuer: {}, Audience: {}",
-                    decodedJWT.getSubject(), decodedJWT.getIssuer(), decodedJWT.getAudience());
-
-            // 클레임 추출
-            String userId = decodedJWT.getSubject();
-            String name = decodedJWT.getClaim("nickname").asString();
-            String picture = decodedJWT.getClaim("picture").asString();
-
-            log.debug("User ID: {}, Name: {}, Picture: {}", userId, name, picture);
-
-            return new AuthCheckResponse(userId, name, picture);
-        } catch (Exception e) {
-            log.error("JSON 응답 파싱 오류: {}", e.getMessage());
-            return null;
-        }
-    }
-
     /**
      * 이메일 사용 가능 여부를 확인합니다.
      * @param email 확인할 이메일
@@ -352,6 +159,7 @@ public class AuthService {
         String token = jwtService.generateFindPasswordToken(email);
         user.setResetToken(token);
         userRepository.save(user);
+        userPrincipalCache.invalidate(user.getId());
 
         String resetLink = "https://tn.thxx.xyz/reset-password?token=" + token;
         emailService.sendPasswordResetEmail(user.getNationality().getCountryCode(), user.getEmail(), user.getName(),
@@ -382,6 +190,7 @@ public class AuthService {
         user.setPassword(passwordEncoder.encode(newPassword));
         user.setResetToken(null); // 사용 후 토큰 무효화
         userRepository.save(user);
+        userPrincipalCache.invalidate(user.getId());
         log.info("사용자 {}의 비밀번호 재설정 성공", email);
         return true;
     }
@@ -0,0 +1,66 @@
+package org.scit4bits.tonarinetserver.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * 업로드 파일 내용(blob)을 저장하는 저장소 인터페이스
+ * {@code storage.type} 설정에 따라 구현체(local, s3)가 선택됩니다.
+ * 키는 {@code blobs/ab/cd/abcd...} 형태의 상대 경로입니다.
+ */
+public interface BlobStore {
+
+    /**
+     * 로컬 파일의 내용을 지정한 키로 저장합니다.
+     * @param key 저장할 키
+     * @param source 저장할 내용이 담긴 로컬 파일 (구현에 따라 이동될 수 있으며, 남아 있으면 호출자가 삭제)
+     * @throws IOException 저장 실패 시
+     */
+    void put(String key, Path source) throws IOException;
+
+    /**
+     * 키에 해당하는 내용이 저장되어 있는지 확인합니다.
+     * @param key 확인할 키
+     * @return 저장되어 있으면 true
+     * @throws IOException 조회 실패 시
+     */
+    boolean exists(String key) throws IOException;
+
+    /**
+     * 저장된 내용을 읽는 스트림을 엽니다.
+     * @param key 읽을 키
+     * @return 입력 스트림 (호출자가 닫아야 함)
+     * @throws IOException 읽기 실패 시
+     */
+    InputStream open(String key) throws IOException;
+
+    /**
+     * 저장된 내용을 삭제합니다. 없으면 아무 작업도 하지 않습니다.
+     * @param key 삭제할 키
+     * @throws IOException 삭제 실패 시
+     */
+    void delete(String key) throws IOException;
+
+    /**
+     * 로컬 디스크에 저장된 경우 파일 경로를 반환합니다. (서버에서 직접 스트리밍할 때 사용)
+     * @param key 조회할 키
+     * @return 로컬 파일 경로 (로컬 저장소가 아니면 빈 Optional)
+     */
+    default Optional<Path> localPath(String key) {
+        return Optional.empty();
+    }
+
+    /**
+     * 클라이언트가 저장소에서 직접 내려받을 수 있는 서명된 URL을 생성합니다.
+     * @param key 내려받을 키
+     * @param contentDisposition 응답에 사용할 Content-Disposition 값
+     * @param contentType 응답에 사용할 Content-Type 값
+     * @return 서명된 다운로드 URL (지원하지 않으면 빈 Optional)
+     */
+    default Optional<URI> presignedDownloadUrl(String key, String contentDisposition, String contentType) {
+        return Optional.empty();
+    }
+}
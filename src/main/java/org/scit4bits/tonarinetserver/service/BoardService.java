@@ -8,7 +8,9 @@ import org.scit4bits.tonarinetserver.dto.BoardWriteRequestDTO;
 import org.scit4bits.tonarinetserver.dto.FileAttachmentRequestDTO;
 import org.scit4bits.tonarinetserver.entity.*;
 import org.scit4bits.tonarinetserver.entity.FileAttachment.FileType;
+import org.scit4bits.tonarinetserver.event.ArticleChangedEvent;
 import org.scit4bits.tonarinetserver.repository.*;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,7 +36,7 @@ public class BoardService {
     private final FileAttachmentService fileAttachmentService;
     private final TagRepository tagRepository;
     private final UserCountryService userCountryService;
-    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 사용자가 접근할 수 있는 모든 게시판 목록을 조회합니다.
@@ -136,6 +138,7 @@ public class BoardService {
                 .build();
 
         Article savedArticle = articleRepository.save(article);
+        eventPublisher.publishEvent(new ArticleChangedEvent(savedArticle.getId(), boardId, ArticleChangedEvent.ChangeType.CREATED));
 
         log.debug("게시글 생성 완료, ID: {}", savedArticle.getId());
 
@@ -166,26 +169,7 @@ public class BoardService {
             }
         }
 
-        // 공지사항인 경우 알림 발송
-        if (savedArticle.getCategory().equals("notice")) {
-            log.debug("공지사항 게시글에 대한 알림 발송: {}", savedArticle.getTitle());
-            if (board.getId() == 0) {
-                // 전체 공지
-                log.debug("전체 공지, 모든 사용자에게 알림");
-                List<User> allUsers = userRepository.findAll();
-                for (User u : allUsers) {
-                    notificationService.addNotification(u.getId(), "{\"messageType\": \"newNotice\", \"title\": \"" + article.getTitle() + "\"}", "/board/view/" + savedArticle.getId());
-                }
-            } else if (board.getOrgId() != null) {
-                // 조직 공지
-                log.debug("조직 공지, 조직 {}의 모든 사용자에게 알림", board.getOrgId());
-                Organization organization = organizationRepository.findById(board.getOrgId()).get();
-                List<User> orgUsers = organization.getUsers();
-                for (User u : orgUsers) {
-                    notificationService.addNotification(u.getId(), "{\"messageType\": \"newOrgNotice\", \"title\": \"" + article.getTitle() + "\"}", "/board/view/" + savedArticle.getId());
-                }
-            }
-        }
+        // 공지사항 알림은 커밋 이후 NotificationFanoutService가 비동기로 발송합니다.
 
         return ArticleDTO.fromEntity(
                 savedArticle
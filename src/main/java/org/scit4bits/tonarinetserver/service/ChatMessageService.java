@@ -15,8 +15,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 채팅 메시지 관련 비즈니스 로직을 처리하는 서비스입니다.
@@ -33,6 +36,11 @@ public class ChatMessageService {
     private final UserRepository userRepository;
     private final AIService aiService;
 
+    /** 커서 조회 시 한 번에 가져올 수 있는 최대 메시지 수 */
+    private static final int MAX_CURSOR_PAGE_SIZE = 200;
+    /** 전체 내역 스트리밍 시 한 번에 조회하는 메시지 수 */
+    private static final int EXPORT_CHUNK_SIZE = 500;
+
     /**
      * 채팅방에 메시지를 전송합니다.
      * @param requestDTO 메시지 요청 정보
@@ -57,7 +65,6 @@ public class ChatMessageService {
                 .chatroomId(requestDTO.getChatroomId())
                 .senderId(senderId)
                 .message(requestDTO.getMessage())
-                .isRead(false)
                 .build();
         chatMessageRepository.save(chatMessage);
 
@@ -96,6 +103,68 @@ public class ChatMessageService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 메시지 ID 커서를 기준으로 특정 채팅방의 메시지를 조회합니다. (키셋 페이징)
+     * before가 주어지면 그보다 이전 메시지를, after가 주어지면 그보다 이후 메시지를 조회하며,
+     * 둘 다 없으면 가장 최근 메시지를 조회합니다. 결과는 항상 ID 오름차순(시간순)입니다.
+     * @param chatroomId 채팅방 ID
+     * @param before 이 메시지 ID보다 이전 메시지를 조회 (선택)
+     * @param after 이 메시지 ID보다 이후 메시지를 조회 (선택)
+     * @param size 조회할 메시지 수
+     * @param user 현재 로그인한 사용자 정보
+     * @return ChatMessageResponseDTO 리스트
+     */
+    @Transactional(readOnly = true)
+    public List<ChatMessageResponseDTO> getMessagesByCursor(Integer chatroomId, Integer before, Integer after,
+                                                            Integer size, User user) {
+        // 사용자가 채팅방의 멤버인지 확인
+        if (!userChatRoomRepository.existsByIdUserIdAndIdChatroomId(user.getId(), chatroomId)) {
+            throw new RuntimeException("사용자가 이 채팅방의 멤버가 아닙니다.");
+        }
+
+        Pageable limit = PageRequest.of(0, Math.min(size != null ? size : 50, MAX_CURSOR_PAGE_SIZE));
+        List<ChatMessage> messages;
+        if (after != null) {
+            messages = chatMessageRepository.findByChatroomIdAndIdGreaterThanOrderByIdAsc(chatroomId, after, limit);
+        } else {
+            messages = new ArrayList<>(before != null
+                    ? chatMessageRepository.findByChatroomIdAndIdLessThanOrderByIdDesc(chatroomId, before, limit)
+                    : chatMessageRepository.findByChatroomIdOrderByIdDesc(chatroomId, limit));
+            Collections.reverse(messages);
+        }
+
+        return messages.stream()
+                .map(ChatMessageResponseDTO::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 특정 채팅방의 전체 메시지를 시간순으로 스트리밍합니다.
+     * 메시지를 일정 크기씩 키셋 페이징으로 읽어오므로 대화 길이와 관계없이 메모리 사용량이 일정합니다.
+     * 반환된 Stream은 소비될 때 다음 묶음을 조회합니다.
+     * @param chatroomId 채팅방 ID
+     * @param user 현재 로그인한 사용자 정보
+     * @return ChatMessageResponseDTO 스트림
+     */
+    @Transactional(readOnly = true)
+    public Stream<ChatMessageResponseDTO> streamAllMessagesByChatRoom(Integer chatroomId, User user) {
+        // 사용자가 채팅방의 멤버인지 확인
+        if (!userChatRoomRepository.existsByIdUserIdAndIdChatroomId(user.getId(), chatroomId)) {
+            throw new RuntimeException("사용자가 이 채팅방의 멤버가 아닙니다.");
+        }
+
+        Pageable chunk = PageRequest.of(0, EXPORT_CHUNK_SIZE);
+        return Stream.iterate(
+                        chatMessageRepository.findByChatroomIdAndIdGreaterThanOrderByIdAsc(chatroomId, 0, chunk),
+                        messages -> !messages.isEmpty(),
+                        messages -> messages.size() < EXPORT_CHUNK_SIZE
+                                ? List.of()
+                                : chatMessageRepository.findByChatroomIdAndIdGreaterThanOrderByIdAsc(
+                                        chatroomId, messages.get(messages.size() - 1).getId(), chunk))
+                .flatMap(List::stream)
+                .map(ChatMessageResponseDTO::fromEntity);
+    }
+
     /**
      * 특정 채팅방의 모든 메시지를 조회합니다. (생성 시간순)
      * @param chatroomId 채팅방 ID
@@ -122,14 +191,10 @@ public class ChatMessageService {
      * @param user 현재 로그인한 사용자 정보
      */
     public void markMessagesAsRead(Integer chatroomId, User user) {
-        // 사용자가 채팅방의 멤버인지 확인
-        if (!userChatRoomRepository.existsByIdUserIdAndIdChatroomId(user.getId(), chatroomId)) {
+        // 사용자의 읽음 위치를 최신 메시지로 이동 (멤버가 아니면 갱신되는 행이 없음)
+        if (userChatRoomRepository.markAllAsRead(user.getId(), chatroomId) == 0) {
             throw new RuntimeException("사용자가 이 채팅방의 멤버가 아닙니다.");
         }
-
-        List<ChatMessage> unreadMessages = chatMessageRepository.findByChatroomIdAndIsReadFalse(chatroomId);
-        unreadMessages.forEach(message -> message.setIsRead(true));
-        chatMessageRepository.saveAll(unreadMessages);
     }
 
     /**
@@ -18,7 +18,11 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -176,14 +180,26 @@ public class ChatRoomService {
 
         ChatRoom updatedChatRoom = chatRoomRepository.save(existingChatRoom);
 
-        // 사용자 멤버십 수정
+        // 사용자 멤버십 수정 (남아 있는 멤버의 참여 정보와 읽음 위치는 그대로 유지)
         if (requestDTO.getUserIds() != null) {
-            // 기존 사용자 관계 삭제 (방장 제외)
-            userChatRoomRepository.deleteByChatroomIdAndUserIdNot(id, existingChatRoom.getLeaderUserId());
+            Integer leaderUserId = existingChatRoom.getLeaderUserId();
+            Set<Integer> requestedUserIds = new HashSet<>(requestDTO.getUserIds());
+            requestedUserIds.remove(leaderUserId); // 방장은 제거하거나 다시 추가하지 않도록 함
+            Set<Integer> currentUserIds = new HashSet<>(userChatRoomRepository.findUserIdsByChatroomId(id));
+            currentUserIds.remove(leaderUserId);
+
+            // 요청 목록에서 빠진 사용자만 삭제
+            Set<Integer> removedUserIds = new HashSet<>(currentUserIds);
+            removedUserIds.removeAll(requestedUserIds);
+            if (!removedUserIds.isEmpty()) {
+                userChatRoomRepository.deleteByChatroomIdAndUserIdIn(id, removedUserIds);
+            }
 
-            // 새로운 사용자 관계 추가
-            for (Integer userId : requestDTO.getUserIds()) {
-                if (!userId.equals(existingChatRoom.getLeaderUserId())) { // 방장을 다시 추가하지 않도록 함
+            // 새로 추가된 사용자만 현재까지의 메시지를 읽은 것으로 시작
+            requestedUserIds.removeAll(currentUserIds);
+            if (!requestedUserIds.isEmpty()) {
+                Integer latestMessageId = chatMessageRepository.findLatestMessageId(id);
+                for (Integer userId : requestedUserIds) {
                     User user = userRepository.findById(userId)
                             .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다. ID: " + userId));
 
@@ -194,6 +210,7 @@ public class ChatRoomService {
                                     .build())
                             .user(user)
                             .chatroom(updatedChatRoom)
+                            .lastReadMessageId(latestMessageId)
                             .build();
                     userChatRoomRepository.save(userRelation);
                 }
@@ -242,6 +259,7 @@ public class ChatRoomService {
             throw new RuntimeException("사용자가 이미 이 채팅방에 있습니다.");
         }
 
+        // 참여 이전의 메시지가 읽지 않은 메시지로 집계되지 않도록 읽음 위치를 현재 마지막 메시지로 설정
         UserChatRoom userRelation = UserChatRoom.builder()
                 .id(UserChatRoom.UserChatRoomId.builder()
                         .userId(currentUser.getId())
@@ -249,6 +267,7 @@ public class ChatRoomService {
                         .build())
                 .user(currentUser)
                 .chatroom(chatRoom)
+                .lastReadMessageId(chatMessageRepository.findLatestMessageId(chatRoomId))
                 .build();
         userChatRoomRepository.save(userRelation);
     }
@@ -333,18 +352,23 @@ public class ChatRoomService {
      */
     @Transactional(readOnly = true)
     public int getUnreadMessagesCount(Integer userId) {
-        // 사용자가 멤버인 모든 채팅방을 가져옵니다.
-        List<ChatRoom> userChatRooms = chatRoomRepository.findByUserId(userId);
-
-        int totalUnreadCount = 0;
+        return getUnreadMessagesCountByRoom(userId).values().stream()
+                .mapToInt(Long::intValue)
+                .sum();
+    }
 
-        // 각 채팅방에 대해 사용자가 보내지 않은 읽지 않은 메시지를 계산합니다.
-        for (ChatRoom chatRoom : userChatRooms) {
-            long unreadInRoom = chatMessageRepository.countByChatroomIdAndIsReadFalseAndSenderIdNot(
-                    chatRoom.getId(), userId);
-            totalUnreadCount += unreadInRoom;
+    /**
+     * 사용자가 참여한 채팅방별 읽지 않은 메시지 개수를 조회합니다.
+     * 모든 채팅방의 개수를 하나의 집계 쿼리로 계산하며, 읽지 않은 메시지가 없는 채팅방은 포함되지 않습니다.
+     * @param userId 사용자 ID
+     * @return 채팅방 ID를 키로 하는 읽지 않은 메시지 개수 맵
+     */
+    @Transactional(readOnly = true)
+    public Map<Integer, Long> getUnreadMessagesCountByRoom(Integer userId) {
+        Map<Integer, Long> unreadCounts = new HashMap<>();
+        for (Object[] row : chatMessageRepository.countUnreadMessagesGroupByChatroom(userId)) {
+            unreadCounts.put((Integer) row[0], (Long) row[1]);
         }
-
-        return totalUnreadCount;
+        return unreadCounts;
     }
 }
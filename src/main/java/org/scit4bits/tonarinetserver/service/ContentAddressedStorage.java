@@ -0,0 +1,227 @@
+package org.scit4bits.tonarinetserver.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.scit4bits.tonarinetserver.repository.FileAttachmentRepository;
+import org.scit4bits.tonarinetserver.repository.OrphanBlobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.function.Consumer;
+
+/**
+ * 업로드 파일을 내용 해시(SHA-256) 기준으로 저장하는 서비스입니다.
+ * 파일은 {@link BlobStore}에 {@code blobs/ab/cd/abcd...} 형태의 키로 저장되며,
+ * 같은 내용의 파일은 한 번만 저장하고 여러 FileAttachment 행이 함께 참조합니다.
+ * 참조 수는 같은 content_hash를 가진 FileAttachment 행의 수입니다.
+ * <p>
+ * 저장소는 여러 서버 인스턴스가 함께 쓰므로, 참조가 0이 된 파일은 바로 지우지 않고 orphanblob 테이블에 기록합니다.
+ * 유예 시간이 지난 뒤에도 참조가 없을 때만 삭제하며, 같은 파일을 재사용하는 업로드는 기록을 먼저 지워 삭제를 취소합니다.
+ * 따라서 다른 인스턴스에서 아직 커밋되지 않은 업로드가 재사용 중인 파일은 유예 시간 안에 커밋되는 한 삭제되지 않습니다.
+ */
+@Service
+@Slf4j
+public class ContentAddressedStorage {
+
+    private final FileAttachmentRepository fileAttachmentRepository;
+    private final OrphanBlobRepository orphanBlobRepository;
+    private final BlobStore blobStore;
+    private final TransactionTemplate newTransaction;
+
+    @Value("${upload.path:c:/upload}")
+    private String uploadPath;
+
+    /** 참조가 0이 된 파일을 삭제하기 전 유예 시간 (업로드 트랜잭션의 최대 길이보다 길어야 함) */
+    @Value("${storage.gc.grace-period:1h}")
+    private Duration gracePeriod;
+
+    /** 한 번의 정리 작업에서 삭제할 최대 파일 수 */
+    @Value("${storage.gc.batch-size:100}")
+    private int gcBatchSize;
+
+    /**
+     * ContentAddressedStorage 생성자
+     * @param fileAttachmentRepository 파일 첨부 리포지토리
+     * @param orphanBlobRepository 삭제 대기 파일 리포지토리
+     * @param blobStore 파일 내용 저장소
+     * @param transactionManager 삭제 대기 기록용 트랜잭션 생성에 사용할 트랜잭션 매니저
+     */
+    public ContentAddressedStorage(FileAttachmentRepository fileAttachmentRepository,
+                                   OrphanBlobRepository orphanBlobRepository, BlobStore blobStore,
+                                   PlatformTransactionManager transactionManager) {
+        this.fileAttachmentRepository = fileAttachmentRepository;
+        this.orphanBlobRepository = orphanBlobRepository;
+        this.blobStore = blobStore;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 스트림을 로컬 임시 파일에 쓰면서 해시를 계산한 뒤 저장소에 내용 주소 키로 저장합니다.
+     * 같은 내용의 파일이 이미 있으면 임시 파일을 버리고 기존 파일을 재사용합니다.
+     * 현재 트랜잭션이 롤백되면 새로 저장한 파일을 삭제 대기 목록에 올립니다.
+     * @param in 업로드 파일 입력 스트림
+     * @return 저장된 파일 정보
+     * @throws IOException 파일 쓰기 실패 시
+     */
+    public StoredBlob store(InputStream in) throws IOException {
+        Path tempDir = Files.createDirectories(Paths.get(uploadPath, "tmp"));
+        Path tempFile = Files.createTempFile(tempDir, "upload-", ".part");
+        String hash;
+        long size;
+        try {
+            MessageDigest digest = newSha256Digest();
+            try (InputStream digestIn = new DigestInputStream(in, digest)) {
+                Files.copy(digestIn, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            hash = HexFormat.of().formatHex(digest.digest());
+            size = Files.size(tempFile);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+
+        String key = keyOf(hash);
+        boolean created;
+        try {
+            // 존재 여부를 확인하기 전에 삭제 대기 기록을 지웁니다.
+            // 정리 작업이 이 파일을 삭제하는 중이면 그 작업이 커밋될 때까지 기다리므로, 이후의 exists()는 삭제 결과를 봅니다.
+            newTransaction.executeWithoutResult(status -> orphanBlobRepository.unmark(hash));
+            if (blobStore.exists(key)) {
+                created = false;
+            } else {
+                blobStore.put(key, tempFile);
+                created = true;
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+
+        if (created) {
+            afterTransaction(committed -> {
+                if (!committed) {
+                    markIfUnreferenced(hash);
+                }
+            }, () -> {
+                // 트랜잭션 밖에서 저장한 경우 롤백될 일이 없으므로 할 일이 없습니다.
+            });
+        }
+
+        log.debug("파일 저장 완료 - 해시 {}, 크기 {}, 중복 여부 {}", hash, size, !created);
+        return new StoredBlob(hash, key, size, !created);
+    }
+
+    /**
+     * 파일 첨부 행이 삭제된 뒤 호출하여, 트랜잭션 커밋 후 더 이상 참조되지 않는 파일을 삭제 대기 목록에 올립니다.
+     * @param contentHash 파일 내용 해시
+     */
+    public void release(String contentHash) {
+        afterTransaction(committed -> {
+            if (committed) {
+                markIfUnreferenced(contentHash);
+            }
+        }, () -> markIfUnreferenced(contentHash));
+    }
+
+    /**
+     * 유예 시간이 지난 삭제 대기 파일 중 여전히 참조되지 않는 파일을 삭제합니다.
+     * 대기 행을 잠근 상태로 참조 수를 다시 확인하고 삭제하므로, 같은 파일을 재사용하려는 업로드는 삭제가 끝날 때까지 기다립니다.
+     */
+    @Scheduled(fixedDelayString = "${storage.gc.interval-ms:300000}")
+    public void purgeOrphans() {
+        LocalDateTime orphanedBefore = LocalDateTime.now().minus(gracePeriod);
+        Integer purged = newTransaction.execute(status -> {
+            int count = 0;
+            for (String hash : orphanBlobRepository.findDueForUpdate(orphanedBefore, gcBatchSize)) {
+                if (fileAttachmentRepository.countByContentHash(hash) == 0) {
+                    try {
+                        blobStore.delete(keyOf(hash));
+                        count++;
+                    } catch (IOException e) {
+                        // 삭제에 실패한 파일은 대기 목록에 남겨 다음 주기에 다시 시도합니다.
+                        log.error("파일 삭제 실패 - 해시 {}: {}", hash, e.getMessage());
+                        continue;
+                    }
+                }
+                orphanBlobRepository.deleteById(hash);
+            }
+            return count;
+        });
+        if (purged != null && purged > 0) {
+            log.info("참조되지 않는 파일 {}개 삭제", purged);
+        }
+    }
+
+    /**
+     * 내용 해시에 해당하는 저장소 키를 반환합니다.
+     * @param contentHash 파일 내용 해시
+     * @return 저장소 키
+     */
+    public String keyOf(String contentHash) {
+        return "blobs/" + contentHash.substring(0, 2) + "/" + contentHash.substring(2, 4) + "/" + contentHash;
+    }
+
+    private void markIfUnreferenced(String hash) {
+        try {
+            newTransaction.executeWithoutResult(status -> {
+                if (fileAttachmentRepository.countByContentHash(hash) == 0) {
+                    orphanBlobRepository.markOrphaned(hash);
+                    log.debug("참조되지 않는 파일 삭제 대기: {}", hash);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("파일 삭제 대기 기록 실패 - 해시 {}: {}", hash, e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 끝난 뒤 작업을 실행합니다. 트랜잭션이 없으면 즉시 실행합니다.
+     */
+    private void afterTransaction(Consumer<Boolean> onCompletion, Runnable withoutTransaction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            withoutTransaction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                onCompletion.accept(status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    private MessageDigest newSha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 저장된 파일 정보
+     * @param contentHash 파일 내용의 SHA-256 해시
+     * @param key 저장소 키
+     * @param size 파일 크기 (byte)
+     * @param deduplicated 이미 저장된 파일을 재사용했는지 여부
+     */
+    public record StoredBlob(String contentHash, String key, long size, boolean deduplicated) {
+    }
+}
@@ -0,0 +1,42 @@
+package org.scit4bits.tonarinetserver.service;
+
+import lombok.RequiredArgsConstructor;
+import org.scit4bits.tonarinetserver.entity.Article;
+import org.scit4bits.tonarinetserver.repository.ArticleRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+/**
+ * LIKE 쿼리를 사용하는 데이터베이스 기반 게시글 검색 엔진입니다.
+ * 관련도 순위를 지원하지 않으므로 정렬이 없으면 ID 오름차순으로 조회합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "article.search.engine", havingValue = "database")
+public class DatabaseArticleSearchEngine implements ArticleSearchEngine {
+
+    private final ArticleRepository articleRepository;
+
+    @Override
+    public Page<Article> search(Integer boardId, String field, String search, String category, Pageable pageable) {
+        if (pageable.getSort().isUnsorted()) {
+            pageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by("id"));
+        }
+
+        return switch (field) {
+            case FIELD_TITLE -> category != null
+                    ? articleRepository.findByBoardIdAndCategoryAndTitleContainingIgnoreCase(boardId, category, search, pageable)
+                    : articleRepository.findByBoardIdAndTitleContainingIgnoreCaseAndCategoryNot(boardId, search, "counsel", pageable);
+            case FIELD_CONTENTS -> category != null
+                    ? articleRepository.findByBoardIdAndCategoryAndContentsContainingIgnoreCase(boardId, category, search, pageable)
+                    : articleRepository.findByBoardIdAndContentsContainingIgnoreCaseAndCategoryNot(boardId, search, "counsel", pageable);
+            default -> category != null
+                    ? articleRepository.findByBoardIdAndCategoryAndAllFieldsContaining(boardId, category, search, pageable)
+                    : articleRepository.findByBoardIdAndAllFieldsContainingExcludingCounsel(boardId, search, pageable);
+        };
+    }
+}
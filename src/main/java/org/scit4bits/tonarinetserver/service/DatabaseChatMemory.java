@@ -0,0 +1,188 @@
+package org.scit4bits.tonarinetserver.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.scit4bits.tonarinetserver.entity.ChatMessage;
+import org.scit4bits.tonarinetserver.repository.ChatMessageRepository;
+import org.springframework.ai.chat.memory.ChatMemory;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.MessageType;
+import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 채팅방의 AI 대화 기록을 chatmessage 테이블에서 읽어오는 ChatMemory 구현입니다.
+ * 대화 ID는 채팅방 ID이며, 메시지 원본은 DB에 저장되어 있으므로 이 클래스는 최근 메시지 창만 캐싱합니다.
+ * 캐시 항목은 반영한 마지막 메시지 ID를 함께 보관하고, 조회할 때마다 채팅방의 최신 메시지 ID와 비교하여
+ * 다른 서버 인스턴스에서 저장된 메시지도 새로 추가된 메시지만 읽어와 반영합니다.
+ * 오래 사용하지 않은 대화는 만료 시간(TTL)과 전체 크기(byte) 상한에 따라 제거되므로
+ * AI 채팅방 수가 많아져도 힙 사용량이 일정하게 유지되고 서버를 재시작해도 대화 맥락이 유지됩니다.
+ */
+@Service
+@Slf4j
+public class DatabaseChatMemory implements ChatMemory {
+
+    /** AI 응답 메시지의 발신자 ID (system) */
+    private static final int AI_SENDER_ID = 0;
+    /** 캐시 항목과 메시지 객체의 대략적인 고정 크기 (byte) */
+    private static final int CONVERSATION_OVERHEAD = 128;
+    private static final int MESSAGE_OVERHEAD = 96;
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final Cache<String, Conversation> cache;
+    private final int maxMessages;
+
+    /**
+     * DatabaseChatMemory 생성자
+     * @param chatMessageRepository 채팅 메시지 리포지토리
+     * @param meterRegistry 캐시 메트릭 등록에 사용할 MeterRegistry
+     * @param maxMessages 대화마다 AI에게 전달할 최근 메시지 수
+     * @param maxBytes 캐시에 보관할 대화 기록의 전체 크기 상한 (byte)
+     * @param ttl 사용하지 않은 대화를 캐시에서 제거할 시간
+     */
+    public DatabaseChatMemory(ChatMessageRepository chatMessageRepository, MeterRegistry meterRegistry,
+                              @Value("${ai.chat.memory.max-messages:20}") int maxMessages,
+                              @Value("${ai.chat.memory.max-bytes:67108864}") long maxBytes,
+                              @Value("${ai.chat.memory.ttl:30m}") Duration ttl) {
+        this.chatMessageRepository = chatMessageRepository;
+        this.maxMessages = maxMessages;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String conversationId, Conversation conversation) -> conversation.bytes())
+                .expireAfterAccess(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "ai.chat.memory");
+    }
+
+    /**
+     * 사용자 메시지와 AI 응답은 ChatMessageService가 chatmessage 테이블에 저장하고,
+     * 대화 기록은 DB에 저장된 메시지(ID)를 기준으로 만들어지므로 여기서는 아무것도 추가하지 않습니다.
+     * 내용이 아닌 메시지 ID로 기록을 구성하므로 같은 내용의 메시지가 연속되어도 빠지거나 중복되지 않습니다.
+     */
+    @Override
+    public void add(String conversationId, List<Message> messages) {
+    }
+
+    /**
+     * 대화 기록을 조회합니다. 캐시된 기록이 채팅방의 최신 메시지까지 반영하지 못했으면 새 메시지를 읽어와 갱신합니다.
+     * 아직 답변되지 않은 마지막 사용자 메시지는 현재 요청으로 전달되므로 기록에서 제외합니다.
+     * @param conversationId 대화 ID (채팅방 ID)
+     * @return 최근 메시지 목록
+     */
+    @Override
+    public List<Message> get(String conversationId) {
+        Integer chatroomId;
+        try {
+            chatroomId = Integer.valueOf(conversationId);
+        } catch (NumberFormatException e) {
+            return List.of();
+        }
+
+        int latestMessageId = chatMessageRepository.findLatestMessageId(chatroomId);
+        Conversation conversation = cache.getIfPresent(conversationId);
+        if (conversation == null || conversation.lastMessageId() != latestMessageId) {
+            Conversation refreshed = refresh(chatroomId, conversation, latestMessageId);
+            // 동시에 갱신한 경우 더 최신 메시지까지 반영한 기록을 남김
+            conversation = cache.asMap().merge(conversationId, refreshed,
+                    (current, candidate) -> candidate.lastMessageId() >= current.lastMessageId() ? candidate : current);
+        }
+
+        List<Message> messages = conversation.messages();
+        if (!messages.isEmpty() && messages.get(messages.size() - 1).getMessageType() == MessageType.USER) {
+            return messages.subList(0, messages.size() - 1);
+        }
+        return messages;
+    }
+
+    /**
+     * 캐시에서 대화 기록을 제거합니다. 원본 메시지는 DB에 남아 있으므로 다음 사용 시 다시 읽어옵니다.
+     * @param conversationId 대화 ID (채팅방 ID)
+     */
+    @Override
+    public void clear(String conversationId) {
+        cache.invalidate(conversationId);
+    }
+
+    /**
+     * 캐시된 기록 이후에 저장된 메시지만 읽어 기록에 추가합니다.
+     * 캐시된 기록이 없거나, 메시지가 삭제되었거나, 새 메시지가 창 크기보다 많으면 최근 메시지를 전부 다시 읽어옵니다.
+     */
+    private Conversation refresh(Integer chatroomId, Conversation cached, int latestMessageId) {
+        if (cached == null || latestMessageId < cached.lastMessageId()) {
+            return load(chatroomId);
+        }
+        List<ChatMessage> added = chatMessageRepository.findByChatroomIdAndIdGreaterThanOrderByIdAsc(chatroomId,
+                cached.lastMessageId(), PageRequest.of(0, maxMessages));
+        if (added.size() >= maxMessages) {
+            return load(chatroomId);
+        }
+        List<Message> window = new ArrayList<>(cached.messages());
+        int lastMessageId = cached.lastMessageId();
+        for (ChatMessage chatMessage : added) {
+            append(window, chatMessage);
+            lastMessageId = Math.max(lastMessageId, chatMessage.getId());
+        }
+        return Conversation.of(trim(window), lastMessageId);
+    }
+
+    /**
+     * 채팅방의 최근 메시지를 DB에서 읽어 대화 기록을 생성합니다.
+     */
+    private Conversation load(Integer chatroomId) {
+        List<ChatMessage> recent = chatMessageRepository.findByChatroomIdOrderByIdDesc(chatroomId,
+                PageRequest.of(0, maxMessages));
+        List<Message> window = new ArrayList<>(recent.size());
+        for (int i = recent.size() - 1; i >= 0; i--) {
+            append(window, recent.get(i));
+        }
+        int lastMessageId = recent.isEmpty() ? 0 : recent.get(0).getId();
+        log.debug("채팅방 {}의 AI 대화 기록 {}건을 DB에서 읽어왔습니다.", chatroomId, window.size());
+        return Conversation.of(window, lastMessageId);
+    }
+
+    /**
+     * 저장된 메시지를 대화 기록에 추가합니다. (AI 응답 생성 중 알림 메시지는 제외)
+     */
+    private static void append(List<Message> window, ChatMessage chatMessage) {
+        if (chatMessage.getSenderId() == AI_SENDER_ID) {
+            if (!AIService.PENDING_NOTICE.equals(chatMessage.getMessage())) {
+                window.add(new AssistantMessage(chatMessage.getMessage()));
+            }
+        } else {
+            window.add(new UserMessage(chatMessage.getMessage()));
+        }
+    }
+
+    private List<Message> trim(List<Message> window) {
+        return window.size() > maxMessages ? window.subList(window.size() - maxMessages, window.size()) : window;
+    }
+
+    /**
+     * 캐시에 보관하는 대화 기록 (변경 불가)
+     * @param messages 최근 메시지 목록
+     * @param lastMessageId 기록에 반영한 마지막 메시지 ID
+     * @param bytes 대략적인 메모리 사용량 (byte)
+     */
+    private record Conversation(List<Message> messages, int lastMessageId, int bytes) {
+        static Conversation of(List<Message> messages, int lastMessageId) {
+            long bytes = CONVERSATION_OVERHEAD;
+            for (Message message : messages) {
+                String text = message.getText();
+                bytes += MESSAGE_OVERHEAD + (text != null ? text.length() * 2L : 0);
+            }
+            return new Conversation(List.copyOf(messages), lastMessageId,
+                    (int) Math.min(bytes, Integer.MAX_VALUE));
+        }
+    }
+}
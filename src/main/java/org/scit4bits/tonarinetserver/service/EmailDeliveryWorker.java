@@ -0,0 +1,283 @@
+package org.scit4bits.tonarinetserver.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.scit4bits.tonarinetserver.entity.OutboundEmail;
+import org.scit4bits.tonarinetserver.repository.OutboundEmailRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * outboundemail 테이블에 쌓인 이메일을 주기적으로 가져와 워커 스레드 풀에서 발송하는 서비스입니다.
+ * 발송에 실패한 이메일은 지수 백오프로 다시 시도하고, 최대 시도 횟수를 넘기면 FAILED로 남깁니다.
+ * 이메일은 DB에 저장되므로 SMTP 서버 장애나 서버 재시작 중에도 유실되지 않습니다.
+ */
+@Service
+@Slf4j
+public class EmailDeliveryWorker {
+
+    /** last_error에 저장할 실패 사유의 최대 길이 */
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboundEmailRepository outboundEmailRepository;
+    private final OutboundEmailSender outboundEmailSender;
+    private final ThreadPoolTaskExecutor emailExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int workers;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+    private final Duration retention;
+
+    /** 발송 중인 묶음 수 */
+    private final AtomicInteger inFlight = new AtomicInteger();
+    /** 마지막 폴링 시점의 대기 이메일 수 */
+    private final AtomicLong queueDepth = new AtomicLong();
+    private volatile boolean stopping = false;
+
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+    private final Counter failedCounter;
+    private final Timer deliveryLag;
+
+    /**
+     * EmailDeliveryWorker 생성자
+     * @param outboundEmailRepository 발송 대기 이메일 리포지토리
+     * @param outboundEmailSender SMTP 발송 컴포넌트
+     * @param emailExecutor 이메일 발송 스레드 풀
+     * @param transactionManager 트랜잭션 매니저
+     * @param meterRegistry 메트릭 등록에 사용할 MeterRegistry
+     * @param workers 동시에 발송할 수 있는 묶음 수
+     * @param batchSize 한 SMTP 연결로 보낼 최대 이메일 수
+     * @param maxAttempts 최대 발송 시도 횟수
+     * @param initialBackoff 첫 재시도까지의 대기 시간
+     * @param maxBackoff 재시도 대기 시간의 상한
+     * @param lease 발송 중 상태의 점유 시간 (이 시간이 지나도록 완료되지 않으면 다시 발송)
+     * @param retention 발송 완료된 이메일의 보관 기간
+     */
+    public EmailDeliveryWorker(OutboundEmailRepository outboundEmailRepository,
+                               OutboundEmailSender outboundEmailSender,
+                               @Qualifier("emailExecutor") ThreadPoolTaskExecutor emailExecutor,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${email.queue.workers:2}") int workers,
+                               @Value("${email.queue.batch-size:20}") int batchSize,
+                               @Value("${email.queue.max-attempts:8}") int maxAttempts,
+                               @Value("${email.queue.retry.initial-backoff:30s}") Duration initialBackoff,
+                               @Value("${email.queue.retry.max-backoff:1h}") Duration maxBackoff,
+                               @Value("${email.queue.lease:5m}") Duration lease,
+                               @Value("${email.queue.retention:7d}") Duration retention) {
+        this.outboundEmailRepository = outboundEmailRepository;
+        this.outboundEmailSender = outboundEmailSender;
+        this.emailExecutor = emailExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+        this.retention = retention;
+
+        Gauge.builder("email.queue.depth", queueDepth, AtomicLong::get)
+                .description("발송 대기 중인 이메일 수")
+                .register(meterRegistry);
+        Gauge.builder("email.queue.in-flight", inFlight, AtomicInteger::get)
+                .description("발송 중인 이메일 묶음 수")
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("email.delivery")
+                .tag("outcome", "sent")
+                .description("이메일 발송 결과")
+                .register(meterRegistry);
+        this.retryCounter = Counter.builder("email.delivery")
+                .tag("outcome", "retry")
+                .description("이메일 발송 결과")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("email.delivery")
+                .tag("outcome", "failed")
+                .description("이메일 발송 결과")
+                .register(meterRegistry);
+        this.deliveryLag = Timer.builder("email.delivery.lag")
+                .description("이메일이 큐에 등록된 뒤 발송되기까지 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 발송 시간이 된 이메일을 묶음 단위로 가져와 워커 스레드에 넘깁니다.
+     * 모든 워커가 사용 중이면 다음 주기까지 DB에 그대로 둡니다.
+     */
+    @Scheduled(fixedDelayString = "${email.queue.poll-interval-ms:1000}")
+    public void poll() {
+        try {
+            queueDepth.set(outboundEmailRepository.countByStatus(OutboundEmail.Status.PENDING));
+            while (!stopping && inFlight.get() < workers) {
+                List<OutboundEmail> batch = claim();
+                if (batch.isEmpty()) {
+                    return;
+                }
+                inFlight.incrementAndGet();
+                try {
+                    emailExecutor.execute(() -> deliver(batch));
+                } catch (TaskRejectedException e) {
+                    // 점유 시간이 지나면 다음 폴링에서 다시 가져옴
+                    inFlight.decrementAndGet();
+                    log.warn("이메일 발송 작업 거절, 점유 만료 후 재시도합니다: {}", e.getMessage());
+                    return;
+                }
+                if (batch.size() < batchSize) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.error("발송 대기 이메일 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 발송 완료 이메일을 삭제합니다.
+     */
+    @Scheduled(cron = "${email.queue.cleanup-cron:0 0 5 * * *}")
+    public void purgeSent() {
+        int deleted = outboundEmailRepository.deleteSentBefore(LocalDateTime.now().minus(retention));
+        if (deleted > 0) {
+            log.info("발송 완료 이메일 {}건 삭제", deleted);
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 새 묶음을 가져오지 않도록 합니다.
+     * 발송 중인 묶음은 스레드 풀 종료 시 완료를 기다립니다.
+     */
+    @PreDestroy
+    public void stop() {
+        stopping = true;
+    }
+
+    /**
+     * 발송할 이메일을 잠그고 SENDING 상태로 바꿉니다.
+     * 점유 시간이 지난 SENDING 이메일 중 이미 최대 시도 횟수에 도달한 이메일은
+     * (발송 중 워커가 계속 비정상 종료되는 경우) 더 시도하지 않고 FAILED로 바꿉니다.
+     * @return 점유한 이메일 리스트
+     */
+    private List<OutboundEmail> claim() {
+        List<OutboundEmail> batch = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboundEmail> claimed = new ArrayList<>();
+            for (OutboundEmail email : outboundEmailRepository.findDueForUpdate(now, batchSize)) {
+                if (email.getStatus() == OutboundEmail.Status.SENDING && email.getAttempts() >= maxAttempts) {
+                    email.setStatus(OutboundEmail.Status.FAILED);
+                    email.setLastError("발송 작업이 점유 시간 안에 끝나지 않았습니다. (최대 시도 횟수 초과)");
+                    failedCounter.increment();
+                    log.error("이메일 발송 실패: {} ({}회 시도, 점유 시간 만료)", email.getRecipient(), email.getAttempts());
+                    continue;
+                }
+                email.setStatus(OutboundEmail.Status.SENDING);
+                email.setAttempts(email.getAttempts() + 1);
+                email.setNextAttemptAt(now.plus(lease));
+                claimed.add(email);
+            }
+            return claimed;
+        });
+        return batch == null ? List.of() : batch;
+    }
+
+    /**
+     * 이메일 묶음을 발송하고 결과를 DB에 반영합니다.
+     * 결과는 점유 당시의 시도 횟수를 조건으로 한 UPDATE로 기록하므로,
+     * 점유 시간이 지나 다른 워커가 다시 가져간 이메일의 상태는 덮어쓰지 않습니다.
+     * @param batch 발송할 이메일 리스트
+     */
+    private void deliver(List<OutboundEmail> batch) {
+        try {
+            Map<Integer, OutboundEmailSender.Failure> failures = outboundEmailSender.send(batch);
+            LocalDateTime now = LocalDateTime.now();
+            for (OutboundEmail email : batch) {
+                OutboundEmailSender.Failure failure = failures.get(email.getId());
+                if (failure == null) {
+                    markSent(email, now);
+                } else {
+                    markFailed(email, failure, now);
+                }
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                for (OutboundEmail email : batch) {
+                    int updated = outboundEmailRepository.recordOutcome(email.getId(), email.getAttempts(),
+                            email.getStatus().name(), email.getNextAttemptAt(), email.getLastError(), email.getSentAt());
+                    if (updated == 0) {
+                        log.warn("이메일 {}은(는) 점유 시간이 지나 다른 워커가 다시 가져갔으므로 결과를 기록하지 않습니다.",
+                                email.getId());
+                    }
+                }
+            });
+        } catch (Exception e) {
+            // 결과를 저장하지 못한 이메일은 점유 시간이 지난 뒤 다시 발송됨
+            log.error("이메일 발송 결과 저장 실패: {}", e.getMessage());
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private void markSent(OutboundEmail email, LocalDateTime now) {
+        email.setStatus(OutboundEmail.Status.SENT);
+        email.setSentAt(now);
+        email.setLastError(null);
+        sentCounter.increment();
+        if (email.getCreatedAt() != null) {
+            deliveryLag.record(Duration.between(email.getCreatedAt(), now));
+        }
+        log.info("이메일 발송 성공: {} (언어: {})", email.getRecipient(), email.getLang());
+    }
+
+    private void markFailed(OutboundEmail email, OutboundEmailSender.Failure failure, LocalDateTime now) {
+        email.setLastError(truncate(String.valueOf(failure.cause().getMessage())));
+        if (failure.permanent() || email.getAttempts() >= maxAttempts) {
+            email.setStatus(OutboundEmail.Status.FAILED);
+            failedCounter.increment();
+            log.error("이메일 발송 실패: {} ({}회 시도)", email.getRecipient(), email.getAttempts(), failure.cause());
+            return;
+        }
+        email.setStatus(OutboundEmail.Status.PENDING);
+        email.setNextAttemptAt(now.plus(backoff(email.getAttempts())));
+        retryCounter.increment();
+        log.warn("이메일 발송 실패, {}에 재시도합니다: {} - {}",
+                email.getNextAttemptAt(), email.getRecipient(), failure.cause().getMessage());
+    }
+
+    /**
+     * 시도 횟수에 따른 재시도 대기 시간을 계산합니다. (지수 백오프, ±20% 지터)
+     * @param attempts 지금까지의 시도 횟수
+     * @return 재시도 대기 시간
+     */
+    private Duration backoff(int attempts) {
+        long base = initialBackoff.toMillis() << Math.min(attempts - 1, 20);
+        long capped = Math.min(base, maxBackoff.toMillis());
+        double jitter = ThreadLocalRandom.current().nextDouble(0.8, 1.2);
+        return Duration.ofMillis((long) (capped * jitter));
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
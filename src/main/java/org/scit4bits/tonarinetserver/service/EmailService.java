@@ -1,18 +1,16 @@
 package org.scit4bits.tonarinetserver.service;
 
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.scit4bits.tonarinetserver.entity.OutboundEmail;
 import org.scit4bits.tonarinetserver.enums.EmailLanguage;
-import org.springframework.beans.factory.annotation.Value;
+import org.scit4bits.tonarinetserver.repository.OutboundEmailRepository;
 import org.springframework.core.io.ClassPathResource;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 
 /**
  * 이메일 발송 관련 비즈니스 로직을 처리하는 서비스입니다.
@@ -22,34 +20,28 @@ import java.nio.charset.StandardCharsets;
 @RequiredArgsConstructor
 public class EmailService {
 
-    private final JavaMailSender mailSender;
+    private final OutboundEmailRepository outboundEmailRepository;
     private final EmailMessageProvider messageProvider;
 
-    @Value("${spring.mail.sender}")
-    private String sender;
-
     /**
-     * 이메일을 발송합니다.
+     * 이메일을 발송 큐에 등록합니다.
+     * 실제 발송은 EmailDeliveryWorker가 별도 스레드에서 수행하므로 SMTP 응답을 기다리지 않으며,
+     * 호출한 쪽의 트랜잭션이 롤백되면 이메일도 발송되지 않습니다.
      * @param lang 언어 코드
      * @param to 수신자 이메일 주소
      * @param subject 이메일 제목
      * @param body 이메일 본문 (HTML)
      */
     public void sendEmail(String lang, String to, String subject, String body) {
-        try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-
-            helper.setFrom(sender);
-            helper.setTo(to);
-            helper.setSubject(subject);
-            helper.setText(body, true); // true는 HTML 메일임을 나타냅니다.
-
-            mailSender.send(message);
-            log.info("이메일 발송 성공: {} (언어: {})", to, lang);
-        } catch (MessagingException e) {
-            log.error("이메일 발송 실패: {}", to, e);
-        }
+        OutboundEmail email = OutboundEmail.builder()
+                .lang(lang)
+                .recipient(to)
+                .subject(subject)
+                .body(body)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+        outboundEmailRepository.save(email);
+        log.debug("이메일 발송 큐 등록: {} (언어: {})", to, lang);
     }
 
     /**
@@ -12,23 +12,32 @@ import org.scit4bits.tonarinetserver.entity.User;
 import org.scit4bits.tonarinetserver.repository.ArticleRepository;
 import org.scit4bits.tonarinetserver.repository.FileAttachmentRepository;
 import org.scit4bits.tonarinetserver.repository.SubmissionRepository;
-import org.springframework.beans.factory.annotation.Value;
+import org.scit4bits.tonarinetserver.service.ContentAddressedStorage.StoredBlob;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -39,56 +48,64 @@ import java.util.stream.Collectors;
 @Transactional
 public class FileAttachmentService {
 
+    private static final String INSERT_SQL =
+            "INSERT INTO fileattachment (filepath, original_filename, is_private, uploaded_by, type, uploaded_at, "
+                    + "article_id, filesize, submission_id, content_hash) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
     private final FileAttachmentRepository fileAttachmentRepository;
     private final ArticleRepository articleRepository;
     private final SubmissionRepository submissionRepository;
-
-    @Value("${upload.path:c:/upload}")
-    private String uploadPath;
+    private final ContentAddressedStorage contentAddressedStorage;
+    private final BlobStore blobStore;
+    private final JdbcTemplate jdbcTemplate;
 
     /**
      * 여러 파일을 업로드합니다.
+     * 파일은 내용 해시 기준으로 저장되어 같은 내용은 한 번만 디스크에 기록되며,
+     * 메타데이터는 한 번의 JDBC 배치 INSERT로 저장합니다.
      * @param files 업로드할 파일 리스트
      * @param requestDTO 파일 메타데이터 요청 정보
      * @param currentUser 현재 로그인한 사용자 정보
      * @return 업로드된 파일 정보 DTO 리스트
      */
     public List<FileAttachmentResponseDTO> uploadFiles(List<MultipartFile> files, FileAttachmentRequestDTO requestDTO, User currentUser) {
-        try {
-            List<FileAttachmentResponseDTO> dtos = new ArrayList<>();
-            Article article = null;
-            Submission submission = null;
+        Article article = null;
+        Submission submission = null;
 
-            if (requestDTO.getArticleId() != null) {
-                article = articleRepository.findById(requestDTO.getArticleId()).get();
-            }
+        if (requestDTO.getArticleId() != null) {
+            article = articleRepository.findById(requestDTO.getArticleId()).get();
+        }
 
-            if (requestDTO.getSubmissionId() != null) {
-                submission = submissionRepository.findById(requestDTO.getSubmissionId()).get();
-            }
-            for (MultipartFile file : files) {
-                // 파일 유효성 검사
-                if (file.isEmpty()) {
-                    throw new RuntimeException("파일이 비어있습니다.");
-                }
+        if (requestDTO.getSubmissionId() != null) {
+            submission = submissionRepository.findById(requestDTO.getSubmissionId()).get();
+        }
 
-                // 게시글에 파일을 첨부할 수 있는지 확인 (게시글 작성자 또는 관리자)
-                if (article != null && !article.getCreatedById().equals(currentUser.getId()) && !currentUser.getIsAdmin()) {
-                    throw new AccessDeniedException("이 게시글에 파일을 첨부할 권한이 없습니다.");
-                }
+        // 게시글에 파일을 첨부할 수 있는지 확인 (게시글 작성자 또는 관리자)
+        if (article != null && !article.getCreatedById().equals(currentUser.getId()) && !currentUser.getIsAdmin()) {
+            throw new AccessDeniedException("이 게시글에 파일을 첨부할 권한이 없습니다.");
+        }
 
-                // 제출물에 파일을 첨부할 수 있는지 확인 (제출물 작성자 또는 관리자)
-                if (submission != null && !submission.getCreatedById().equals(currentUser.getId()) && !currentUser.getIsAdmin()) {
-                    throw new AccessDeniedException("이 제출물에 파일을 첨부할 권한이 없습니다.");
-                }
+        // 제출물에 파일을 첨부할 수 있는지 확인 (제출물 작성자 또는 관리자)
+        if (submission != null && !submission.getCreatedById().equals(currentUser.getId()) && !currentUser.getIsAdmin()) {
+            throw new AccessDeniedException("이 제출물에 파일을 첨부할 권한이 없습니다.");
+        }
+
+        // 파일 유효성 검사
+        for (MultipartFile file : files) {
+            if (file.isEmpty()) {
+                throw new RuntimeException("파일이 비어있습니다.");
+            }
+        }
 
-                // 고유한 파일 이름 생성
+        List<FileAttachment> attachments = new ArrayList<>(files.size());
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            for (MultipartFile file : files) {
                 String originalFilename = file.getOriginalFilename();
                 String fileExtension = "";
                 if (originalFilename != null && originalFilename.contains(".")) {
                     fileExtension = originalFilename.substring(originalFilename.lastIndexOf("."));
                 }
-                String uniqueFilename = UUID.randomUUID() + fileExtension;
 
                 // 파일 유형 결정 (지정되지 않은 경우)
                 FileType fileType = requestDTO.getType();
@@ -96,36 +113,68 @@ public class FileAttachmentService {
                     fileType = determineFileType(file.getContentType(), fileExtension);
                 }
 
-                // 파일을 디스크에 저장
-                Path filePath = Paths.get(uploadPath, uniqueFilename);
-                Files.copy(file.getInputStream(), filePath);
+                // 해시를 계산하며 저장 (같은 내용의 파일이 있으면 재사용)
+                StoredBlob blob;
+                try (InputStream in = file.getInputStream()) {
+                    blob = contentAddressedStorage.store(in);
+                }
 
-                // FileAttachment 엔티티 생성
-                FileAttachment fileAttachment = FileAttachment.builder()
-                        .filepath(filePath.toString())
+                attachments.add(FileAttachment.builder()
+                        .filepath(blob.key())
                         .originalFilename(originalFilename)
                         .isPrivate(requestDTO.getIsPrivate() != null ? requestDTO.getIsPrivate() : false)
                         .uploadedBy(currentUser.getId())
                         .type(fileType)
-                        .articleId(requestDTO.getArticleId() != null ? requestDTO.getArticleId() : null)
-                        .submissionId(requestDTO.getSubmissionId() != null ? requestDTO.getSubmissionId() : null)
-                        .filesize((int) file.getSize())
-                        .build();
-
-                FileAttachment savedFile = fileAttachmentRepository.save(fileAttachment);
-
-                // 관계가 설정된 완전한 엔티티를 다시 조회
-                FileAttachment completeFile = fileAttachmentRepository.findById(savedFile.getId())
-                        .orElseThrow(() -> new RuntimeException("업로드 후 파일을 찾을 수 없습니다."));
-
-                dtos.add(FileAttachmentResponseDTO.fromEntity(completeFile));
+                        .uploadedAt(now)
+                        .articleId(requestDTO.getArticleId())
+                        .submissionId(requestDTO.getSubmissionId())
+                        .filesize((int) blob.size())
+                        .contentHash(blob.contentHash())
+                        .uploadedByUser(currentUser)
+                        .article(article)
+                        .submission(submission)
+                        .build());
             }
-
-            return dtos;
-
         } catch (IOException e) {
             throw new RuntimeException("파일 업로드 실패: " + e.getMessage(), e);
         }
+
+        insertAll(attachments);
+
+        return attachments.stream()
+                .map(FileAttachmentResponseDTO::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 파일 첨부 메타데이터를 JDBC 배치 INSERT로 저장하고 생성된 ID를 엔티티에 설정합니다.
+     * @param attachments 저장할 파일 첨부 리스트
+     */
+    private void insertAll(List<FileAttachment> attachments) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (FileAttachment attachment : attachments) {
+                    ps.setString(1, attachment.getFilepath());
+                    ps.setString(2, attachment.getOriginalFilename());
+                    ps.setBoolean(3, attachment.getIsPrivate());
+                    ps.setInt(4, attachment.getUploadedBy());
+                    ps.setString(5, attachment.getType().name());
+                    ps.setTimestamp(6, Timestamp.valueOf(attachment.getUploadedAt()));
+                    ps.setObject(7, attachment.getArticleId(), Types.INTEGER);
+                    ps.setInt(8, attachment.getFilesize());
+                    ps.setObject(9, attachment.getSubmissionId(), Types.INTEGER);
+                    ps.setString(10, attachment.getContentHash());
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    for (int i = 0; i < attachments.size() && keys.next(); i++) {
+                        attachments.get(i).setId(keys.getInt(1));
+                    }
+                }
+            }
+            return null;
+        });
     }
 
     /**
@@ -304,17 +353,21 @@ public class FileAttachmentService {
             throw new RuntimeException("파일 업로더 또는 관리자만 이 파일을 삭제할 수 있습니다.");
         }
 
-        try {
-            // 물리적 파일 삭제
-            Path filePath = Paths.get(existingFile.getFilepath());
-            Files.deleteIfExists(filePath);
-        } catch (IOException e) {
-            // 오류를 기록하지만 데이터베이스 삭제는 계속 진행
-            System.err.println("물리적 파일 삭제 실패: " + e.getMessage());
-        }
-
         // 데이터베이스에서 삭제
         fileAttachmentRepository.deleteById(id);
+
+        if (isContentAddressed(existingFile)) {
+            // 내용 주소로 저장된 파일은 다른 첨부가 참조하지 않을 때만 커밋 후 삭제
+            contentAddressedStorage.release(existingFile.getContentHash());
+        } else {
+            try {
+                // 물리적 파일 삭제
+                blobStore.delete(existingFile.getFilepath());
+            } catch (IOException e) {
+                // 오류를 기록하지만 데이터베이스 삭제는 계속 진행
+                System.err.println("물리적 파일 삭제 실패: " + e.getMessage());
+            }
+        }
     }
 
     /**
@@ -424,13 +477,14 @@ public class FileAttachmentService {
     }
 
     /**
-     * 파일을 다운로드합니다.
+     * 다운로드할 파일의 저장소 키를 조회합니다.
+     * 파일 내용을 메모리에 읽어 들이지 않으며, 실제 전송은 호출자가 스트리밍 또는 리다이렉트로 처리합니다.
      * @param id 다운로드할 파일 ID
      * @param currentUser 현재 로그인한 사용자 정보
-     * @return 파일의 바이트 배열
+     * @return 저장소 키
      */
     @Transactional(readOnly = true)
-    public byte[] downloadFile(Integer id, User currentUser) {
+    public String getDownloadKey(Integer id, User currentUser) {
         FileAttachment fileAttachment = fileAttachmentRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("파일을 찾을 수 없습니다. ID: " + id));
 
@@ -441,11 +495,47 @@ public class FileAttachmentService {
             throw new RuntimeException("이 비공개 파일을 다운로드할 권한이 없습니다.");
         }
 
-        try {
-            Path filePath = Paths.get(fileAttachment.getFilepath());
-            return Files.readAllBytes(filePath);
-        } catch (IOException e) {
-            throw new RuntimeException("파일 읽기 실패: " + e.getMessage(), e);
-        }
+        return isContentAddressed(fileAttachment)
+                ? contentAddressedStorage.keyOf(fileAttachment.getContentHash())
+                : fileAttachment.getFilepath();
+    }
+
+    /**
+     * 파일이 로컬 디스크에 있으면 경로를 반환합니다. (서버에서 직접 스트리밍)
+     * @param key 저장소 키
+     * @return 파일 경로 (로컬 저장소가 아니면 빈 Optional)
+     */
+    public Optional<Path> getLocalPath(String key) {
+        return blobStore.localPath(key).filter(Files::isReadable);
+    }
+
+    /**
+     * 클라이언트가 저장소에서 직접 내려받을 수 있는 서명된 URL을 생성합니다.
+     * @param key 저장소 키
+     * @param contentDisposition 응답에 사용할 Content-Disposition 값
+     * @param contentType 응답에 사용할 Content-Type 값
+     * @return 서명된 URL (지원하지 않는 저장소면 빈 Optional)
+     */
+    public Optional<URI> getPresignedDownloadUrl(String key, String contentDisposition, String contentType) {
+        return blobStore.presignedDownloadUrl(key, contentDisposition, contentType);
+    }
+
+    /**
+     * 저장된 파일 내용을 읽는 스트림을 엽니다.
+     * @param key 저장소 키
+     * @return 입력 스트림 (호출자가 닫아야 함)
+     * @throws IOException 읽기 실패 시
+     */
+    public InputStream openContent(String key) throws IOException {
+        return blobStore.open(key);
+    }
+
+    /**
+     * 내용 주소 저장소에 저장된 파일인지 확인합니다. (이전 버전의 UUID 파일명 경로가 아닌지)
+     */
+    private boolean isContentAddressed(FileAttachment fileAttachment) {
+        return fileAttachment.getContentHash() != null
+                && fileAttachment.getFilepath().replace('\\', '/')
+                .endsWith(contentAddressedStorage.keyOf(fileAttachment.getContentHash()));
     }
 }
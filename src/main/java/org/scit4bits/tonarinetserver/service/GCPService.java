@@ -1,95 +1,274 @@
 package org.scit4bits.tonarinetserver.service;
 
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
 import org.json.simple.parser.JSONParser;
 import org.scit4bits.tonarinetserver.dto.TranslationResponseDTO;
+import org.scit4bits.tonarinetserver.entity.TranslationCache;
+import org.scit4bits.tonarinetserver.repository.TranslationCacheRepository;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Google Cloud Platform 서비스 관련 비즈니스 로직을 처리하는 서비스입니다.
+ * 번역 결과는 메모리 캐시(LRU)와 DB(translationcache)에 원문 해시와 대상 언어 기준으로 저장하며,
+ * 캐시에 없는 텍스트만 모아 한 번의 API 요청으로 번역합니다.
  */
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class GCPService {
 
+    /** Google Translation API가 한 요청에서 받을 수 있는 최대 텍스트 수 */
+    private static final int MAX_SEGMENTS_PER_REQUEST = 128;
+
+    private static final String INSERT_CACHE_SQL =
+            "INSERT IGNORE INTO translationcache (text_hash, target_language, translated_text, source_language) "
+                    + "VALUES (?, ?, ?, ?)";
+
+    private final TranslationCacheRepository translationCacheRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final WebClient webClient;
+    /** "대상 언어:원문 해시" → 번역 결과 */
+    private final Cache<String, TranslationResponseDTO> cache;
+
     @Value("${google.translation.api.key}")
     private String googleTransApiKey;
 
+    @Value("${translation.batch.max-size:500}")
+    private int maxBatchSize;
+
+    /**
+     * GCPService 생성자
+     * @param translationCacheRepository 번역 캐시 리포지토리
+     * @param jdbcTemplate 번역 결과 일괄 저장에 사용할 JdbcTemplate
+     * @param webClientBuilder 공유 커넥션 풀을 사용하는 WebClient 빌더
+     * @param meterRegistry 캐시 메트릭 등록에 사용할 MeterRegistry
+     * @param maximumSize 메모리 캐시에 보관할 최대 번역 수
+     * @param ttl 메모리 캐시 항목 만료 시간
+     */
+    public GCPService(TranslationCacheRepository translationCacheRepository, JdbcTemplate jdbcTemplate,
+                      WebClient.Builder webClientBuilder, MeterRegistry meterRegistry,
+                      @Value("${translation.cache.maximum-size:10000}") long maximumSize,
+                      @Value("${translation.cache.ttl:24h}") Duration ttl) {
+        this.translationCacheRepository = translationCacheRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        // WebClient는 한 번만 생성하여 커넥션 풀을 재사용
+        this.webClient = webClientBuilder
+                .baseUrl("https://translation.googleapis.com/language/translate/v2")
+                .build();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "translation");
+    }
+
     /**
      * 텍스트를 지정된 언어로 번역합니다.
      * @param text 번역할 텍스트
      * @param targetLanguage 대상 언어 코드 (e.g., "en", "ko")
      * @return 번역 결과를 담은 DTO
      */
-    public TranslationResponseDTO translateText(String text, String targetLanguage) {
+    public Mono<TranslationResponseDTO> translateText(String text, String targetLanguage) {
+        return translateTexts(List.of(text), targetLanguage).map(results -> results.get(0));
+    }
+
+    /**
+     * 여러 텍스트를 지정된 언어로 한 번에 번역합니다.
+     * 메모리 캐시, DB 캐시 순서로 조회한 뒤 남은 텍스트만 API로 번역하고, 결과를 두 캐시에 저장합니다.
+     * @param texts 번역할 텍스트 리스트
+     * @param targetLanguage 대상 언어 코드 (e.g., "en", "ko")
+     * @return 입력 순서와 같은 순서의 번역 결과 리스트
+     */
+    public Mono<List<TranslationResponseDTO>> translateTexts(List<String> texts, String targetLanguage) {
+        if (texts.size() > maxBatchSize) {
+            throw new IllegalArgumentException("한 번에 번역할 수 있는 텍스트는 최대 " + maxBatchSize + "개입니다.");
+        }
         // 대상 언어가 지정되지 않은 경우 영어로 기본 설정
         String target = targetLanguage == null ? "en" : targetLanguage;
 
-        // WebClient를 사용하여 Google Translation API 호출
-        WebClient webClient = WebClient.builder()
-                .baseUrl("https://translation.googleapis.com/language/translate/v2")
-                .build();
+        // 원문 해시 → 원문 (중복 제거)
+        Map<String, String> textsByHash = new LinkedHashMap<>();
+        for (String text : texts) {
+            textsByHash.putIfAbsent(hashOf(text), text);
+        }
+
+        // 1단계: 메모리 캐시
+        Map<String, TranslationResponseDTO> resolved = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String hash : textsByHash.keySet()) {
+            TranslationResponseDTO cached = cache.getIfPresent(cacheKey(target, hash));
+            if (cached != null) {
+                resolved.put(hash, cached);
+            } else {
+                misses.add(hash);
+            }
+        }
 
-        String response = webClient.get()
-                .uri(uriBuilder -> uriBuilder
-                        .queryParam("q", text)
-                        .queryParam("target", target)
-                        .queryParam("format", "text")
-                        .queryParam("key", googleTransApiKey)
-                        .build())
+        // 2단계: DB 캐시
+        if (!misses.isEmpty()) {
+            for (TranslationCache stored : translationCacheRepository.findByIdTargetLanguageAndIdTextHashIn(target, misses)) {
+                TranslationResponseDTO result = TranslationResponseDTO.builder()
+                        .translatedText(stored.getTranslatedText())
+                        .sourceLanguage(stored.getSourceLanguage())
+                        .targetLanguage(target)
+                        .build();
+                resolved.put(stored.getId().getTextHash(), result);
+                cache.put(cacheKey(target, stored.getId().getTextHash()), result);
+            }
+            misses.removeIf(resolved::containsKey);
+        }
+
+        if (misses.isEmpty()) {
+            return Mono.just(assemble(texts, target, resolved));
+        }
+
+        // 3단계: 남은 텍스트만 API 한 번(최대 128개씩)으로 번역
+        List<List<String>> chunks = new ArrayList<>();
+        for (int i = 0; i < misses.size(); i += MAX_SEGMENTS_PER_REQUEST) {
+            chunks.add(misses.subList(i, Math.min(i + MAX_SEGMENTS_PER_REQUEST, misses.size())));
+        }
+        return Flux.fromIterable(chunks)
+                .concatMap(chunk -> requestTranslations(chunk.stream().map(textsByHash::get).toList(), target)
+                        .map(results -> zip(chunk, results)))
+                .collectList()
+                // DB 저장은 블로킹 작업이므로 HTTP 클라이언트 이벤트 루프가 아닌 스레드에서 처리
+                .publishOn(Schedulers.boundedElastic())
+                .map(translatedChunks -> {
+                    Map<String, TranslationResponseDTO> translated = new LinkedHashMap<>();
+                    translatedChunks.forEach(translated::putAll);
+                    store(target, translated);
+                    resolved.putAll(translated);
+                    return assemble(texts, target, resolved);
+                })
+                .onErrorResume(e -> {
+                    // 번역 실패 시 원본 텍스트를 반환하고 캐시에는 저장하지 않음
+                    log.error("Google Translation API 호출 실패: {}", e.getMessage());
+                    return Mono.just(assemble(texts, target, resolved));
+                });
+    }
+
+    /**
+     * Google Translation API에 여러 텍스트의 번역을 한 번에 요청합니다.
+     * @return 요청 순서와 같은 순서의 번역 결과 (파싱 실패 시 에러)
+     */
+    private Mono<List<TranslationResponseDTO>> requestTranslations(List<String> texts, String target) {
+        return webClient.post()
+                .uri(uriBuilder -> uriBuilder.queryParam("key", googleTransApiKey).build())
+                .bodyValue(Map.of("q", texts, "target", target, "format", "text"))
                 .retrieve()
                 .bodyToMono(String.class)
-                .block();
-
-        // json-simple을 사용한 JSON 파싱
-        String translatedText = text; // 기본 fallback 값
-        String detectedSourceLanguage = "unknown"; // 기본 fallback 값
+                .map(response -> parseTranslations(response, texts, target));
+    }
 
+    /**
+     * json-simple을 사용하여 응답을 파싱합니다.
+     * 구조: data -> translations -> [i] -> translatedText, detectedSourceLanguage
+     */
+    private List<TranslationResponseDTO> parseTranslations(String response, List<String> texts, String target) {
         try {
             JSONParser parser = new JSONParser();
             JSONObject jsonObject = (JSONObject) parser.parse(response);
-
-            // JSON 구조 탐색: data -> translations -> [0] -> translatedText
             JSONObject data = (JSONObject) jsonObject.get("data");
-            if (data != null) {
-                JSONArray translations = (JSONArray) data.get("translations");
-                if (translations != null && !translations.isEmpty()) {
-                    JSONObject firstTranslation = (JSONObject) translations.get(0);
-
-                    // 번역된 텍스트 추출
-                    Object translatedTextObj = firstTranslation.get("translatedText");
-                    if (translatedTextObj != null) {
-                        translatedText = translatedTextObj.toString();
-                    }
-
-                    // 감지된 소스 언어 추출 (선택적 필드)
-                    Object detectedLanguageObj = firstTranslation.get("detectedSourceLanguage");
-                    if (detectedLanguageObj != null) {
-                        detectedSourceLanguage = detectedLanguageObj.toString();
-                    }
-                }
+            JSONArray translations = data != null ? (JSONArray) data.get("translations") : null;
+            if (translations == null || translations.size() != texts.size()) {
+                throw new IllegalStateException("번역 결과 수가 요청과 다릅니다.");
             }
 
-            log.debug("번역 성공: '{}' -> '{}' (감지된 언어: {})", text, translatedText,
-                    detectedSourceLanguage);
-
+            List<TranslationResponseDTO> results = new ArrayList<>(texts.size());
+            for (Object item : translations) {
+                JSONObject translation = (JSONObject) item;
+                Object translatedText = translation.get("translatedText");
+                // 감지된 소스 언어 (선택적 필드)
+                Object detectedLanguage = translation.get("detectedSourceLanguage");
+                results.add(TranslationResponseDTO.builder()
+                        .translatedText(translatedText != null ? translatedText.toString() : texts.get(results.size()))
+                        .sourceLanguage(detectedLanguage != null ? detectedLanguage.toString() : "unknown")
+                        .targetLanguage(target)
+                        .build());
+            }
+            log.debug("번역 성공: {}건 (대상 언어: {})", results.size(), target);
+            return results;
         } catch (Exception e) {
-            log.error("Google Translation API 응답 파싱 실패: {}", e.getMessage());
             log.debug("원본 응답: {}", response);
-            // 실패 시 원본 텍스트를 반환
-            translatedText = text;
+            throw new IllegalStateException("Google Translation API 응답 파싱 실패: " + e.getMessage(), e);
         }
+    }
 
-        return TranslationResponseDTO.builder()
-                .translatedText(translatedText)
-                .sourceLanguage(detectedSourceLanguage)
-                .targetLanguage(target)
-                .build();
+    /**
+     * 새로 번역한 결과를 메모리 캐시와 DB에 저장합니다.
+     */
+    private void store(String target, Map<String, TranslationResponseDTO> translated) {
+        List<Object[]> batchArgs = new ArrayList<>(translated.size());
+        translated.forEach((hash, result) -> {
+            cache.put(cacheKey(target, hash), result);
+            batchArgs.add(new Object[]{hash, target, result.getTranslatedText(), result.getSourceLanguage()});
+        });
+        try {
+            jdbcTemplate.batchUpdate(INSERT_CACHE_SQL, batchArgs);
+        } catch (RuntimeException e) {
+            // 캐시 저장 실패는 번역 결과에 영향을 주지 않음
+            log.warn("번역 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private static Map<String, TranslationResponseDTO> zip(List<String> hashes, List<TranslationResponseDTO> results) {
+        Map<String, TranslationResponseDTO> zipped = new LinkedHashMap<>();
+        for (int i = 0; i < hashes.size(); i++) {
+            zipped.put(hashes.get(i), results.get(i));
+        }
+        return zipped;
+    }
+
+    /**
+     * 입력 순서대로 결과를 구성합니다. 번역 결과가 없는 텍스트는 원본을 그대로 사용합니다.
+     */
+    private static List<TranslationResponseDTO> assemble(List<String> texts, String target,
+                                                         Map<String, TranslationResponseDTO> resolved) {
+        List<TranslationResponseDTO> results = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            TranslationResponseDTO result = resolved.get(hashOf(text));
+            results.add(result != null ? result : TranslationResponseDTO.builder()
+                    .translatedText(text)
+                    .sourceLanguage("unknown")
+                    .targetLanguage(target)
+                    .build());
+        }
+        return results;
+    }
+
+    private static String cacheKey(String target, String hash) {
+        return target + ":" + hash;
+    }
+
+    private static String hashOf(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
     }
 }
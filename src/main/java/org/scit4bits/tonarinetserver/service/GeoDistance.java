@@ -0,0 +1,66 @@
+package org.scit4bits.tonarinetserver.service;
+
+/**
+ * 위경도 좌표 간 거리 계산과 반경 검색용 경계 상자 계산을 제공하는 유틸리티 클래스
+ */
+public final class GeoDistance {
+
+    /** 지구 평균 반지름 (km) */
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+    /** 위도 1도에 해당하는 거리 (km) */
+    public static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180.0;
+
+    private GeoDistance() {
+    }
+
+    /**
+     * 두 좌표 사이의 대원 거리를 하버사인 공식으로 계산합니다.
+     * @param latitude1 첫 번째 위도
+     * @param longitude1 첫 번째 경도
+     * @param latitude2 두 번째 위도
+     * @param longitude2 두 번째 경도
+     * @return 거리 (km)
+     */
+    public static double haversineKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double dLat = Math.toRadians(latitude2 - latitude1);
+        double dLon = Math.toRadians(longitude2 - longitude1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * 중심 좌표에서 반경 안의 모든 점을 포함하는 경계 상자를 계산합니다.
+     * 극지방 근처이거나 날짜 변경선을 넘는 경우에는 경도 범위를 전체(-180~180)로 넓힙니다.
+     * @param latitude 중심 위도
+     * @param longitude 중심 경도
+     * @param radiusKm 반경 (km)
+     * @return 경계 상자
+     */
+    public static BoundingBox boundingBox(double latitude, double longitude, double radiusKm) {
+        double dLat = radiusKm / KM_PER_DEGREE;
+        double minLat = Math.max(-90.0, latitude - dLat);
+        double maxLat = Math.min(90.0, latitude + dLat);
+
+        double cosLat = Math.cos(Math.toRadians(Math.max(Math.abs(minLat), Math.abs(maxLat))));
+        if (maxLat >= 90.0 || minLat <= -90.0 || cosLat <= 0) {
+            return new BoundingBox(minLat, -180.0, maxLat, 180.0);
+        }
+        double dLon = dLat / cosLat;
+        if (longitude - dLon < -180.0 || longitude + dLon > 180.0) {
+            return new BoundingBox(minLat, -180.0, maxLat, 180.0);
+        }
+        return new BoundingBox(minLat, longitude - dLon, maxLat, longitude + dLon);
+    }
+
+    /**
+     * 위경도 경계 상자
+     * @param minLatitude 최소 위도
+     * @param minLongitude 최소 경도
+     * @param maxLatitude 최대 위도
+     * @param maxLongitude 최대 경도
+     */
+    public record BoundingBox(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude) {
+    }
+}
@@ -0,0 +1,187 @@
+package org.scit4bits.tonarinetserver.service;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigInteger;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * OAuth 제공자가 발급한 id_token의 서명과 클레임(iss, aud, exp)을 검증하는 서비스입니다.
+ * 제공자의 공개 키(JWKS)는 URI별로 캐싱하며, 캐시에 없는 키 ID(kid)가 오면 키 교체로 보고 한 번 다시 받아옵니다.
+ */
+@Service
+@Slf4j
+public class IdTokenVerifier {
+
+    /** 알 수 없는 kid로 인한 JWKS 재조회의 최소 간격 */
+    private static final Duration MIN_REFRESH_INTERVAL = Duration.ofSeconds(30);
+    /** 서버 간 시계 오차 허용 범위 (초) */
+    private static final long CLOCK_SKEW_SECONDS = 60;
+
+    private final WebClient webClient;
+    /** JWKS URI → 키 ID별 공개 키 */
+    private final AsyncCache<String, JwkSet> jwksCache;
+
+    /**
+     * IdTokenVerifier 생성자
+     * @param webClient OAuth 제공자 전용 WebClient
+     * @param jwksTtl 공개 키 캐시 만료 시간
+     */
+    public IdTokenVerifier(@Qualifier("oauthWebClient") WebClient webClient,
+                           @Value("${oauth.jwks.ttl:1h}") Duration jwksTtl) {
+        this.webClient = webClient;
+        this.jwksCache = Caffeine.newBuilder()
+                .expireAfterWrite(jwksTtl)
+                .buildAsync();
+    }
+
+    /**
+     * id_token을 검증합니다.
+     * @param idToken 검증할 id_token
+     * @param issuer 발급자 정보
+     * @return 검증된 토큰 (검증 실패 시 JWTVerificationException으로 종료)
+     */
+    public Mono<DecodedJWT> verify(String idToken, Issuer issuer) {
+        DecodedJWT decoded;
+        try {
+            decoded = JWT.decode(idToken);
+        } catch (JWTVerificationException e) {
+            return Mono.error(e);
+        }
+
+        String algorithm = decoded.getAlgorithm();
+        if ("HS256".equals(algorithm) && issuer.hmacSecret() != null) {
+            // LINE 웹 로그인은 채널 시크릿으로 서명한 HS256 토큰을 발급함
+            return Mono.fromCallable(() -> verify(idToken, issuer, Algorithm.HMAC256(issuer.hmacSecret())));
+        }
+        if (issuer.jwksUri() == null || decoded.getKeyId() == null) {
+            return Mono.error(new JWTVerificationException("지원하지 않는 id_token 서명 방식입니다: " + algorithm));
+        }
+
+        return findKey(issuer.jwksUri(), decoded.getKeyId())
+                .switchIfEmpty(Mono.error(() -> new JWTVerificationException("공개 키를 찾을 수 없습니다: " + decoded.getKeyId())))
+                .map(key -> switch (algorithm) {
+                    case "RS256" -> verify(idToken, issuer, Algorithm.RSA256((RSAPublicKey) key, null));
+                    case "ES256" -> verify(idToken, issuer, Algorithm.ECDSA256((ECPublicKey) key, null));
+                    default -> throw new JWTVerificationException("지원하지 않는 id_token 서명 방식입니다: " + algorithm);
+                });
+    }
+
+    private DecodedJWT verify(String idToken, Issuer issuer, Algorithm algorithm) {
+        return JWT.require(algorithm)
+                .withIssuer(issuer.issuers().toArray(String[]::new))
+                .withAudience(issuer.audience())
+                .acceptLeeway(CLOCK_SKEW_SECONDS)
+                .build()
+                .verify(idToken);
+    }
+
+    /**
+     * 캐시된 JWKS에서 키를 찾고, 없으면 (최소 간격이 지났을 때) JWKS를 다시 받아와 찾습니다.
+     */
+    private Mono<PublicKey> findKey(String jwksUri, String keyId) {
+        return Mono.fromFuture(() -> jwksCache.get(jwksUri, (uri, executor) -> fetch(uri).toFuture()))
+                .flatMap(jwkSet -> {
+                    PublicKey key = jwkSet.keys().get(keyId);
+                    if (key != null) {
+                        return Mono.just(key);
+                    }
+                    if (Duration.between(jwkSet.fetchedAt(), Instant.now()).compareTo(MIN_REFRESH_INTERVAL) < 0) {
+                        return Mono.empty();
+                    }
+                    log.info("JWKS에 없는 kid {} - 공개 키를 다시 받아옵니다: {}", keyId, jwksUri);
+                    return fetch(jwksUri)
+                            .doOnNext(refreshed -> jwksCache.put(jwksUri, CompletableFuture.completedFuture(refreshed)))
+                            .mapNotNull(refreshed -> refreshed.keys().get(keyId));
+                });
+    }
+
+    private Mono<JwkSet> fetch(String jwksUri) {
+        return webClient.get()
+                .uri(jwksUri)
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .map(this::parseJwkSet);
+    }
+
+    private JwkSet parseJwkSet(JsonNode jwks) {
+        Map<String, PublicKey> keys = new HashMap<>();
+        for (JsonNode jwk : jwks.path("keys")) {
+            String keyId = jwk.path("kid").asText(null);
+            if (keyId == null) {
+                continue;
+            }
+            try {
+                switch (jwk.path("kty").asText()) {
+                    case "RSA" -> keys.put(keyId, KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(
+                            base64UrlInteger(jwk.path("n").asText()),
+                            base64UrlInteger(jwk.path("e").asText()))));
+                    case "EC" -> {
+                        if (!"P-256".equals(jwk.path("crv").asText())) {
+                            continue;
+                        }
+                        AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+                        parameters.init(new ECGenParameterSpec("secp256r1"));
+                        ECPoint point = new ECPoint(
+                                base64UrlInteger(jwk.path("x").asText()),
+                                base64UrlInteger(jwk.path("y").asText()));
+                        keys.put(keyId, KeyFactory.getInstance("EC").generatePublic(new ECPublicKeySpec(
+                                point, parameters.getParameterSpec(ECParameterSpec.class))));
+                    }
+                    default -> {
+                        // 서명 검증에 사용하지 않는 키 형식은 무시
+                    }
+                }
+            } catch (GeneralSecurityException | IllegalArgumentException e) {
+                log.warn("JWK 파싱 실패 (kid: {}): {}", keyId, e.getMessage());
+            }
+        }
+        return new JwkSet(Map.copyOf(keys), Instant.now());
+    }
+
+    private static BigInteger base64UrlInteger(String value) {
+        return new BigInteger(1, Base64.getUrlDecoder().decode(value));
+    }
+
+    /**
+     * id_token 발급자 정보
+     * @param jwksUri 공개 키(JWKS) URI (없으면 HS256만 지원)
+     * @param issuers 허용하는 iss 값
+     * @param audience 기대하는 aud 값 (클라이언트 ID)
+     * @param hmacSecret HS256 서명 검증에 사용할 시크릿 (없으면 null)
+     */
+    public record Issuer(String jwksUri, List<String> issuers, String audience, String hmacSecret) {
+    }
+
+    private record JwkSet(Map<String, PublicKey> keys, Instant fetchedAt) {
+    }
+}
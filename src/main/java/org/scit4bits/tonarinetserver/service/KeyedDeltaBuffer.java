@@ -0,0 +1,152 @@
+package org.scit4bits.tonarinetserver.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 키별 증감분을 메모리에 누적했다가 플러시할 때 합산하여 한 번에 넘겨주는 버퍼입니다.
+ * 조회수, 좋아요 수처럼 자주 바뀌는 카운터를 요청마다 DB에 쓰지 않고 주기적으로 일괄 반영할 때 사용하며,
+ * 실제 반영 방법(일괄 UPDATE 등)은 생성 시 전달하는 {@link FlushHandler}가 담당합니다.
+ * <p>
+ * 플러시할 때 누적 중인 맵을 새 맵으로 교체하고, 교체 직전에 이전 맵을 참조한 요청의 늦은 증감분은
+ * 다음 플러시에서 한 번 더 수거한 뒤 버립니다. 반영에 실패한 증감분은 다시 누적하여 다음 플러시에서 재시도합니다.
+ * @param <K> 키 타입
+ */
+@Slf4j
+public final class KeyedDeltaBuffer<K> {
+
+    private final String name;
+    private final FlushHandler<K> handler;
+
+    /** 현재 증감분을 누적 중인 맵 */
+    private volatile ConcurrentHashMap<K, LongAdder> active = new ConcurrentHashMap<>();
+
+    /** 직전 플러시에서 교체된 맵 (늦은 증감분 수거용) */
+    private ConcurrentHashMap<K, LongAdder> retired = new ConcurrentHashMap<>();
+
+    /**
+     * KeyedDeltaBuffer 생성자
+     * @param name 로그에 표시할 버퍼 이름
+     * @param handler 합산된 증감분을 반영하는 함수
+     */
+    public KeyedDeltaBuffer(String name, FlushHandler<K> handler) {
+        this.name = name;
+        this.handler = handler;
+    }
+
+    /**
+     * 증감분을 누적합니다.
+     * @param key 키
+     * @param delta 증감분
+     */
+    public void add(K key, long delta) {
+        active.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+    }
+
+    /**
+     * 아직 반영되지 않은 키의 증감분을 반환합니다.
+     * @param key 키
+     * @return 반영 대기 중인 증감분
+     */
+    public long getPending(K key) {
+        long pending = 0;
+        LongAdder adder = active.get(key);
+        if (adder != null) {
+            pending += adder.sum();
+        }
+        adder = retired.get(key);
+        if (adder != null) {
+            pending += adder.sum();
+        }
+        return pending;
+    }
+
+    /**
+     * 아직 반영되지 않은 모든 증감분의 합계를 반환합니다.
+     * @return 반영 대기 중인 증감분 합계
+     */
+    public long getPendingTotal() {
+        long pending = 0;
+        for (LongAdder adder : active.values()) {
+            pending += adder.sum();
+        }
+        for (LongAdder adder : retired.values()) {
+            pending += adder.sum();
+        }
+        return pending;
+    }
+
+    /**
+     * 증감분을 누적 중인 키의 수를 반환합니다.
+     * @return 반영 대기 중인 키 수
+     */
+    public int getPendingKeys() {
+        return active.size();
+    }
+
+    /**
+     * 누적된 증감분을 키별로 합산하여 반영합니다.
+     * 반영 함수가 예외를 던지면 모든 증감분을, 일부만 실패를 돌려주면 그 증감분만 다시 누적합니다.
+     */
+    public synchronized void flush() {
+        ConcurrentHashMap<K, LongAdder> previous = retired;
+        retired = active;
+        active = new ConcurrentHashMap<>();
+
+        Map<K, Long> deltas = new HashMap<>();
+        drain(previous, deltas);
+        drain(retired, deltas);
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Map<K, Long> failed;
+        try {
+            failed = handler.flush(deltas);
+        } catch (Exception e) {
+            log.error("{} 반영 실패, 다음 주기에 재시도합니다: {}", name, e.getMessage());
+            failed = deltas;
+        }
+        if (failed != null) {
+            failed.forEach(this::add);
+        }
+    }
+
+    /**
+     * 남은 증감분을 모두 반영합니다. (애플리케이션 종료 시 사용)
+     * 교체된 맵에 남은 증감분까지 수거하기 위해 플러시를 두 번 실행합니다.
+     */
+    public void flushAll() {
+        flush();
+        flush();
+    }
+
+    private void drain(Map<K, LongAdder> source, Map<K, Long> deltas) {
+        source.forEach((key, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                deltas.merge(key, delta, Long::sum);
+            }
+        });
+    }
+
+    /**
+     * 합산된 증감분을 반영하는 함수
+     * @param <K> 키 타입
+     */
+    @FunctionalInterface
+    public interface FlushHandler<K> {
+        /**
+         * 증감분을 반영합니다.
+         * @param deltas 키별 증감분 (0이 아닌 값만 포함)
+         * @return 반영하지 못해 다시 시도할 증감분 (모두 반영했으면 빈 맵)
+         * @throws Exception 반영에 실패한 경우 (모든 증감분을 다시 시도)
+         */
+        Map<K, Long> flush(Map<K, Long> deltas) throws Exception;
+    }
+}
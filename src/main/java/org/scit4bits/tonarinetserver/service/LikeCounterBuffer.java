@@ -0,0 +1,145 @@
+package org.scit4bits.tonarinetserver.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 실시간 제보와 동네 리뷰의 좋아요 수 증감분을 메모리에 모았다가 주기적으로 DB에 일괄 반영하는 서비스입니다.
+ * 인기 제보에 좋아요가 몰려도 요청마다 같은 행을 잠그고 갱신하지 않고,
+ * 대상별로 합산한 증감분을 {@code like_count = like_count + ?} 한 번으로 반영합니다.
+ * 사용자별 좋아요 기록(중복 방지)은 요청 트랜잭션에서 바로 저장되며, 이 서비스는 카운터만 담당합니다.
+ * 누적과 플러시는 {@link KeyedDeltaBuffer}가 처리합니다.
+ */
+@Service
+@Slf4j
+public class LikeCounterBuffer {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Counter flushedLikes;
+    private final KeyedDeltaBuffer<Key> buffer;
+
+    /**
+     * LikeCounterBuffer 생성자
+     * @param jdbcTemplate 일괄 UPDATE 실행에 사용할 JdbcTemplate
+     * @param meterRegistry 메트릭 등록에 사용할 MeterRegistry
+     */
+    public LikeCounterBuffer(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.buffer = new KeyedDeltaBuffer<>("좋아요 수", this::write);
+        this.flushedLikes = Counter.builder("like.counter.flushed")
+                .description("DB에 반영된 좋아요 증감분 합계 (절댓값)")
+                .register(meterRegistry);
+        Gauge.builder("like.counter.pending.targets", buffer, KeyedDeltaBuffer::getPendingKeys)
+                .description("반영 대기 중인 좋아요 증감분을 가진 대상 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 좋아요 수를 변경합니다. (메모리에만 누적)
+     * 트랜잭션 안에서 호출하면 커밋된 뒤에 누적하므로, 롤백된 좋아요는 반영되지 않습니다.
+     * @param target 대상 종류
+     * @param id 대상 ID
+     * @param delta 증감분
+     */
+    public void adjust(Target target, Integer id, int delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    buffer.add(new Key(target, id), delta);
+                }
+            });
+        } else {
+            buffer.add(new Key(target, id), delta);
+        }
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 증감분을 반환합니다.
+     * @param target 대상 종류
+     * @param id 대상 ID
+     * @return 반영 대기 중인 증감분
+     */
+    public long getPending(Target target, Integer id) {
+        return buffer.getPending(new Key(target, id));
+    }
+
+    /**
+     * 누적된 증감분을 대상별로 합산하여 일괄 UPDATE로 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${like.counter.flush-interval-ms:1000}")
+    public void flush() {
+        buffer.flush();
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 증감분을 모두 반영합니다.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        buffer.flushAll();
+    }
+
+    /**
+     * 대상 종류별로 일괄 UPDATE를 실행하고, 실패한 종류의 증감분은 다시 시도하도록 돌려줍니다.
+     */
+    private Map<Key, Long> write(Map<Key, Long> deltas) {
+        Map<Target, List<Object[]>> batchArgs = new EnumMap<>(Target.class);
+        for (Map.Entry<Key, Long> entry : deltas.entrySet()) {
+            batchArgs.computeIfAbsent(entry.getKey().target(), t -> new ArrayList<>())
+                    .add(new Object[]{entry.getValue(), entry.getKey().id()});
+        }
+
+        Map<Key, Long> failed = new HashMap<>();
+        long total = 0;
+        for (Map.Entry<Target, List<Object[]>> entry : batchArgs.entrySet()) {
+            try {
+                jdbcTemplate.batchUpdate(entry.getKey().flushSql, entry.getValue());
+                for (Object[] args : entry.getValue()) {
+                    total += Math.abs((Long) args[0]);
+                }
+            } catch (Exception e) {
+                log.error("{} 좋아요 수 반영 실패, 다음 주기에 재시도합니다: {}", entry.getKey(), e.getMessage());
+                for (Object[] args : entry.getValue()) {
+                    failed.put(new Key(entry.getKey(), (Integer) args[1]), (Long) args[0]);
+                }
+            }
+        }
+        flushedLikes.increment(total);
+        log.debug("좋아요 수 반영 완료 - 대상 {}개, 증감분 {}", deltas.size() - failed.size(), total);
+        return failed;
+    }
+
+    /**
+     * 좋아요 대상 종류
+     */
+    public enum Target {
+        /** 실시간 제보 */
+        LIVE_REPORT("UPDATE livereport SET like_count = GREATEST(like_count + ?, 0) WHERE id = ?"),
+        /** 동네 리뷰 */
+        TOWN_REVIEW("UPDATE townreview SET like_count = GREATEST(like_count + ?, 0) WHERE id = ?");
+
+        private final String flushSql;
+
+        Target(String flushSql) {
+            this.flushSql = flushSql;
+        }
+    }
+
+    private record Key(Target target, Integer id) {
+    }
+}
@@ -0,0 +1,369 @@
+package org.scit4bits.tonarinetserver.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.scit4bits.tonarinetserver.dto.LiveReportEventDTO;
+import org.scit4bits.tonarinetserver.dto.LiveReportResponseDTO;
+import org.scit4bits.tonarinetserver.entity.LiveReport;
+import org.scit4bits.tonarinetserver.event.LiveReportChangedEvent;
+import org.scit4bits.tonarinetserver.repository.LiveReportRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 오늘 작성된 실시간 제보를 위경도 격자 셀 단위로 메모리에 보관하는 공간 인덱스입니다.
+ * 반경/영역 검색을 DB 조회 없이 처리하고, 제보가 바뀌면 해당 셀의 구독자에게
+ * {@code /topic/livereport/{cell}} 로 변경 내용을 발송합니다.
+ * 자정에 새 날짜 기준으로 다시 적재하며, 다른 서버 인스턴스에서 일어난 변경은 마지막 적재 이후
+ * 작성되거나 수정된(updated_at) 제보만 주기적으로 읽어 반영합니다. 수정일로 알 수 없는 삭제는
+ * 드물게 실행하는 전체 재적재로 반영합니다.
+ */
+@Service
+@Slf4j
+public class LiveReportGrid {
+
+    /** 변경 알림 발송 경로 접두사 */
+    public static final String TOPIC_PREFIX = "/topic/livereport/";
+
+    private static final Comparator<LiveReportResponseDTO> BY_LIKES_DESC =
+            Comparator.comparing(LiveReportResponseDTO::getLikeCount, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    /** 수정일 기록 후 늦게 커밋된 변경을 놓치지 않도록 이전 적재 시점보다 앞당겨 조회하는 시간 */
+    private static final Duration REFRESH_OVERLAP = Duration.ofSeconds(10);
+
+    private final LiveReportRepository liveReportRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final double cellSizeDegrees;
+    private final int maxSubscriptionCells;
+
+    /** 현재 인덱스 (재적재 시 통째로 교체) */
+    private volatile Index index;
+
+    /** 마지막으로 적재한 제보의 최대 수정일 (다음 증분 적재의 기준) */
+    private LocalDateTime watermark;
+
+    /**
+     * LiveReportGrid 생성자
+     * @param liveReportRepository 실시간 제보 리포지토리
+     * @param messagingTemplate 변경 알림 발송에 사용할 SimpMessagingTemplate
+     * @param meterRegistry 메트릭 등록에 사용할 MeterRegistry
+     * @param cellSizeDegrees 격자 셀 한 변의 크기 (도)
+     * @param maxSubscriptionCells 한 번에 구독할 수 있는 최대 셀 수
+     */
+    public LiveReportGrid(LiveReportRepository liveReportRepository,
+                          SimpMessagingTemplate messagingTemplate,
+                          MeterRegistry meterRegistry,
+                          @Value("${livereport.grid.cell-size-degrees:0.05}") double cellSizeDegrees,
+                          @Value("${livereport.grid.max-subscription-cells:64}") int maxSubscriptionCells) {
+        this.liveReportRepository = liveReportRepository;
+        this.messagingTemplate = messagingTemplate;
+        this.cellSizeDegrees = cellSizeDegrees;
+        this.maxSubscriptionCells = maxSubscriptionCells;
+        Gauge.builder("livereport.grid.size", this, grid -> grid.index == null ? 0 : grid.index.reports.size())
+                .description("메모리 공간 인덱스에 보관 중인 실시간 제보 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 시작 시 오늘 작성된 제보를 적재합니다.
+     * 적재에 실패하면 다음 재적재 전까지 검색은 DB에서 처리됩니다.
+     */
+    @PostConstruct
+    public void init() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.error("실시간 제보 공간 인덱스 초기 적재 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 오늘 작성된 제보를 DB에서 다시 읽어 인덱스를 교체합니다.
+     * 자정에는 날짜가 바뀌므로 어제 제보가 모두 빠지고, 평소에는 증분 적재로 알 수 없는
+     * 다른 인스턴스의 삭제를 반영합니다.
+     */
+    @Scheduled(cron = "${livereport.grid.rollover-cron:0 0 0 * * *}")
+    @Scheduled(fixedDelayString = "${livereport.grid.full-reload-interval-ms:3600000}",
+            initialDelayString = "${livereport.grid.full-reload-interval-ms:3600000}")
+    public synchronized void reload() {
+        LocalDate today = LocalDate.now();
+        Index fresh = new Index(today);
+        LocalDateTime loadedUpTo = null;
+        for (LiveReport report : liveReportRepository.findByCreatedAtGreaterThanEqual(today.atStartOfDay())) {
+            fresh.put(LiveReportResponseDTO.fromEntity(report));
+            loadedUpTo = later(loadedUpTo, report.getUpdatedAt());
+        }
+        index = fresh;
+        watermark = loadedUpTo != null ? loadedUpTo : today.atStartOfDay();
+        log.debug("실시간 제보 공간 인덱스 적재 완료 - 날짜: {}, 제보 {}개", today, fresh.reports.size());
+    }
+
+    /**
+     * 마지막 적재 이후 작성되거나 수정된 오늘 제보만 읽어 인덱스에 반영합니다.
+     * 다른 인스턴스에서 작성, 수정되거나 좋아요 수가 바뀐 제보가 대상이며,
+     * 인덱스가 없거나 날짜가 바뀌었으면 전체를 다시 적재합니다.
+     */
+    @Scheduled(fixedDelayString = "${livereport.grid.refresh-interval-ms:30000}",
+            initialDelayString = "${livereport.grid.refresh-interval-ms:30000}")
+    public synchronized void refresh() {
+        Index current = currentIndex();
+        if (current == null || watermark == null) {
+            reload();
+            return;
+        }
+        List<LiveReport> changed = liveReportRepository.findByUpdatedAtGreaterThanEqual(watermark.minus(REFRESH_OVERLAP));
+        LocalDateTime loadedUpTo = watermark;
+        for (LiveReport report : changed) {
+            LiveReportResponseDTO dto = LiveReportResponseDTO.fromEntity(report);
+            if (isToday(dto, current.day)) {
+                current.put(dto);
+            }
+            loadedUpTo = later(loadedUpTo, report.getUpdatedAt());
+        }
+        watermark = loadedUpTo;
+        log.debug("실시간 제보 공간 인덱스 증분 적재 완료 - 변경된 제보 {}개", changed.size());
+    }
+
+    /**
+     * 중심 좌표에서 반경 안에 있는 오늘 제보를 좋아요 순으로 조회합니다.
+     * @param latitude 중심 위도
+     * @param longitude 중심 경도
+     * @param radiusKm 반경 (km)
+     * @return 제보 리스트 (인덱스가 준비되지 않았으면 빈 Optional)
+     */
+    public Optional<List<LiveReportResponseDTO>> findWithinRadius(double latitude, double longitude, double radiusKm) {
+        Index current = currentIndex();
+        if (current == null) {
+            return Optional.empty();
+        }
+        GeoDistance.BoundingBox box = GeoDistance.boundingBox(latitude, longitude, radiusKm);
+        List<LiveReportResponseDTO> result = new ArrayList<>();
+        for (LiveReportResponseDTO report : current.candidates(box)) {
+            if (GeoDistance.haversineKm(latitude, longitude, report.getLatitude(), report.getLongitude()) <= radiusKm) {
+                result.add(report);
+            }
+        }
+        result.sort(BY_LIKES_DESC);
+        return Optional.of(result);
+    }
+
+    /**
+     * 영역 안에 있는 오늘 제보를 좋아요 순으로 조회합니다.
+     * @param minLatitude 최소 위도
+     * @param minLongitude 최소 경도
+     * @param maxLatitude 최대 위도
+     * @param maxLongitude 최대 경도
+     * @return 제보 리스트 (인덱스가 준비되지 않았으면 빈 Optional)
+     */
+    public Optional<List<LiveReportResponseDTO>> findWithinBounds(double minLatitude, double minLongitude,
+                                                                 double maxLatitude, double maxLongitude) {
+        Index current = currentIndex();
+        if (current == null) {
+            return Optional.empty();
+        }
+        GeoDistance.BoundingBox box = new GeoDistance.BoundingBox(minLatitude, minLongitude, maxLatitude, maxLongitude);
+        List<LiveReportResponseDTO> result = new ArrayList<>();
+        for (LiveReportResponseDTO report : current.candidates(box)) {
+            if (contains(box, report)) {
+                result.add(report);
+            }
+        }
+        result.sort(BY_LIKES_DESC);
+        return Optional.of(result);
+    }
+
+    /**
+     * 반경 검색 영역을 덮는 셀 ID 목록을 반환합니다. 클라이언트는 각 셀의 토픽을 구독합니다.
+     * @param latitude 중심 위도
+     * @param longitude 중심 경도
+     * @param radiusKm 반경 (km)
+     * @return 셀 ID 리스트
+     */
+    public List<String> cellsCovering(double latitude, double longitude, double radiusKm) {
+        GeoDistance.BoundingBox box = GeoDistance.boundingBox(latitude, longitude, radiusKm);
+        int minRow = row(box.minLatitude());
+        int maxRow = row(box.maxLatitude());
+        int minColumn = column(box.minLongitude());
+        int maxColumn = column(box.maxLongitude());
+        if ((long) (maxRow - minRow + 1) * (maxColumn - minColumn + 1) > maxSubscriptionCells) {
+            throw new RuntimeException("구독 영역이 너무 넓습니다. 반경을 줄여주세요.");
+        }
+        List<String> cells = new ArrayList<>();
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                cells.add(row + "_" + column);
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * 좌표가 속한 셀 ID를 반환합니다.
+     * @param latitude 위도
+     * @param longitude 경도
+     * @return 셀 ID
+     */
+    public String cellId(double latitude, double longitude) {
+        return row(latitude) + "_" + column(longitude);
+    }
+
+    /**
+     * 제보 변경 트랜잭션이 커밋되면 인덱스를 갱신하고 해당 셀의 구독자에게 알립니다.
+     * @param event 실시간 제보 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLiveReportChanged(LiveReportChangedEvent event) {
+        LiveReportResponseDTO report = event.getReport();
+        LiveReportResponseDTO previous;
+        synchronized (this) {
+            Index current = index;
+            if (current == null || !current.day.equals(LocalDate.now()) || !isToday(report, current.day)) {
+                return;
+            }
+            previous = event.getChangeType() == LiveReportChangedEvent.ChangeType.DELETED
+                    ? current.remove(report.getId())
+                    : current.put(report);
+        }
+
+        String cell = cellId(report.getLatitude(), report.getLongitude());
+        if (previous != null && event.getChangeType() != LiveReportChangedEvent.ChangeType.DELETED) {
+            String previousCell = cellId(previous.getLatitude(), previous.getLongitude());
+            if (!previousCell.equals(cell)) {
+                // 다른 셀로 이동한 제보는 이전 셀에서 삭제된 것으로 알림
+                publish(previousCell, LiveReportChangedEvent.ChangeType.DELETED, previous);
+            }
+        }
+        publish(cell, event.getChangeType(), report);
+    }
+
+    private void publish(String cell, LiveReportChangedEvent.ChangeType type, LiveReportResponseDTO report) {
+        try {
+            messagingTemplate.convertAndSend(TOPIC_PREFIX + cell, LiveReportEventDTO.builder()
+                    .type(type.name())
+                    .cell(cell)
+                    .report(report)
+                    .build());
+        } catch (Exception e) {
+            log.warn("실시간 제보 변경 알림 발송 실패 - 셀: {}, 제보: {}: {}", cell, report.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 인덱스를 반환합니다. 날짜가 바뀌었는데 아직 재적재되지 않았으면 null을 반환합니다.
+     */
+    private Index currentIndex() {
+        Index current = index;
+        return current != null && current.day.equals(LocalDate.now()) ? current : null;
+    }
+
+    private static LocalDateTime later(LocalDateTime current, LocalDateTime candidate) {
+        return candidate != null && (current == null || candidate.isAfter(current)) ? candidate : current;
+    }
+
+    private static boolean isToday(LiveReportResponseDTO report, LocalDate day) {
+        LocalDateTime createdAt = report.getCreatedAt();
+        return createdAt == null || !createdAt.isBefore(day.atStartOfDay());
+    }
+
+    private static boolean contains(GeoDistance.BoundingBox box, LiveReportResponseDTO report) {
+        return report.getLatitude() >= box.minLatitude() && report.getLatitude() <= box.maxLatitude()
+                && report.getLongitude() >= box.minLongitude() && report.getLongitude() <= box.maxLongitude();
+    }
+
+    private int row(double latitude) {
+        return (int) Math.floor((Math.max(-90.0, Math.min(90.0, latitude)) + 90.0) / cellSizeDegrees);
+    }
+
+    private int column(double longitude) {
+        return (int) Math.floor((Math.max(-180.0, Math.min(180.0, longitude)) + 180.0) / cellSizeDegrees);
+    }
+
+    private static long cellKey(int row, int column) {
+        return ((long) row << 32) | (column & 0xffffffffL);
+    }
+
+    /**
+     * 하루치 제보의 셀별 인덱스
+     */
+    private final class Index {
+
+        private final LocalDate day;
+        /** 제보 ID → 제보 */
+        private final Map<Integer, LiveReportResponseDTO> reports = new ConcurrentHashMap<>();
+        /** 셀 키 → (제보 ID → 제보) */
+        private final Map<Long, Map<Integer, LiveReportResponseDTO>> cells = new ConcurrentHashMap<>();
+
+        private Index(LocalDate day) {
+            this.day = day;
+        }
+
+        private LiveReportResponseDTO put(LiveReportResponseDTO report) {
+            LiveReportResponseDTO previous = reports.put(report.getId(), report);
+            if (previous != null) {
+                removeFromCell(previous);
+            }
+            cells.computeIfAbsent(cellKey(row(report.getLatitude()), column(report.getLongitude())),
+                    key -> new ConcurrentHashMap<>()).put(report.getId(), report);
+            return previous;
+        }
+
+        private LiveReportResponseDTO remove(Integer id) {
+            LiveReportResponseDTO previous = reports.remove(id);
+            if (previous != null) {
+                removeFromCell(previous);
+            }
+            return previous;
+        }
+
+        private void removeFromCell(LiveReportResponseDTO report) {
+            long key = cellKey(row(report.getLatitude()), column(report.getLongitude()));
+            Map<Integer, LiveReportResponseDTO> cell = cells.get(key);
+            if (cell != null) {
+                cell.remove(report.getId());
+                if (cell.isEmpty()) {
+                    cells.remove(key, cell);
+                }
+            }
+        }
+
+        /**
+         * 경계 상자와 겹치는 셀의 제보를 반환합니다.
+         * 겹치는 셀이 보관 중인 셀보다 많으면 셀을 하나씩 확인하는 대신 전체 제보를 반환합니다.
+         */
+        private Collection<LiveReportResponseDTO> candidates(GeoDistance.BoundingBox box) {
+            int minRow = row(box.minLatitude());
+            int maxRow = row(box.maxLatitude());
+            int minColumn = column(box.minLongitude());
+            int maxColumn = column(box.maxLongitude());
+            if ((long) (maxRow - minRow + 1) * (maxColumn - minColumn + 1) > cells.size()) {
+                return reports.values();
+            }
+            List<LiveReportResponseDTO> candidates = new ArrayList<>();
+            for (int row = minRow; row <= maxRow; row++) {
+                for (int column = minColumn; column <= maxColumn; column++) {
+                    Map<Integer, LiveReportResponseDTO> cell = cells.get(cellKey(row, column));
+                    if (cell != null) {
+                        candidates.addAll(cell.values());
+                    }
+                }
+            }
+            return candidates;
+        }
+    }
+}
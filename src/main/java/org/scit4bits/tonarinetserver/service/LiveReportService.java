@@ -7,14 +7,19 @@ import org.scit4bits.tonarinetserver.dto.LiveReportResponseDTO;
 import org.scit4bits.tonarinetserver.dto.PagedResponse;
 import org.scit4bits.tonarinetserver.entity.LiveReport;
 import org.scit4bits.tonarinetserver.entity.User;
+import org.scit4bits.tonarinetserver.event.LiveReportChangedEvent;
 import org.scit4bits.tonarinetserver.repository.LiveReportRepository;
+import org.scit4bits.tonarinetserver.repository.UserLikeLiveReportRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -27,6 +32,10 @@ import java.util.List;
 public class LiveReportService {
 
     private final LiveReportRepository liveReportRepository;
+    private final UserLikeLiveReportRepository userLikeLiveReportRepository;
+    private final LikeCounterBuffer likeCounterBuffer;
+    private final LiveReportGrid liveReportGrid;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 새로운 실시간 제보를 생성합니다.
@@ -47,8 +56,11 @@ public class LiveReportService {
                 .build();
 
         LiveReport savedReport = liveReportRepository.save(liveReport);
+        LiveReportResponseDTO response = LiveReportResponseDTO.fromEntity(savedReport);
+        response.setCreatedByName(creator.getNickname());
+        eventPublisher.publishEvent(new LiveReportChangedEvent(response, LiveReportChangedEvent.ChangeType.CREATED));
         log.info("실시간 제보 생성 완료, ID: {}", savedReport.getId());
-        return LiveReportResponseDTO.fromEntity(savedReport);
+        return response;
     }
 
     /**
@@ -89,18 +101,58 @@ public class LiveReportService {
     }
 
     /**
-     * 특정 위치 근처의 실시간 제보 목록을 조회합니다.
+     * 특정 위치 근처에서 오늘 작성된 실시간 제보 목록을 조회합니다.
      * @param longitude 경도
      * @param latitude 위도
-     * @param range 검색 반경
+     * @param radiusKm 검색 반경 (km)
      * @return LiveReportResponseDTO 리스트
      */
     @Transactional(readOnly = true)
-    public List<LiveReportResponseDTO> getLiveReportsNearLocation(Double longitude, Double latitude, Double range) {
-        log.info("위치 기반 실시간 제보 조회 - 위치: ({}, {}), 반경: {}", longitude, latitude, range);
-        return liveReportRepository.findByLocationRange(longitude, latitude, range).stream()
-                .map(LiveReportResponseDTO::fromEntity)
-                .toList();
+    public List<LiveReportResponseDTO> getLiveReportsNearLocation(Double longitude, Double latitude, Double radiusKm) {
+        log.info("위치 기반 실시간 제보 조회 - 위치: ({}, {}), 반경: {}km", longitude, latitude, radiusKm);
+        return liveReportGrid.findWithinRadius(latitude, longitude, radiusKm).orElseGet(() -> {
+            GeoDistance.BoundingBox box = GeoDistance.boundingBox(latitude, longitude, radiusKm);
+            return liveReportRepository.findWithinRadius(longitude, latitude,
+                            box.minLongitude(), box.minLatitude(), box.maxLongitude(), box.maxLatitude(),
+                            radiusKm * 1000, LocalDate.now().atStartOfDay()).stream()
+                    .map(LiveReportResponseDTO::fromEntity)
+                    .toList();
+        });
+    }
+
+    /**
+     * 영역 안에서 오늘 작성된 실시간 제보 목록을 조회합니다.
+     * @param minLatitude 최소 위도
+     * @param minLongitude 최소 경도
+     * @param maxLatitude 최대 위도
+     * @param maxLongitude 최대 경도
+     * @return LiveReportResponseDTO 리스트
+     */
+    @Transactional(readOnly = true)
+    public List<LiveReportResponseDTO> getLiveReportsWithinBounds(Double minLatitude, Double minLongitude,
+                                                                  Double maxLatitude, Double maxLongitude) {
+        log.info("영역 기반 실시간 제보 조회 - ({}, {}) ~ ({}, {})", minLatitude, minLongitude, maxLatitude, maxLongitude);
+        return liveReportGrid.findWithinBounds(minLatitude, minLongitude, maxLatitude, maxLongitude).orElseGet(() -> {
+            double centerLatitude = (minLatitude + maxLatitude) / 2;
+            double centerLongitude = (minLongitude + maxLongitude) / 2;
+            return liveReportRepository.findWithinRadius(centerLongitude, centerLatitude,
+                            minLongitude, minLatitude, maxLongitude, maxLatitude,
+                            Double.MAX_VALUE, LocalDate.now().atStartOfDay()).stream()
+                    .map(LiveReportResponseDTO::fromEntity)
+                    .toList();
+        });
+    }
+
+    /**
+     * 반경 검색 영역의 변경 알림을 받기 위해 구독해야 하는 셀 ID 목록을 조회합니다.
+     * @param longitude 경도
+     * @param latitude 위도
+     * @param radiusKm 검색 반경 (km)
+     * @return 셀 ID 리스트 (/topic/livereport/{cell} 로 구독)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<String> getSubscriptionCells(Double longitude, Double latitude, Double radiusKm) {
+        return liveReportGrid.cellsCovering(latitude, longitude, radiusKm);
     }
 
     /**
@@ -129,8 +181,10 @@ public class LiveReportService {
                 ? request.getLatitude() : liveReport.getLatitude());
 
         LiveReport savedReport = liveReportRepository.save(liveReport);
+        LiveReportResponseDTO response = LiveReportResponseDTO.fromEntity(savedReport);
+        eventPublisher.publishEvent(new LiveReportChangedEvent(response, LiveReportChangedEvent.ChangeType.UPDATED));
         log.info("실시간 제보 수정 완료");
-        return LiveReportResponseDTO.fromEntity(savedReport);
+        return response;
     }
 
     /**
@@ -149,29 +203,54 @@ public class LiveReportService {
             throw new RuntimeException("작성자 또는 관리자만 제보를 삭제할 수 있습니다.");
         }
 
+        LiveReportResponseDTO deleted = LiveReportResponseDTO.fromEntity(liveReport);
         liveReportRepository.deleteById(id);
+        eventPublisher.publishEvent(new LiveReportChangedEvent(deleted, LiveReportChangedEvent.ChangeType.DELETED));
         log.info("실시간 제보 삭제 완료");
     }
 
     /**
-     * 실시간 제보에 '좋아요'를 추가합니다.
+     * 실시간 제보에 '좋아요'를 추가합니다. 이미 '좋아요'를 누른 경우 아무것도 바뀌지 않습니다.
      * @param id '좋아요'할 제보 ID
      * @param user 현재 로그인한 사용자 정보
      * @return 업데이트된 제보 정보
      */
     public LiveReportResponseDTO likeLiveReport(Integer id, User user) {
         log.info("사용자 {}가 실시간 제보 {}에 '좋아요'를 눌렀습니다.", user.getId(), id);
+        return changeLike(id, user, userLikeLiveReportRepository.insertIgnore(user.getId(), id) > 0 ? 1 : 0);
+    }
+
+    /**
+     * 실시간 제보의 '좋아요'를 취소합니다. '좋아요'를 누르지 않은 경우 아무것도 바뀌지 않습니다.
+     * @param id '좋아요'를 취소할 제보 ID
+     * @param user 현재 로그인한 사용자 정보
+     * @return 업데이트된 제보 정보
+     */
+    public LiveReportResponseDTO unlikeLiveReport(Integer id, User user) {
+        log.info("사용자 {}가 실시간 제보 {}의 '좋아요'를 취소했습니다.", user.getId(), id);
+        return changeLike(id, user, userLikeLiveReportRepository.deleteByUserIdAndLiveReportId(user.getId(), id) > 0 ? -1 : 0);
+    }
 
+    /**
+     * '좋아요' 기록 변경에 따라 좋아요 수를 조정하고 변경된 제보 정보를 반환합니다.
+     * 좋아요 수는 LikeCounterBuffer에 누적했다가 일괄 반영하므로, 응답에는 반영 대기 중인 증감분을 더해 보여줍니다.
+     */
+    private LiveReportResponseDTO changeLike(Integer id, User user, int delta) {
         LiveReport liveReport = liveReportRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("실시간 제보를 찾을 수 없습니다. ID: " + id));
 
-        // 실제 구현에서는 사용자가 이미 '좋아요'를 눌렀는지 확인해야 합니다.
-        // 현재는 단순히 '좋아요' 수를 증가시킵니다.
-        liveReport.setLikeCount(liveReport.getLikeCount() + 1);
+        LiveReportResponseDTO response = LiveReportResponseDTO.fromEntity(liveReport);
+        long pending = likeCounterBuffer.getPending(LikeCounterBuffer.Target.LIVE_REPORT, id);
+        response.setLikeCount((int) Math.max(0, liveReport.getLikeCount() + pending + delta));
+        if (delta == 0) {
+            log.debug("실시간 제보 {}의 '좋아요' 상태 변경 없음 - 사용자: {}", id, user.getId());
+            return response;
+        }
 
-        LiveReport savedReport = liveReportRepository.save(liveReport);
+        likeCounterBuffer.adjust(LikeCounterBuffer.Target.LIVE_REPORT, id, delta);
+        eventPublisher.publishEvent(new LiveReportChangedEvent(response, LiveReportChangedEvent.ChangeType.LIKED));
         log.info("실시간 제보 '좋아요' 처리 완료");
-        return LiveReportResponseDTO.fromEntity(savedReport);
+        return response;
     }
 
     /**
@@ -0,0 +1,70 @@
+package org.scit4bits.tonarinetserver.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+/**
+ * 로컬 디스크(업로드 디렉터리)에 파일 내용을 저장하는 저장소입니다.
+ * 키는 업로드 디렉터리 기준 상대 경로이며, 이전 버전에서 절대 경로로 저장된 파일도 그대로 읽을 수 있습니다.
+ */
+@Slf4j
+public class LocalBlobStore implements BlobStore {
+
+    private final Path root;
+
+    /**
+     * LocalBlobStore 생성자
+     * @param root 파일을 저장할 루트 디렉터리
+     */
+    public LocalBlobStore(Path root) {
+        this.root = root.toAbsolutePath().normalize();
+    }
+
+    @Override
+    public void put(String key, Path source) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        // 임시 파일은 같은 업로드 디렉터리에 있으므로 다시 쓰지 않고 이동만 함
+        Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.exists(resolve(key));
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        return Optional.of(resolve(key));
+    }
+
+    private Path resolve(String key) {
+        Path path = Paths.get(key);
+        // 이전 버전에서 저장한 절대 경로는 그대로 사용
+        if (path.isAbsolute()) {
+            return path;
+        }
+        Path resolved = root.resolve(path).normalize();
+        if (!resolved.startsWith(root)) {
+            throw new IllegalArgumentException("잘못된 저장소 키입니다: " + key);
+        }
+        return resolved;
+    }
+}
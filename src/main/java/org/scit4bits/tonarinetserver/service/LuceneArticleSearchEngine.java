@@ -0,0 +1,500 @@
+package org.scit4bits.tonarinetserver.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.cjk.CJKBigramFilter;
+import org.apache.lucene.analysis.cjk.CJKWidthFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.QueryBuilder;
+import org.scit4bits.tonarinetserver.entity.Article;
+import org.scit4bits.tonarinetserver.event.ArticleChangedEvent;
+import org.scit4bits.tonarinetserver.repository.ArticleRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Lucene 역색인을 사용하는 게시글 검색 엔진입니다.
+ * 한국어/일본어 본문은 CJK 바이그램으로 분석하며, 결과는 BM25 관련도순으로 정렬됩니다.
+ * 색인은 디스크에 유지되며, 시작 시에는 마지막 커밋 이후 수정된 게시글만 DB에서 읽어 따라잡습니다.
+ * 이 서버의 변경은 게시글 변경 이벤트로 즉시 반영하고, 다른 서버 인스턴스의 변경은
+ * updated_at 기준의 주기적인 증분 동기화와 게시글 ID 대조(삭제 반영)로 반영합니다.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "article.search.engine", havingValue = "lucene", matchIfMissing = true)
+public class LuceneArticleSearchEngine implements ArticleSearchEngine {
+
+    private static final String F_ID = "id";
+    private static final String F_BOARD = "boardId";
+    private static final String F_CATEGORY = "category";
+    private static final String F_TITLE = "title";
+    private static final String F_CONTENTS = "contents";
+    private static final String F_CATEGORY_TEXT = "categoryText";
+    private static final int REBUILD_CHUNK_SIZE = 500;
+    private static final int SORT_KEY_MAX_LENGTH = 256;
+    private static final float TITLE_BOOST = 2.0f;
+
+    /** 커밋 데이터: 색인에 반영된 게시글의 최대 수정 시간 */
+    private static final String COMMIT_SYNCED_UP_TO = "syncedUpTo";
+    /** 커밋 데이터: 문서 구조 버전 (필드 구성이 바뀌면 올려서 재구성을 유도) */
+    private static final String COMMIT_FORMAT = "format";
+    private static final String INDEX_FORMAT = "1";
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final ArticleRepository articleRepository;
+    private final Analyzer indexAnalyzer = cjkBigramAnalyzer(true);
+    private final QueryBuilder queryBuilder = new QueryBuilder(cjkBigramAnalyzer(false));
+
+    @Value("${article.search.index-path:./article-index}")
+    private String indexPath;
+
+    /** 증분 동기화 시 수정 시간 기준을 되돌려 다시 읽는 구간 (늦게 커밋된 트랜잭션 보정) */
+    @Value("${article.search.sync-overlap:2m}")
+    private Duration syncOverlap;
+
+    private Directory directory;
+    private IndexWriter indexWriter;
+    private SearcherManager searcherManager;
+
+    /** 색인에 반영된 게시글의 최대 수정 시간 (DB 시간 기준) */
+    private volatile LocalDateTime syncedUpTo = EPOCH;
+
+    /**
+     * 겹침 구간 안에서 이미 동기화한 게시글 ID → 색인한 시점의 수정 시간.
+     * 겹침 구간은 매 주기 다시 조회되므로, 수정 시간이 그대로인 게시글은 다시 색인하지 않습니다.
+     */
+    private final Map<Integer, LocalDateTime> recentlySynced = new HashMap<>();
+
+    /**
+     * LuceneArticleSearchEngine 생성자
+     * @param articleRepository 게시글 리포지토리
+     */
+    public LuceneArticleSearchEngine(ArticleRepository articleRepository) {
+        this.articleRepository = articleRepository;
+    }
+
+    /**
+     * 색인 디렉토리를 열고 마지막 커밋 이후의 변경분을 따라잡습니다.
+     * 색인이 없거나 문서 구조 버전이 다르면 DB의 모든 게시글로 색인을 재구성합니다.
+     * @throws IOException 색인 디렉토리를 열 수 없는 경우
+     */
+    @PostConstruct
+    public void init() throws IOException {
+        directory = FSDirectory.open(Paths.get(indexPath));
+        IndexWriterConfig config = new IndexWriterConfig(indexAnalyzer);
+        config.setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        indexWriter = new IndexWriter(directory, config);
+        searcherManager = new SearcherManager(indexWriter, null);
+
+        Map<String, String> commitData = new HashMap<>();
+        Iterable<Map.Entry<String, String>> liveCommitData = indexWriter.getLiveCommitData();
+        if (liveCommitData != null) {
+            liveCommitData.forEach(entry -> commitData.put(entry.getKey(), entry.getValue()));
+        }
+
+        String synced = commitData.get(COMMIT_SYNCED_UP_TO);
+        if (synced == null || !INDEX_FORMAT.equals(commitData.get(COMMIT_FORMAT))) {
+            rebuildIndex();
+        } else {
+            syncedUpTo = LocalDateTime.parse(synced);
+            log.info("기존 게시글 검색 색인 사용 - 문서 {}건, 마지막 동기화 {}", indexWriter.getDocStats().numDocs, syncedUpTo);
+            syncChanges();
+            reconcile();
+        }
+    }
+
+    /**
+     * DB의 모든 게시글을 일정 크기씩 나누어 다시 색인합니다.
+     * @throws IOException 색인 중 오류가 발생한 경우
+     */
+    public synchronized void rebuildIndex() throws IOException {
+        long started = System.currentTimeMillis();
+        indexWriter.deleteAll();
+
+        int page = 0;
+        long indexed = 0;
+        LocalDateTime maxUpdatedAt = EPOCH;
+        Page<Article> chunk;
+        do {
+            chunk = articleRepository.findAll(PageRequest.of(page++, REBUILD_CHUNK_SIZE, Sort.by("id")));
+            for (Article article : chunk.getContent()) {
+                indexWriter.addDocument(toDocument(article));
+                maxUpdatedAt = later(maxUpdatedAt, article.getUpdatedAt());
+                indexed++;
+            }
+        } while (chunk.hasNext());
+
+        syncedUpTo = maxUpdatedAt;
+        commitIndex();
+        log.info("게시글 검색 색인 재구성 완료 - {}건, {}ms", indexed, System.currentTimeMillis() - started);
+    }
+
+    /**
+     * 마지막 동기화 이후 수정된 게시글을 DB에서 읽어 색인에 반영합니다.
+     * 다른 서버 인스턴스에서 생성/수정된 게시글도 이 동기화로 반영됩니다.
+     * 기준 시간은 DB의 updated_at 값이므로 서버 간 시계 차이의 영향을 받지 않습니다.
+     * 좋아요/댓글/조회수 같은 카운터 변경은 updated_at을 바꾸지 않으므로, 본문이 수정된 게시글만 다시 색인됩니다.
+     */
+    @Scheduled(fixedDelayString = "${article.search.sync-interval-ms:10000}",
+            initialDelayString = "${article.search.sync-interval-ms:10000}")
+    public synchronized void syncChanges() {
+        LocalDateTime since = syncedUpTo.minus(syncOverlap);
+        LocalDateTime maxUpdatedAt = syncedUpTo;
+        long updated = 0;
+        try {
+            int page = 0;
+            Slice<Article> chunk;
+            do {
+                chunk = articleRepository.findByUpdatedAtGreaterThanEqual(since,
+                        PageRequest.of(page++, REBUILD_CHUNK_SIZE, Sort.by("id")));
+                for (Article article : chunk.getContent()) {
+                    maxUpdatedAt = later(maxUpdatedAt, article.getUpdatedAt());
+                    if (article.getUpdatedAt() != null
+                            && article.getUpdatedAt().equals(recentlySynced.get(article.getId()))) {
+                        continue;
+                    }
+                    indexWriter.updateDocument(idTerm(article.getId()), toDocument(article));
+                    recentlySynced.put(article.getId(), article.getUpdatedAt());
+                    updated++;
+                }
+            } while (chunk.hasNext());
+            // 다음 주기의 겹침 구간보다 오래된 기록은 더 이상 조회되지 않으므로 정리
+            LocalDateTime nextSince = maxUpdatedAt.minus(syncOverlap);
+            recentlySynced.values().removeIf(updatedAt -> updatedAt == null || updatedAt.isBefore(nextSince));
+
+            if (updated > 0) {
+                syncedUpTo = maxUpdatedAt;
+                commitIndex();
+            }
+            log.debug("게시글 검색 색인 증분 동기화 - {}건, 기준 {}", updated, since);
+        } catch (IOException e) {
+            log.error("게시글 검색 색인 증분 동기화 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 색인의 게시글 ID와 DB의 게시글 ID를 대조하여, 삭제된 게시글을 색인에서 지우고 빠진 게시글을 추가합니다.
+     * 다른 서버 인스턴스에서 삭제된 게시글은 수정 시간으로 찾을 수 없으므로 이 대조로 반영됩니다.
+     */
+    @Scheduled(fixedDelayString = "${article.search.reconcile-interval-ms:300000}",
+            initialDelayString = "${article.search.reconcile-interval-ms:300000}")
+    public synchronized void reconcile() {
+        try {
+            // 색인을 먼저 읽어야, 그 사이에 생성되어 색인된 게시글이 DB 목록에 없다는 이유로 지워지지 않습니다.
+            Set<Integer> indexedIds = indexedIds();
+            Set<Integer> dbIds = new HashSet<>(articleRepository.findAllIds());
+
+            int removed = 0;
+            for (Integer id : indexedIds) {
+                if (!dbIds.contains(id)) {
+                    indexWriter.deleteDocuments(idTerm(id));
+                    removed++;
+                }
+            }
+
+            List<Integer> missing = dbIds.stream().filter(id -> !indexedIds.contains(id)).toList();
+            for (int from = 0; from < missing.size(); from += REBUILD_CHUNK_SIZE) {
+                List<Integer> ids = missing.subList(from, Math.min(missing.size(), from + REBUILD_CHUNK_SIZE));
+                for (Article article : articleRepository.findAllById(ids)) {
+                    indexWriter.updateDocument(idTerm(article.getId()), toDocument(article));
+                }
+            }
+
+            if (removed > 0 || !missing.isEmpty()) {
+                commitIndex();
+                log.info("게시글 검색 색인 대조 완료 - 삭제 {}건, 추가 {}건", removed, missing.size());
+            }
+        } catch (IOException e) {
+            log.error("게시글 검색 색인 대조 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 게시글 변경 트랜잭션이 커밋된 후 색인을 증분 갱신합니다.
+     * @param event 게시글 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        try {
+            Term idTerm = idTerm(event.getArticleId());
+            if (event.getChangeType() == ArticleChangedEvent.ChangeType.DELETED) {
+                indexWriter.deleteDocuments(idTerm);
+            } else {
+                Article article = articleRepository.findById(event.getArticleId()).orElse(null);
+                if (article == null) {
+                    indexWriter.deleteDocuments(idTerm);
+                } else {
+                    indexWriter.updateDocument(idTerm, toDocument(article));
+                }
+            }
+            searcherManager.maybeRefresh();
+            log.debug("게시글 검색 색인 갱신: {}", event);
+        } catch (IOException e) {
+            log.error("게시글 검색 색인 갱신 실패: {} - {}", event, e.getMessage());
+        }
+    }
+
+    @Override
+    public Page<Article> search(Integer boardId, String field, String search, String category, Pageable pageable) {
+        Query textQuery = buildTextQuery(field, search);
+        if (textQuery == null) {
+            return Page.empty(pageable);
+        }
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder()
+                .add(textQuery, BooleanClause.Occur.MUST)
+                .add(new TermQuery(new Term(F_BOARD, String.valueOf(boardId))), BooleanClause.Occur.FILTER);
+        if (category != null) {
+            builder.add(new TermQuery(new Term(F_CATEGORY, category)), BooleanClause.Occur.FILTER);
+        } else {
+            builder.add(new TermQuery(new Term(F_CATEGORY, "counsel")), BooleanClause.Occur.MUST_NOT);
+        }
+        Query query = builder.build();
+
+        List<Integer> ids = new ArrayList<>();
+        long total;
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            int limit = (int) Math.min(Integer.MAX_VALUE, pageable.getOffset() + pageable.getPageSize());
+            TopDocs topDocs = pageable.getSort().isSorted()
+                    ? searcher.search(query, limit, toLuceneSort(pageable.getSort()))
+                    : searcher.search(query, limit);
+            total = searcher.count(query);
+
+            StoredFields storedFields = searcher.storedFields();
+            ScoreDoc[] hits = topDocs.scoreDocs;
+            for (int i = (int) pageable.getOffset(); i < hits.length; i++) {
+                ids.add(Integer.valueOf(storedFields.document(hits[i].doc).get(F_ID)));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("게시글 검색 중 오류가 발생했습니다.", e);
+        } finally {
+            if (searcher != null) {
+                try {
+                    searcherManager.release(searcher);
+                } catch (IOException e) {
+                    log.warn("IndexSearcher 반환 실패: {}", e.getMessage());
+                }
+            }
+        }
+
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, total);
+        }
+
+        // 검색 엔진의 순위를 유지한 채로 게시글 엔티티를 한 번에 조회
+        Map<Integer, Integer> rank = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            rank.put(ids.get(i), i);
+        }
+        List<Article> articles = new ArrayList<>(articleRepository.findByIdIn(ids));
+        articles.sort(Comparator.comparingInt(a -> rank.get(a.getId())));
+        return new PageImpl<>(articles, pageable, total);
+    }
+
+    /**
+     * 애플리케이션 종료 시 색인을 커밋하고 닫습니다.
+     * @throws IOException 색인을 닫는 중 오류가 발생한 경우
+     */
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        indexWriter.close();
+        directory.close();
+    }
+
+    /**
+     * 동기화 기준 시간을 커밋 데이터에 기록하며 색인을 커밋하고, 검색기를 새 색인으로 갱신합니다.
+     */
+    private void commitIndex() throws IOException {
+        indexWriter.setLiveCommitData(Map.of(
+                COMMIT_SYNCED_UP_TO, syncedUpTo.toString(),
+                COMMIT_FORMAT, INDEX_FORMAT).entrySet());
+        indexWriter.commit();
+        searcherManager.maybeRefresh();
+    }
+
+    /**
+     * 현재 색인에 들어 있는 게시글 ID를 모두 읽습니다.
+     */
+    private Set<Integer> indexedIds() throws IOException {
+        searcherManager.maybeRefreshBlocking();
+        Set<Integer> ids = new HashSet<>();
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            for (LeafReaderContext leaf : searcher.getIndexReader().leaves()) {
+                Bits liveDocs = leaf.reader().getLiveDocs();
+                NumericDocValues values = DocValues.getNumeric(leaf.reader(), "id_sort");
+                for (int doc = values.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = values.nextDoc()) {
+                    if (liveDocs == null || liveDocs.get(doc)) {
+                        ids.add((int) values.longValue());
+                    }
+                }
+            }
+        } finally {
+            searcherManager.release(searcher);
+        }
+        return ids;
+    }
+
+    private static Term idTerm(Integer articleId) {
+        return new Term(F_ID, String.valueOf(articleId));
+    }
+
+    private static LocalDateTime later(LocalDateTime current, LocalDateTime candidate) {
+        return candidate != null && candidate.isAfter(current) ? candidate : current;
+    }
+
+    private Query buildTextQuery(String field, String search) {
+        return switch (field) {
+            case FIELD_TITLE -> queryBuilder.createBooleanQuery(F_TITLE, search, BooleanClause.Occur.MUST);
+            case FIELD_CONTENTS -> queryBuilder.createBooleanQuery(F_CONTENTS, search, BooleanClause.Occur.MUST);
+            default -> {
+                // 각 필드 안에서 모든 토큰이 일치해야 하며, 제목 일치에 가중치를 부여
+                BooleanQuery.Builder builder = new BooleanQuery.Builder();
+                Query title = queryBuilder.createBooleanQuery(F_TITLE, search, BooleanClause.Occur.MUST);
+                Query contents = queryBuilder.createBooleanQuery(F_CONTENTS, search, BooleanClause.Occur.MUST);
+                Query category = queryBuilder.createBooleanQuery(F_CATEGORY_TEXT, search, BooleanClause.Occur.MUST);
+                if (title == null && contents == null && category == null) {
+                    yield null;
+                }
+                if (title != null) {
+                    builder.add(new BoostQuery(title, TITLE_BOOST), BooleanClause.Occur.SHOULD);
+                }
+                if (contents != null) {
+                    builder.add(contents, BooleanClause.Occur.SHOULD);
+                }
+                if (category != null) {
+                    builder.add(category, BooleanClause.Occur.SHOULD);
+                }
+                yield builder.setMinimumNumberShouldMatch(1).build();
+            }
+        };
+    }
+
+    private org.apache.lucene.search.Sort toLuceneSort(Sort sort) {
+        List<SortField> fields = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            boolean reverse = order.isDescending();
+            switch (order.getProperty()) {
+                case "title" -> fields.add(new SortField("title_sort", SortField.Type.STRING, reverse));
+                case "category" -> fields.add(new SortField("category_sort", SortField.Type.STRING, reverse));
+                case "createdAt" -> fields.add(new SortField("createdAt_sort", SortField.Type.LONG, reverse));
+                case "updatedAt" -> fields.add(new SortField("updatedAt_sort", SortField.Type.LONG, reverse));
+                case "createdById" -> fields.add(new SortField("createdById_sort", SortField.Type.LONG, reverse));
+                default -> fields.add(new SortField("id_sort", SortField.Type.LONG, reverse));
+            }
+        }
+        fields.add(new SortField("id_sort", SortField.Type.LONG));
+        return new org.apache.lucene.search.Sort(fields.toArray(new SortField[0]));
+    }
+
+    private Document toDocument(Article article) {
+        Document doc = new Document();
+        doc.add(new StringField(F_ID, String.valueOf(article.getId()), Field.Store.YES));
+        doc.add(new StringField(F_BOARD, String.valueOf(article.getBoardId()), Field.Store.NO));
+        doc.add(new TextField(F_TITLE, article.getTitle(), Field.Store.NO));
+        doc.add(new TextField(F_CONTENTS, article.getContents(), Field.Store.NO));
+        if (article.getCategory() != null) {
+            doc.add(new StringField(F_CATEGORY, article.getCategory(), Field.Store.NO));
+            doc.add(new TextField(F_CATEGORY_TEXT, article.getCategory(), Field.Store.NO));
+            doc.add(new SortedDocValuesField("category_sort", new BytesRef(article.getCategory().toLowerCase())));
+        }
+
+        // 정렬용 DocValues
+        doc.add(new NumericDocValuesField("id_sort", article.getId()));
+        doc.add(new NumericDocValuesField("createdById_sort", article.getCreatedById()));
+        doc.add(new SortedDocValuesField("title_sort", new BytesRef(sortKey(article.getTitle()))));
+        if (article.getCreatedAt() != null) {
+            doc.add(new NumericDocValuesField("createdAt_sort",
+                    article.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()));
+        }
+        if (article.getUpdatedAt() != null) {
+            doc.add(new NumericDocValuesField("updatedAt_sort",
+                    article.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()));
+        }
+        return doc;
+    }
+
+    private static String sortKey(String value) {
+        String lower = value.toLowerCase();
+        return lower.length() > SORT_KEY_MAX_LENGTH ? lower.substring(0, SORT_KEY_MAX_LENGTH) : lower;
+    }
+
+    /**
+     * 한중일 문자는 바이그램으로, 그 외 문자는 단어 단위로 분석하는 Analyzer를 생성합니다.
+     * @param outputUnigrams 유니그램도 함께 출력할지 여부 (색인 시 true로 두어 한 글자 검색을 지원)
+     * @return Analyzer
+     */
+    private static Analyzer cjkBigramAnalyzer(boolean outputUnigrams) {
+        return new Analyzer() {
+            @Override
+            protected TokenStreamComponents createComponents(String fieldName) {
+                Tokenizer source = new StandardTokenizer();
+                TokenStream result = new CJKWidthFilter(source);
+                result = new LowerCaseFilter(result);
+                result = new CJKBigramFilter(result,
+                        CJKBigramFilter.HAN | CJKBigramFilter.HIRAGANA | CJKBigramFilter.KATAKANA | CJKBigramFilter.HANGUL,
+                        outputUnigrams);
+                return new TokenStreamComponents(source, result);
+            }
+        };
+    }
+}
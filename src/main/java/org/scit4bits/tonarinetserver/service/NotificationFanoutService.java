@@ -0,0 +1,170 @@
+package org.scit4bits.tonarinetserver.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.scit4bits.tonarinetserver.entity.Article;
+import org.scit4bits.tonarinetserver.entity.Board;
+import org.scit4bits.tonarinetserver.event.ArticleChangedEvent;
+import org.scit4bits.tonarinetserver.repository.ArticleRepository;
+import org.scit4bits.tonarinetserver.repository.BoardRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 공지사항 게시글의 알림을 대상 사용자 전체에게 비동기로 발송하는 서비스입니다.
+ * 게시글 트랜잭션이 커밋된 뒤 별도 스레드에서 수신자를 ID 범위로 나누어 조회하고,
+ * 알림 행을 JDBC 배치 INSERT로 일정 크기씩 저장합니다.
+ */
+@Service
+@Slf4j
+public class NotificationFanoutService {
+
+    /** 전체 공지 게시판 ID */
+    private static final int GLOBAL_NOTICE_BOARD_ID = 0;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO notification (user_id, contents, link, created_at, is_read) VALUES (?, ?, ?, ?, false)";
+    private static final String ALL_USERS_SQL =
+            "SELECT id FROM user WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String ORG_USERS_SQL =
+            "SELECT user_id FROM userrole WHERE org_id = ? AND user_id > ? ORDER BY user_id LIMIT ?";
+
+    private final ArticleRepository articleRepository;
+    private final BoardRepository boardRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final Counter notificationsInserted;
+    private final Counter fanoutFailures;
+    private final Timer fanoutTimer;
+    private final AtomicInteger runningFanouts = new AtomicInteger();
+
+    @Value("${notification.fanout.chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * NotificationFanoutService 생성자
+     * @param articleRepository 게시글 리포지토리
+     * @param boardRepository 게시판 리포지토리
+     * @param jdbcTemplate 배치 INSERT에 사용할 JdbcTemplate
+     * @param objectMapper 알림 내용(JSON) 생성에 사용할 ObjectMapper
+     * @param meterRegistry 메트릭 등록에 사용할 MeterRegistry
+     */
+    public NotificationFanoutService(ArticleRepository articleRepository, BoardRepository boardRepository,
+                                     JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.articleRepository = articleRepository;
+        this.boardRepository = boardRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.notificationsInserted = Counter.builder("notification.fanout.inserted")
+                .description("대량 발송으로 저장된 알림 수")
+                .register(meterRegistry);
+        this.fanoutFailures = Counter.builder("notification.fanout.failures")
+                .description("실패한 대량 발송 작업 수")
+                .register(meterRegistry);
+        this.fanoutTimer = Timer.builder("notification.fanout.duration")
+                .description("공지사항 알림 대량 발송 소요 시간")
+                .register(meterRegistry);
+        meterRegistry.gauge("notification.fanout.running", runningFanouts);
+    }
+
+    /**
+     * 게시글 생성이 커밋되면 공지사항 여부를 확인하여 알림을 발송합니다.
+     * @param event 게시글 변경 이벤트
+     */
+    @Async("notificationExecutor")
+    @TransactionalEventListener
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (event.getChangeType() != ArticleChangedEvent.ChangeType.CREATED) {
+            return;
+        }
+
+        Article article = articleRepository.findById(event.getArticleId()).orElse(null);
+        if (article == null || !"notice".equals(article.getCategory())) {
+            return;
+        }
+
+        Board board = boardRepository.findById(article.getBoardId()).orElse(null);
+        if (board == null) {
+            return;
+        }
+
+        if (board.getId() == GLOBAL_NOTICE_BOARD_ID) {
+            log.debug("전체 공지, 모든 사용자에게 알림: {}", article.getId());
+            fanout(article, "newNotice", null);
+        } else if (board.getOrgId() != null) {
+            log.debug("조직 공지, 조직 {}의 모든 사용자에게 알림: {}", board.getOrgId(), article.getId());
+            fanout(article, "newOrgNotice", board.getOrgId());
+        }
+    }
+
+    /**
+     * 수신자를 ID 순서대로 chunkSize 만큼씩 조회하여 알림을 배치 INSERT 합니다.
+     * @param article 공지사항 게시글
+     * @param messageType 알림 메시지 유형
+     * @param orgId 조직 ID (null이면 전체 사용자)
+     */
+    private void fanout(Article article, String messageType, Integer orgId) {
+        String contents = buildContents(messageType, article.getTitle());
+        String link = "/board/view/" + article.getId();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        runningFanouts.incrementAndGet();
+        Timer.Sample sample = Timer.start();
+        long total = 0;
+        int lastId = 0;
+        try {
+            while (true) {
+                List<Integer> recipients = orgId == null
+                        ? jdbcTemplate.queryForList(ALL_USERS_SQL, Integer.class, lastId, chunkSize)
+                        : jdbcTemplate.queryForList(ORG_USERS_SQL, Integer.class, orgId, lastId, chunkSize);
+                if (recipients.isEmpty()) {
+                    break;
+                }
+
+                List<Object[]> batchArgs = new ArrayList<>(recipients.size());
+                for (Integer userId : recipients) {
+                    batchArgs.add(new Object[]{userId, contents, link, now});
+                }
+                jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+
+                total += recipients.size();
+                notificationsInserted.increment(recipients.size());
+                lastId = recipients.get(recipients.size() - 1);
+
+                if (recipients.size() < chunkSize) {
+                    break;
+                }
+            }
+            log.info("공지사항 알림 발송 완료 - 게시글 {}, 수신자 {}명", article.getId(), total);
+        } catch (Exception e) {
+            fanoutFailures.increment();
+            log.error("공지사항 알림 발송 실패 - 게시글 {}, 사용자 ID {} 이후 미발송: {}", article.getId(), lastId, e.getMessage());
+        } finally {
+            sample.stop(fanoutTimer);
+            runningFanouts.decrementAndGet();
+        }
+    }
+
+    private String buildContents(String messageType, String title) {
+        try {
+            return objectMapper.writeValueAsString(Map.of("messageType", messageType, "title", title));
+        } catch (JsonProcessingException e) {
+            return "{\"messageType\": \"" + messageType + "\"}";
+        }
+    }
+}
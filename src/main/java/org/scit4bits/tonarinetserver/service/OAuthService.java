@@ -0,0 +1,175 @@
+package org.scit4bits.tonarinetserver.service;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.scit4bits.tonarinetserver.dto.AuthCheckResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * OAuth 제공자(LINE, Google, Kakao)의 인증 코드를 토큰으로 교환하고 사용자 정보를 확인하는 서비스입니다.
+ * 공유 커넥션 풀을 사용하는 WebClient로 논블로킹 호출하며, id_token은 서명과 클레임을 검증한 뒤 사용합니다.
+ */
+@Service
+@Slf4j
+public class OAuthService {
+
+    private final WebClient webClient;
+    private final IdTokenVerifier idTokenVerifier;
+
+    @Value("${line.api.client_id}")
+    private String lineApiClientId;
+
+    @Value("${line.api.client_secret}")
+    private String lineApiClientSecret;
+
+    @Value("${line.api.redirect_uri}")
+    private String lineApiRedirectUri;
+
+    @Value("${google.api.client_id}")
+    private String googleApiClientId;
+
+    @Value("${google.api.client_secret}")
+    private String googleApiClientSecret;
+
+    @Value("${google.api.redirect_uri}")
+    private String googleApiRedirectUri;
+
+    @Value("${kakao.client_id}")
+    private String kakaoClientId;
+
+    @Value("${kakao.client_secret}")
+    private String kakaoClientSecret;
+
+    @Value("${kakao.redirect_uri}")
+    private String kakaoRedirectUri;
+
+    private IdTokenVerifier.Issuer lineIssuer;
+    private IdTokenVerifier.Issuer googleIssuer;
+    private IdTokenVerifier.Issuer kakaoIssuer;
+
+    /**
+     * OAuthService 생성자
+     * @param webClient OAuth 제공자 전용 WebClient
+     * @param idTokenVerifier id_token 검증기
+     */
+    public OAuthService(@Qualifier("oauthWebClient") WebClient webClient, IdTokenVerifier idTokenVerifier) {
+        this.webClient = webClient;
+        this.idTokenVerifier = idTokenVerifier;
+    }
+
+    /**
+     * 제공자별 id_token 발급자 정보를 초기화합니다.
+     */
+    @PostConstruct
+    public void initIssuers() {
+        lineIssuer = new IdTokenVerifier.Issuer("https://api.line.me/oauth2/v2.1/certs",
+                List.of("https://access.line.me"), lineApiClientId, lineApiClientSecret);
+        googleIssuer = new IdTokenVerifier.Issuer("https://www.googleapis.com/oauth2/v3/certs",
+                List.of("https://accounts.google.com", "accounts.google.com"), googleApiClientId, null);
+        kakaoIssuer = new IdTokenVerifier.Issuer("https://kauth.kakao.com/.well-known/jwks.json",
+                List.of("https://kauth.kakao.com"), kakaoClientId, null);
+    }
+
+    /**
+     * LINE OAuth 인증 코드를 사용하여 사용자 정보를 확인합니다.
+     * @param code 인증 코드
+     * @param state CSRF 방지를 위한 state 값
+     * @return 인증된 사용자 정보를 담은 응답 객체 (실패 시 빈 Mono)
+     */
+    public Mono<AuthCheckResponse> getLineCheck(String code, String state) {
+        MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
+        formData.add("grant_type", "authorization_code");
+        formData.add("code", code);
+        formData.add("redirect_uri", lineApiRedirectUri);
+        formData.add("client_id", lineApiClientId);
+        formData.add("client_secret", lineApiClientSecret);
+
+        return exchangeIdToken("LINE", "https://api.line.me/oauth2/v2.1/token", formData, lineIssuer)
+                .map(idToken -> new AuthCheckResponse(
+                        idToken.getSubject(),
+                        idToken.getClaim("name").asString(),
+                        idToken.getClaim("picture").asString()));
+    }
+
+    /**
+     * Google OAuth 인증 코드를 사용하여 사용자 정보를 확인합니다.
+     * @param code 인증 코드
+     * @param state CSRF 방지를 위한 state 값
+     * @return 인증된 사용자 정보를 담은 응답 객체 (실패 시 빈 Mono)
+     */
+    public Mono<AuthCheckResponse> getGoogleCheck(String code, String state) {
+        MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
+        formData.add("code", code);
+        formData.add("client_id", googleApiClientId);
+        formData.add("client_secret", googleApiClientSecret);
+        formData.add("redirect_uri", googleApiRedirectUri);
+        formData.add("grant_type", "authorization_code");
+
+        return exchangeIdToken("Google", "https://oauth2.googleapis.com/token", formData, googleIssuer)
+                .map(idToken -> new AuthCheckResponse(
+                        idToken.getSubject(),
+                        idToken.getClaim("name").asString(),
+                        idToken.getClaim("picture").asString(),
+                        idToken.getClaim("email").asString()));
+    }
+
+    /**
+     * Kakao OAuth 인증 코드를 사용하여 사용자 정보를 확인합니다.
+     * @param code 인증 코드
+     * @param state CSRF 방지를 위한 state 값
+     * @return 인증된 사용자 정보를 담은 응답 객체 (실패 시 빈 Mono)
+     */
+    public Mono<AuthCheckResponse> getKakaoCheck(String code, String state) {
+        MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
+        formData.add("code", code);
+        formData.add("client_id", kakaoClientId);
+        formData.add("client_secret", kakaoClientSecret);
+        formData.add("redirect_uri", kakaoRedirectUri);
+        formData.add("grant_type", "authorization_code");
+
+        return exchangeIdToken("Kakao", "https://kauth.kakao.com/oauth/token", formData, kakaoIssuer)
+                .map(idToken -> new AuthCheckResponse(
+                        idToken.getSubject(),
+                        idToken.getClaim("nickname").asString(),
+                        idToken.getClaim("picture").asString()));
+    }
+
+    /**
+     * 인증 코드를 토큰으로 교환하고, 응답의 id_token을 검증합니다.
+     * 실패하면 오류를 기록하고 빈 Mono를 반환합니다.
+     */
+    private Mono<DecodedJWT> exchangeIdToken(String provider, String tokenUri,
+                                             MultiValueMap<String, String> formData, IdTokenVerifier.Issuer issuer) {
+        return webClient.post()
+                .uri(tokenUri)
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(BodyInserters.fromFormData(formData))
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .flatMap(response -> {
+                    String idToken = response.path("id_token").asText(null);
+                    if (idToken == null) {
+                        return Mono.error(new IllegalStateException("토큰 응답에 id_token이 없습니다."));
+                    }
+                    return idTokenVerifier.verify(idToken, issuer);
+                })
+                .doOnNext(idToken -> log.debug("{} id_token 검증 완료 - Subject: {}, Issuer: {}",
+                        provider, idToken.getSubject(), idToken.getIssuer()))
+                .onErrorResume(e -> {
+                    log.error("{} OAuth 인증 실패: {}", provider, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+}
@@ -34,6 +34,7 @@ public class OrganizationService {
     private final BoardRepository boardRepository;
     private final NotificationService notificationService;
     private final UserCountryRepository userCountryRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     /**
      * 새로운 조직을 생성하고, 해당 조직의 기본 게시판을 함께 생성합니다.
@@ -241,6 +242,7 @@ public class OrganizationService {
         userRole.setIsGranted(true);
         userRole.setApprovedAt(LocalDateTime.now());
         userRoleRepository.save(userRole);
+        userPrincipalCache.invalidate(targetUser.getId());
 
         log.info("사용자 {}의 조직 {} 멤버십을 승인했습니다.", targetUser.getId(), organization.getId());
 
@@ -289,6 +291,7 @@ public class OrganizationService {
                 .build();
 
         userRoleRepository.deleteById(userRoleId);
+        userPrincipalCache.invalidate(targetUser.getId());
         log.info("조직 {}에서 사용자 {}를 제거했습니다.", organization.getId(), targetUser.getId());
     }
 
@@ -0,0 +1,101 @@
+package org.scit4bits.tonarinetserver.service;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.scit4bits.tonarinetserver.entity.OutboundEmail;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 발송 대기 이메일을 SMTP로 발송하는 컴포넌트
+ * 한 묶음의 이메일을 한 번의 send 호출로 보내므로 JavaMailSender가 SMTP 연결 하나로 모두 전송합니다.
+ */
+@Component
+@Slf4j
+public class OutboundEmailSender {
+
+    private final JavaMailSender mailSender;
+    private final String sender;
+
+    /**
+     * OutboundEmailSender 생성자
+     * @param mailSender 메일 발송에 사용할 JavaMailSender
+     * @param sender 발신자 주소
+     */
+    public OutboundEmailSender(JavaMailSender mailSender, @Value("${spring.mail.sender}") String sender) {
+        this.mailSender = mailSender;
+        this.sender = sender;
+    }
+
+    /**
+     * 이메일 묶음을 발송합니다.
+     * @param emails 발송할 이메일 리스트
+     * @return 발송에 실패한 이메일 ID별 실패 정보 (모두 성공하면 빈 맵)
+     */
+    public Map<Integer, Failure> send(List<OutboundEmail> emails) {
+        Map<Integer, Failure> failures = new HashMap<>();
+        Map<MimeMessage, Integer> idsByMessage = new IdentityHashMap<>();
+        List<MimeMessage> messages = new ArrayList<>(emails.size());
+
+        for (OutboundEmail email : emails) {
+            try {
+                MimeMessage message = mailSender.createMimeMessage();
+                MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+                helper.setFrom(sender);
+                helper.setTo(email.getRecipient());
+                helper.setSubject(email.getSubject());
+                helper.setText(email.getBody(), true); // true는 HTML 메일임을 나타냅니다.
+                messages.add(message);
+                idsByMessage.put(message, email.getId());
+            } catch (MessagingException e) {
+                // 주소 형식 오류 등은 재시도해도 성공할 수 없음
+                failures.put(email.getId(), new Failure(e, true));
+            }
+        }
+
+        if (messages.isEmpty()) {
+            return failures;
+        }
+
+        try {
+            mailSender.send(messages.toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            if (failedMessages.isEmpty()) {
+                idsByMessage.values().forEach(id -> failures.put(id, new Failure(e, false)));
+            } else {
+                failedMessages.forEach((message, cause) -> {
+                    Integer id = idsByMessage.get(message);
+                    if (id != null) {
+                        failures.put(id, new Failure(cause, false));
+                    }
+                });
+            }
+        } catch (MailException e) {
+            // 인증 실패 등 연결 단위의 오류는 묶음 전체를 실패로 처리
+            idsByMessage.values().forEach(id -> failures.put(id, new Failure(e, false)));
+        }
+
+        log.debug("이메일 묶음 발송 - 전체 {}건, 실패 {}건", emails.size(), failures.size());
+        return failures;
+    }
+
+    /**
+     * 이메일 발송 실패 정보
+     * @param cause 실패 원인
+     * @param permanent 재시도해도 성공할 수 없는 실패인지 여부
+     */
+    public record Failure(Exception cause, boolean permanent) {
+    }
+}
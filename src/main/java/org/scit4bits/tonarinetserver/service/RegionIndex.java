@@ -0,0 +1,111 @@
+package org.scit4bits.tonarinetserver.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.scit4bits.tonarinetserver.repository.RegionRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 모든 지역의 중심 좌표를 KD-트리로 메모리에 보관하는 공간 인덱스입니다.
+ * 반경 검색, 최근접 지역 검색, 좌표가 속한 지역 찾기를 DB 조회 없이 처리합니다.
+ * 지역 데이터는 거의 바뀌지 않으므로 시작 시 적재하고, 이후에는 주기적으로 다시 적재하여 변경을 반영합니다.
+ */
+@Service
+@Slf4j
+public class RegionIndex {
+
+    private final RegionRepository regionRepository;
+
+    /** 현재 KD-트리 (재적재 시 통째로 교체) */
+    private volatile RegionKdTree tree;
+
+    /**
+     * RegionIndex 생성자
+     * @param regionRepository 지역 리포지토리
+     * @param meterRegistry 메트릭 등록에 사용할 MeterRegistry
+     */
+    public RegionIndex(RegionRepository regionRepository, MeterRegistry meterRegistry) {
+        this.regionRepository = regionRepository;
+        Gauge.builder("region.index.size", this, index -> index.tree == null ? 0 : index.tree.size())
+                .description("메모리 공간 인덱스에 보관 중인 지역 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 시작 시 지역을 적재합니다.
+     * 적재에 실패하면 첫 검색 시 다시 적재를 시도합니다.
+     */
+    @PostConstruct
+    public void init() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.error("지역 공간 인덱스 초기 적재 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 좌표가 있는 모든 지역을 DB에서 다시 읽어 인덱스를 교체합니다.
+     */
+    @Scheduled(fixedDelayString = "${region.index.refresh-interval-ms:600000}",
+            initialDelayString = "${region.index.refresh-interval-ms:600000}")
+    public synchronized void reload() {
+        RegionKdTree fresh = new RegionKdTree(regionRepository.findAllWithCoordinates());
+        tree = fresh;
+        log.debug("지역 공간 인덱스 적재 완료 - 지역 {}개", fresh.size());
+    }
+
+    /**
+     * 중심 좌표에서 반경 안에 중심점이 있는 지역을 가까운 순으로 조회합니다.
+     * @param latitude 중심 위도
+     * @param longitude 중심 경도
+     * @param radiusKm 반경 (km)
+     * @param countryCode 국가 코드 (null이면 모든 국가)
+     * @return 거리순 지역 리스트
+     */
+    public List<RegionKdTree.Neighbor> findWithinRadius(double latitude, double longitude, double radiusKm,
+                                                        String countryCode) {
+        return currentTree().findWithinRadius(latitude, longitude, radiusKm, countryCode);
+    }
+
+    /**
+     * 중심 좌표에서 가장 가까운 지역을 최대 k개 조회합니다.
+     * @param latitude 중심 위도
+     * @param longitude 중심 경도
+     * @param k 조회할 지역 수
+     * @param countryCode 국가 코드 (null이면 모든 국가)
+     * @return 거리순 지역 리스트
+     */
+    public List<RegionKdTree.Neighbor> findNearest(double latitude, double longitude, int k, String countryCode) {
+        return currentTree().findNearest(latitude, longitude, k, countryCode);
+    }
+
+    /**
+     * 좌표가 속한 지역을 조회합니다. 지역 경계는 중심점과 반경(radius)으로 이루어진 원으로 근사합니다.
+     * @param latitude 위도
+     * @param longitude 경도
+     * @return 좌표를 포함하는 지역 (없으면 빈 Optional)
+     */
+    public Optional<RegionKdTree.Neighbor> findContaining(double latitude, double longitude) {
+        return currentTree().findContaining(latitude, longitude);
+    }
+
+    private RegionKdTree currentTree() {
+        RegionKdTree current = tree;
+        if (current == null) {
+            synchronized (this) {
+                if (tree == null) {
+                    reload();
+                }
+                current = tree;
+            }
+        }
+        return current;
+    }
+}
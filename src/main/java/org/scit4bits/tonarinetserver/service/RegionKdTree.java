@@ -0,0 +1,349 @@
+package org.scit4bits.tonarinetserver.service;
+
+import org.scit4bits.tonarinetserver.entity.Region;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 지역 중심 좌표에 대한 불변 KD-트리입니다.
+ * 위경도를 단위 구 위의 3차원 좌표로 변환하여 저장하므로, 직선(현) 거리의 대소가 대원 거리의 대소와 같고
+ * 날짜 변경선이나 극지방 근처에서도 별도 처리 없이 반경 검색과 최근접 검색을 할 수 있습니다.
+ * 생성 후에는 읽기 전용이므로 여러 스레드에서 동시에 조회해도 안전합니다.
+ */
+public final class RegionKdTree {
+
+    private static final Comparator<Neighbor> BY_DISTANCE = Comparator.comparingDouble(Neighbor::distanceKm);
+
+    /** 트리 순서로 정렬된 지역 */
+    private final Region[] regions;
+    /** 트리 순서로 정렬된 단위 구 좌표 (x, y, z 순으로 3개씩) */
+    private final double[] coords;
+    /** 트리 순서로 정렬된 지역 반경 (km, 반경이 없으면 0) */
+    private final double[] radiusKm;
+    /** 각 노드의 분할 축 (0: x, 1: y, 2: z) */
+    private final byte[] axes;
+    /** 가장 큰 지역 반경 (km), 포함 지역 검색의 후보 범위로 사용 */
+    private final double maxRadiusKm;
+
+    /**
+     * 좌표가 있는 지역으로 KD-트리를 만듭니다. 위도나 경도가 없는 지역은 제외됩니다.
+     * @param source 지역 목록
+     */
+    public RegionKdTree(List<Region> source) {
+        List<Region> located = source.stream()
+                .filter(region -> region.getLatitude() != null && region.getLongitude() != null)
+                .toList();
+        int n = located.size();
+
+        double[] unsorted = new double[n * 3];
+        for (int i = 0; i < n; i++) {
+            toUnitVector(located.get(i).getLatitude(), located.get(i).getLongitude(), unsorted, i * 3);
+        }
+
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        this.axes = new byte[n];
+        build(order, unsorted, 0, n);
+
+        this.regions = new Region[n];
+        this.coords = new double[n * 3];
+        this.radiusKm = new double[n];
+        double maxRadius = 0;
+        for (int i = 0; i < n; i++) {
+            Region region = located.get(order[i]);
+            regions[i] = region;
+            System.arraycopy(unsorted, order[i] * 3, coords, i * 3, 3);
+            radiusKm[i] = region.getRadius() != null ? region.getRadius() / 1000.0 : 0.0;
+            maxRadius = Math.max(maxRadius, radiusKm[i]);
+        }
+        this.maxRadiusKm = maxRadius;
+    }
+
+    /**
+     * 트리에 들어 있는 지역 수를 반환합니다.
+     * @return 지역 수
+     */
+    public int size() {
+        return regions.length;
+    }
+
+    /**
+     * 중심 좌표에서 반경 안에 중심점이 있는 지역을 가까운 순으로 조회합니다.
+     * @param latitude 중심 위도
+     * @param longitude 중심 경도
+     * @param radiusKm 반경 (km)
+     * @param countryCode 국가 코드 (null이면 모든 국가)
+     * @return 거리순 지역 리스트
+     */
+    public List<Neighbor> findWithinRadius(double latitude, double longitude, double radiusKm, String countryCode) {
+        double[] query = toUnitVector(latitude, longitude, new double[3], 0);
+        List<Neighbor> result = new ArrayList<>();
+        collectWithin(query, chordSquared(radiusKm), countryCode, 0, regions.length, result);
+        result.sort(BY_DISTANCE);
+        return result;
+    }
+
+    /**
+     * 중심 좌표에서 가장 가까운 지역을 최대 k개 조회합니다.
+     * @param latitude 중심 위도
+     * @param longitude 중심 경도
+     * @param k 조회할 지역 수
+     * @param countryCode 국가 코드 (null이면 모든 국가)
+     * @return 거리순 지역 리스트
+     */
+    public List<Neighbor> findNearest(double latitude, double longitude, int k, String countryCode) {
+        if (k <= 0 || regions.length == 0) {
+            return List.of();
+        }
+        double[] query = toUnitVector(latitude, longitude, new double[3], 0);
+        Candidates candidates = new Candidates(Math.min(k, regions.length));
+        collectNearest(query, countryCode, 0, regions.length, candidates);
+
+        List<Neighbor> result = new ArrayList<>(candidates.size);
+        for (int i = 0; i < candidates.size; i++) {
+            result.add(new Neighbor(regions[candidates.nodes[i]], chordToKm(candidates.distances[i])));
+        }
+        return result;
+    }
+
+    /**
+     * 좌표를 포함하는 지역을 조회합니다.
+     * 지역 경계는 중심점과 반경으로 이루어진 원으로 근사하며, 여러 원이 겹치면
+     * 반경 대비 중심까지의 거리가 가장 짧은 (원의 안쪽에 가장 깊이 들어간) 지역을 선택합니다.
+     * @param latitude 위도
+     * @param longitude 경도
+     * @return 좌표를 포함하는 지역 (없으면 빈 Optional)
+     */
+    public Optional<Neighbor> findContaining(double latitude, double longitude) {
+        double[] query = toUnitVector(latitude, longitude, new double[3], 0);
+        List<Integer> nodes = new ArrayList<>();
+        collectWithinNodes(query, chordSquared(maxRadiusKm), 0, regions.length, nodes);
+
+        int best = -1;
+        double bestDistanceKm = 0;
+        double bestRatio = Double.MAX_VALUE;
+        for (int node : nodes) {
+            if (radiusKm[node] <= 0) {
+                continue;
+            }
+            double distanceKm = chordToKm(distanceSquared(query, node));
+            double ratio = distanceKm / radiusKm[node];
+            if (ratio <= 1.0 && ratio < bestRatio) {
+                best = node;
+                bestDistanceKm = distanceKm;
+                bestRatio = ratio;
+            }
+        }
+        return best < 0 ? Optional.empty() : Optional.of(new Neighbor(regions[best], bestDistanceKm));
+    }
+
+    private void collectWithin(double[] query, double maxSquared, String countryCode, int lo, int hi,
+                               List<Neighbor> result) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        double d = distanceSquared(query, mid);
+        if (d <= maxSquared && matches(mid, countryCode)) {
+            result.add(new Neighbor(regions[mid], chordToKm(d)));
+        }
+        double diff = query[axes[mid]] - coords[mid * 3 + axes[mid]];
+        if (diff <= 0) {
+            collectWithin(query, maxSquared, countryCode, lo, mid, result);
+            if (diff * diff <= maxSquared) {
+                collectWithin(query, maxSquared, countryCode, mid + 1, hi, result);
+            }
+        } else {
+            collectWithin(query, maxSquared, countryCode, mid + 1, hi, result);
+            if (diff * diff <= maxSquared) {
+                collectWithin(query, maxSquared, countryCode, lo, mid, result);
+            }
+        }
+    }
+
+    private void collectWithinNodes(double[] query, double maxSquared, int lo, int hi, List<Integer> nodes) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        if (distanceSquared(query, mid) <= maxSquared) {
+            nodes.add(mid);
+        }
+        double diff = query[axes[mid]] - coords[mid * 3 + axes[mid]];
+        if (diff <= 0 || diff * diff <= maxSquared) {
+            collectWithinNodes(query, maxSquared, lo, mid, nodes);
+        }
+        if (diff > 0 || diff * diff <= maxSquared) {
+            collectWithinNodes(query, maxSquared, mid + 1, hi, nodes);
+        }
+    }
+
+    private void collectNearest(double[] query, String countryCode, int lo, int hi, Candidates candidates) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        if (matches(mid, countryCode)) {
+            candidates.offer(mid, distanceSquared(query, mid));
+        }
+        double diff = query[axes[mid]] - coords[mid * 3 + axes[mid]];
+        int nearLo = diff <= 0 ? lo : mid + 1;
+        int nearHi = diff <= 0 ? mid : hi;
+        int farLo = diff <= 0 ? mid + 1 : lo;
+        int farHi = diff <= 0 ? hi : mid;
+        collectNearest(query, countryCode, nearLo, nearHi, candidates);
+        if (diff * diff <= candidates.worst()) {
+            collectNearest(query, countryCode, farLo, farHi, candidates);
+        }
+    }
+
+    private boolean matches(int node, String countryCode) {
+        return countryCode == null || countryCode.equalsIgnoreCase(regions[node].getCountryCode());
+    }
+
+    private double distanceSquared(double[] query, int node) {
+        int base = node * 3;
+        double dx = query[0] - coords[base];
+        double dy = query[1] - coords[base + 1];
+        double dz = query[2] - coords[base + 2];
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * order[lo, hi) 구간을 중앙값 기준으로 분할하여 KD-트리를 만듭니다.
+     * 분할 축은 구간 안에서 좌표 범위가 가장 넓은 축을 사용합니다.
+     */
+    private void build(int[] order, double[] points, int lo, int hi) {
+        if (hi - lo <= 1) {
+            return;
+        }
+        int axis = widestAxis(order, points, lo, hi);
+        int mid = (lo + hi) >>> 1;
+        select(order, points, axis, lo, hi - 1, mid);
+        axes[mid] = (byte) axis;
+        build(order, points, lo, mid);
+        build(order, points, mid + 1, hi);
+    }
+
+    private static int widestAxis(int[] order, double[] points, int lo, int hi) {
+        int widest = 0;
+        double widestSpread = -1;
+        for (int axis = 0; axis < 3; axis++) {
+            double min = Double.MAX_VALUE;
+            double max = -Double.MAX_VALUE;
+            for (int i = lo; i < hi; i++) {
+                double value = points[order[i] * 3 + axis];
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+            if (max - min > widestSpread) {
+                widest = axis;
+                widestSpread = max - min;
+            }
+        }
+        return widest;
+    }
+
+    /**
+     * order[left, right] 구간에서 k번째 원소가 제자리에 오도록 부분 정렬합니다. (Wirth의 선택 알고리즘)
+     */
+    private static void select(int[] order, double[] points, int axis, int left, int right, int k) {
+        while (left < right) {
+            double pivot = points[order[k] * 3 + axis];
+            int i = left;
+            int j = right;
+            do {
+                while (points[order[i] * 3 + axis] < pivot) {
+                    i++;
+                }
+                while (pivot < points[order[j] * 3 + axis]) {
+                    j--;
+                }
+                if (i <= j) {
+                    int tmp = order[i];
+                    order[i] = order[j];
+                    order[j] = tmp;
+                    i++;
+                    j--;
+                }
+            } while (i <= j);
+            if (j < k) {
+                left = i;
+            }
+            if (k < i) {
+                right = j;
+            }
+        }
+    }
+
+    private static double[] toUnitVector(double latitude, double longitude, double[] target, int offset) {
+        double lat = Math.toRadians(latitude);
+        double lon = Math.toRadians(longitude);
+        double cosLat = Math.cos(lat);
+        target[offset] = cosLat * Math.cos(lon);
+        target[offset + 1] = cosLat * Math.sin(lon);
+        target[offset + 2] = Math.sin(lat);
+        return target;
+    }
+
+    /** 대원 거리(km)를 단위 구 위의 현 길이의 제곱으로 변환합니다. */
+    private static double chordSquared(double distanceKm) {
+        double angle = Math.min(Math.PI, Math.max(0.0, distanceKm) / GeoDistance.EARTH_RADIUS_KM);
+        double chord = 2 * Math.sin(angle / 2);
+        return chord * chord;
+    }
+
+    /** 단위 구 위의 현 길이의 제곱을 대원 거리(km)로 변환합니다. */
+    private static double chordToKm(double chordSquared) {
+        return 2 * GeoDistance.EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(chordSquared) / 2));
+    }
+
+    /**
+     * 검색된 지역과 기준 좌표로부터의 대원 거리
+     * @param region 지역
+     * @param distanceKm 지역 중심까지의 거리 (km)
+     */
+    public record Neighbor(Region region, double distanceKm) {
+    }
+
+    /**
+     * 최근접 검색 중 가장 가까운 후보를 거리순으로 최대 capacity개 보관합니다.
+     */
+    private static final class Candidates {
+        private final int[] nodes;
+        private final double[] distances;
+        private int size;
+
+        private Candidates(int capacity) {
+            this.nodes = new int[capacity];
+            this.distances = new double[capacity];
+        }
+
+        /** 후보를 다 채우기 전에는 모든 가지를 탐색하도록 무한대를 반환합니다. */
+        private double worst() {
+            return size < nodes.length ? Double.POSITIVE_INFINITY : distances[size - 1];
+        }
+
+        private void offer(int node, double distance) {
+            if (distance >= worst()) {
+                return;
+            }
+            int i = Math.min(size, nodes.length - 1);
+            while (i > 0 && distances[i - 1] > distance) {
+                nodes[i] = nodes[i - 1];
+                distances[i] = distances[i - 1];
+                i--;
+            }
+            nodes[i] = node;
+            distances[i] = distance;
+            if (size < nodes.length) {
+                size++;
+            }
+        }
+    }
+}
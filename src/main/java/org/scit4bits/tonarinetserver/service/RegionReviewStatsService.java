@@ -0,0 +1,183 @@
+package org.scit4bits.tonarinetserver.service;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.scit4bits.tonarinetserver.entity.RegionReviewStats;
+import org.scit4bits.tonarinetserver.entity.TownReview;
+import org.scit4bits.tonarinetserver.repository.RegionReviewStatsRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 지역별 동네 리뷰 집계(리뷰 수, 항목별 점수 합계)를 관리하는 서비스입니다.
+ * 리뷰가 생성/수정/삭제될 때 같은 트랜잭션에서 집계에 증감분을 더하고,
+ * 조회는 메모리 캐시에서 처리하며 캐시에 없는 지역만 한 번의 쿼리로 함께 읽어옵니다.
+ */
+@Service
+@Slf4j
+public class RegionReviewStatsService {
+
+    private final RegionReviewStatsRepository regionReviewStatsRepository;
+    private final LoadingCache<Integer, RegionReviewStats> cache;
+
+    /**
+     * RegionReviewStatsService 생성자
+     * @param regionReviewStatsRepository 지역 리뷰 집계 리포지토리
+     * @param meterRegistry 캐시 메트릭 등록에 사용할 MeterRegistry
+     * @param maximumSize 캐시에 보관할 최대 지역 수
+     * @param ttl 캐시 항목 만료 시간 (다른 서버 인스턴스의 변경이 반영되는 최대 지연)
+     */
+    public RegionReviewStatsService(RegionReviewStatsRepository regionReviewStatsRepository,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${region.review-stats.cache.maximum-size:20000}") long maximumSize,
+                                    @Value("${region.review-stats.cache.ttl:10m}") Duration ttl) {
+        this.regionReviewStatsRepository = regionReviewStatsRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build(new CacheLoader<>() {
+                    @Override
+                    public RegionReviewStats load(Integer regionId) {
+                        return regionReviewStatsRepository.findById(regionId).orElseGet(() -> empty(regionId));
+                    }
+
+                    @Override
+                    public Map<Integer, RegionReviewStats> loadAll(Set<? extends Integer> regionIds) {
+                        Map<Integer, RegionReviewStats> loaded = new HashMap<>();
+                        regionReviewStatsRepository.findAllById(regionIds)
+                                .forEach(stats -> loaded.put(stats.getRegionId(), stats));
+                        for (Integer regionId : regionIds) {
+                            loaded.computeIfAbsent(regionId, RegionReviewStatsService::empty);
+                        }
+                        return loaded;
+                    }
+                });
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "region.review-stats");
+    }
+
+    /**
+     * 집계 테이블이 비어 있으면 (처음 배포한 경우) townreview 테이블에서 집계를 만듭니다.
+     */
+    @PostConstruct
+    public void init() {
+        try {
+            if (regionReviewStatsRepository.count() == 0) {
+                rebuild();
+            }
+        } catch (Exception e) {
+            log.error("지역 리뷰 집계 초기화 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 지역의 리뷰 집계를 조회합니다.
+     * @param regionId 지역 ID
+     * @return 리뷰 집계 (리뷰가 없으면 0으로 채운 집계)
+     */
+    public RegionReviewStats getStats(Integer regionId) {
+        return cache.get(regionId);
+    }
+
+    /**
+     * 여러 지역의 리뷰 집계를 조회합니다. 캐시에 없는 지역은 한 번의 쿼리로 함께 읽어옵니다.
+     * @param regionIds 지역 ID 목록
+     * @return 지역 ID별 리뷰 집계
+     */
+    public Map<Integer, RegionReviewStats> getStats(Collection<Integer> regionIds) {
+        return cache.getAll(regionIds);
+    }
+
+    /**
+     * 리뷰 생성을 집계에 반영합니다.
+     * @param review 생성된 리뷰
+     */
+    public void onReviewCreated(TownReview review) {
+        apply(review.getRegionId(), 1,
+                review.getTransportation(), review.getSafety(), review.getInfra(),
+                review.getPopulation(), review.getEducation());
+    }
+
+    /**
+     * 리뷰 점수 수정을 집계에 반영합니다.
+     * @param before 수정 전 점수를 담은 리뷰
+     * @param after 수정된 리뷰
+     */
+    public void onReviewUpdated(TownReview before, TownReview after) {
+        apply(after.getRegionId(), 0,
+                after.getTransportation() - before.getTransportation(),
+                after.getSafety() - before.getSafety(),
+                after.getInfra() - before.getInfra(),
+                after.getPopulation() - before.getPopulation(),
+                after.getEducation() - before.getEducation());
+    }
+
+    /**
+     * 리뷰 삭제를 집계에 반영합니다.
+     * @param review 삭제된 리뷰
+     */
+    public void onReviewDeleted(TownReview review) {
+        apply(review.getRegionId(), -1,
+                -review.getTransportation(), -review.getSafety(), -review.getInfra(),
+                -review.getPopulation(), -review.getEducation());
+    }
+
+    /**
+     * townreview 테이블을 기준으로 집계를 다시 계산합니다.
+     * 증감 반영 중 누락된 변경(직접 DB 수정, 장애 등)으로 생긴 오차를 주기적으로 보정합니다.
+     */
+    @Scheduled(cron = "${region.review-stats.rebuild-cron:0 45 4 * * *}")
+    public void rebuild() {
+        int updated = regionReviewStatsRepository.rebuildAll();
+        int reset = regionReviewStatsRepository.resetOrphaned();
+        cache.invalidateAll();
+        log.info("지역 리뷰 집계 재계산 완료, 갱신: {}, 초기화: {}", updated, reset);
+    }
+
+    /**
+     * 집계에 증감분을 더하고, 트랜잭션이 커밋되면 해당 지역의 캐시를 무효화합니다.
+     */
+    private void apply(Integer regionId, int countDelta, long transportation, long safety, long infra,
+                       long population, long education) {
+        if (countDelta == 0 && transportation == 0 && safety == 0 && infra == 0 && population == 0 && education == 0) {
+            return;
+        }
+        regionReviewStatsRepository.applyDelta(regionId, countDelta, transportation, safety, infra, population, education);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(regionId);
+                }
+            });
+        } else {
+            cache.invalidate(regionId);
+        }
+    }
+
+    private static RegionReviewStats empty(Integer regionId) {
+        return RegionReviewStats.builder()
+                .regionId(regionId)
+                .reviewCount(0)
+                .transportationSum(0L)
+                .safetySum(0L)
+                .infraSum(0L)
+                .populationSum(0L)
+                .educationSum(0L)
+                .build();
+    }
+}
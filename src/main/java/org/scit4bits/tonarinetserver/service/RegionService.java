@@ -4,14 +4,15 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.scit4bits.tonarinetserver.dto.RegionDTO;
 import org.scit4bits.tonarinetserver.entity.Region;
-import org.scit4bits.tonarinetserver.entity.TownReview;
+import org.scit4bits.tonarinetserver.entity.RegionReviewStats;
 import org.scit4bits.tonarinetserver.repository.RegionRepository;
-import org.scit4bits.tonarinetserver.repository.TownReviewRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 
 /**
  * 지역 정보 관련 비즈니스 로직을 처리하는 서비스입니다.
@@ -22,20 +23,24 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class RegionService {
 
+    /** 최근접 지역 검색에서 한 번에 조회할 수 있는 최대 지역 수 */
+    private static final int MAX_NEAREST = 50;
+
     private final RegionRepository regionRepository;
-    private final TownReviewRepository townReviewRepository;
+    private final RegionReviewStatsService regionReviewStatsService;
+    private final RegionIndex regionIndex;
 
     /**
-     * 맨해튼 거리를 사용하여 중심 좌표로부터 특정 반경 내의 지역을 검색합니다.
-     * 맨해튼 거리 = |lat1 - lat2| + |lon1 - lon2|
+     * 중심 좌표로부터 특정 반경 내의 지역을 메모리 공간 인덱스에서 가까운 순으로 검색합니다.
+     * 반경과 거리는 대원 거리를 위도 1도 길이로 나눈 도 단위 값입니다.
      *
      * @param latitude  중심 위도
      * @param longitude 중심 경도
-     * @param radiusKm  반경 (도 단위의 단순화된 거리 측정)
+     * @param radiusKm  반경 (도 단위)
      * @return 지정된 반경 내의 지역 리스트
      */
     public List<RegionDTO> searchRegionsWithinRadius(Double latitude, Double longitude, Double radiusKm) {
-        log.info("맨해튼 거리를 사용하여 좌표: {}, {} 로부터 {} 도 단위 반경 내의 지역을 검색합니다.", latitude, longitude, radiusKm);
+        log.info("좌표: {}, {} 로부터 {} 도 단위 반경 내의 지역을 검색합니다.", latitude, longitude, radiusKm);
 
         // 입력 파라미터 유효성 검사
         if (latitude == null || longitude == null || radiusKm == null) {
@@ -54,54 +59,108 @@ public class RegionService {
             throw new IllegalArgumentException("반경은 양수여야 합니다.");
         }
 
-        List<Region> regions = regionRepository.findRegionsWithinRadius(latitude, longitude, radiusKm);
-        List<RegionDTO> regionDTOs = new ArrayList<>();
+        List<RegionDTO> regionDTOs = toRegionDTOs(regionIndex.findWithinRadius(
+                latitude, longitude, radiusKm * GeoDistance.KM_PER_DEGREE, null));
+
+        log.info("{} 도 단위 반경 내에서 {}개의 지역을 찾았습니다.", radiusKm, regionDTOs.size());
+        return regionDTOs;
+    }
+
+    /**
+     * 좌표가 속한 지역을 조회합니다. 지역 경계는 중심점과 반경(radius)으로 이루어진 원으로 근사합니다.
+     * @param latitude  위도
+     * @param longitude 경도
+     * @return 좌표를 포함하는 지역 정보
+     * @throws IllegalArgumentException 좌표가 범위를 벗어난 경우
+     * @throws NoSuchElementException 좌표를 포함하는 지역이 없는 경우
+     */
+    public RegionDTO locateRegion(Double latitude, Double longitude) {
+        log.info("좌표: {}, {} 가 속한 지역을 조회합니다.", latitude, longitude);
+        validateCoordinates(latitude, longitude);
+
+        RegionKdTree.Neighbor neighbor = regionIndex.findContaining(latitude, longitude)
+                .orElseThrow(() -> new NoSuchElementException("좌표를 포함하는 지역을 찾을 수 없습니다. 위도: " + latitude + ", 경도: " + longitude));
+        return toRegionDTOs(List.of(neighbor)).get(0);
+    }
 
-        for (Region region : regions) {
-            // DTO를 위해 맨해튼 거리 계산
-            Double distance = Math.abs(region.getLatitude() - latitude) + Math.abs(region.getLongitude() - longitude);
-            RegionDTO regionDTO = RegionDTO.fromEntityWithDistance(region, distance);
-            enrichRegionWithReviewStats(regionDTO); // 리뷰 통계 정보 추가
-            regionDTOs.add(regionDTO);
+    /**
+     * 중심 좌표에서 가장 가까운 지역을 가까운 순으로 조회합니다.
+     * @param latitude    중심 위도
+     * @param longitude   중심 경도
+     * @param k           조회할 지역 수 (최대 50)
+     * @param countryCode 필터링할 국가 코드 (선택)
+     * @return 가장 가까운 지역 리스트
+     */
+    public List<RegionDTO> findNearestRegions(Double latitude, Double longitude, Integer k, String countryCode) {
+        log.info("좌표: {}, {} 에서 가장 가까운 지역 {}개를 조회합니다. 국가: {}", latitude, longitude, k, countryCode);
+        validateCoordinates(latitude, longitude);
+
+        if (k == null || k <= 0 || k > MAX_NEAREST) {
+            throw new IllegalArgumentException("조회할 지역 수는 1에서 " + MAX_NEAREST + " 사이의 값이어야 합니다.");
         }
 
-        log.info("{} 도 단위 반경 내에서 {}개의 지역을 찾았습니다.", radiusKm, regionDTOs.size());
+        String country = countryCode != null && !countryCode.trim().isEmpty() ? countryCode.trim() : null;
+        return toRegionDTOs(regionIndex.findNearest(latitude, longitude, k, country));
+    }
+
+    private void validateCoordinates(Double latitude, Double longitude) {
+        if (latitude == null || longitude == null) {
+            throw new IllegalArgumentException("위도, 경도는 필수 파라미터입니다.");
+        }
+
+        if (latitude < -90 || latitude > 90) {
+            throw new IllegalArgumentException("위도는 -90에서 90 사이의 값이어야 합니다.");
+        }
+
+        if (longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("경도는 -180에서 180 사이의 값이어야 합니다.");
+        }
+    }
+
+    /**
+     * 공간 인덱스 검색 결과를 RegionDTO로 변환하고 리뷰 통계를 설정합니다.
+     * 중심으로부터의 거리는 기존 API와 같이 도 단위로 설정합니다.
+     */
+    private List<RegionDTO> toRegionDTOs(List<RegionKdTree.Neighbor> neighbors) {
+        List<RegionDTO> regionDTOs = new ArrayList<>(neighbors.size());
+        for (RegionKdTree.Neighbor neighbor : neighbors) {
+            regionDTOs.add(RegionDTO.fromEntityWithDistance(neighbor.region(),
+                    neighbor.distanceKm() / GeoDistance.KM_PER_DEGREE));
+        }
+        enrichRegionsWithReviewStats(regionDTOs); // 리뷰 통계 정보 추가
         return regionDTOs;
     }
 
     /**
-     * 지역에 대한 리뷰 통계를 계산하고 RegionDTO에 설정합니다.
-     * @param regionDTO 통계 정보를 추가할 RegionDTO
+     * 지역들의 리뷰 통계를 RegionDTO에 설정합니다.
+     * 리뷰를 읽어 계산하지 않고, 미리 집계된 리뷰 수와 점수 합계를 한 번에 조회하여 사용합니다.
+     * @param regionDTOs 통계 정보를 추가할 RegionDTO 리스트
      */
-    private void enrichRegionWithReviewStats(RegionDTO regionDTO) {
-        List<TownReview> reviews = townReviewRepository.findByRegionIdOrderByLikeCountDesc(regionDTO.getId());
-
-        regionDTO.setReviewsCount(reviews.size());
-
-        if (reviews.isEmpty()) {
-            regionDTO.setAverageReviewScore(0.0);
-        } else {
-            double totalScore = reviews.stream()
-                    .mapToDouble(review -> (review.getTransportation() + review.getSafety() +
-                            review.getInfra() + review.getPopulation() +
-                            review.getEducation()) / 5.0)
-                    .sum();
-            double averageScore = totalScore / reviews.size();
-            regionDTO.setAverageReviewScore(Math.round(averageScore * 10.0) / 10.0); // 소수점 첫째 자리까지 반올림
+    private void enrichRegionsWithReviewStats(List<RegionDTO> regionDTOs) {
+        if (regionDTOs.isEmpty()) {
+            return;
+        }
+        Map<Integer, RegionReviewStats> statsByRegion = regionReviewStatsService.getStats(
+                regionDTOs.stream().map(RegionDTO::getId).toList());
+
+        for (RegionDTO regionDTO : regionDTOs) {
+            RegionReviewStats stats = statsByRegion.get(regionDTO.getId());
+            regionDTO.setReviewsCount(stats.getReviewCount());
+            regionDTO.setAverageReviewScore(Math.round(stats.getAverageScore() * 10.0) / 10.0); // 소수점 첫째 자리까지 반올림
         }
     }
 
     /**
-     * 특정 국가 내에서 맨해튼 거리를 사용하여 중심 좌표로부터 특정 반경 내의 지역을 검색합니다.
+     * 특정 국가 내에서 중심 좌표로부터 특정 반경 내의 지역을 메모리 공간 인덱스에서 가까운 순으로 검색합니다.
      *
      * @param latitude    중심 위도
      * @param longitude   중심 경도
-     * @param radiusKm    반경 (도 단위의 단순화된 거리 측정)
+     * @param radiusKm    반경 (도 단위)
      * @param countryCode 필터링할 국가 코드
      * @return 지정된 반경 및 국가 내의 지역 리스트
      */
     public List<RegionDTO> searchRegionsWithinRadiusAndCountry(Double latitude, Double longitude, Double radiusKm, String countryCode) {
-        log.info("국가 {} 내에서 맨해튼 거리를 사용하여 좌표: {}, {} 로부터 {} 도 단위 반경 내의 지역을 검색합니다.", countryCode, latitude, longitude, radiusKm);
+        log.info("국가 {} 내에서 좌표: {}, {} 로부터 {} 도 단위 반경 내의 지역을 검색합니다.", countryCode, latitude, longitude, radiusKm);
 
         if (latitude == null || longitude == null || radiusKm == null || countryCode == null) {
             throw new IllegalArgumentException("위도, 경도, 반경, 국가 코드는 필수 파라미터입니다.");
@@ -119,15 +178,8 @@ public class RegionService {
             throw new IllegalArgumentException("반경은 양수여야 합니다.");
         }
 
-        List<Region> regions = regionRepository.findRegionsWithinRadiusAndCountry(latitude, longitude, radiusKm, countryCode);
-        List<RegionDTO> regionDTOs = new ArrayList<>();
-
-        for (Region region : regions) {
-            Double distance = Math.abs(region.getLatitude() - latitude) + Math.abs(region.getLongitude() - longitude);
-            RegionDTO regionDTO = RegionDTO.fromEntityWithDistance(region, distance);
-            enrichRegionWithReviewStats(regionDTO);
-            regionDTOs.add(regionDTO);
-        }
+        List<RegionDTO> regionDTOs = toRegionDTOs(regionIndex.findWithinRadius(
+                latitude, longitude, radiusKm * GeoDistance.KM_PER_DEGREE, countryCode));
 
         log.info("국가 {}의 {} 도 단위 반경 내에서 {}개의 지역을 찾았습니다.", countryCode, radiusKm, regionDTOs.size());
         return regionDTOs;
@@ -149,7 +201,7 @@ public class RegionService {
                 .orElseThrow(() -> new RuntimeException("지역을 찾을 수 없습니다. ID: " + id));
 
         RegionDTO regionDTO = RegionDTO.fromEntity(region);
-        enrichRegionWithReviewStats(regionDTO);
+        enrichRegionsWithReviewStats(List.of(regionDTO));
         return regionDTO;
     }
 
@@ -161,12 +213,10 @@ public class RegionService {
         log.info("모든 지역 정보 조회");
 
         List<Region> regions = regionRepository.findAll();
-        return regions.stream()
-                .map(region -> {
-                    RegionDTO regionDTO = RegionDTO.fromEntity(region);
-                    enrichRegionWithReviewStats(regionDTO);
-                    return regionDTO;
-                })
+        List<RegionDTO> regionDTOs = regions.stream()
+                .map(RegionDTO::fromEntity)
                 .toList();
+        enrichRegionsWithReviewStats(regionDTOs);
+        return regionDTOs;
     }
 }
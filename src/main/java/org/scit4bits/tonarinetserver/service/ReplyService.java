@@ -47,6 +47,7 @@ public class ReplyService {
                 .build();
 
         Reply savedReply = replyRepository.save(reply);
+        articleRepository.adjustReplyCount(request.getArticleId(), 1);
         log.info("댓글 생성 완료, ID: {}", savedReply.getId());
 
         // 게시글 작성자에게 알림 발송
@@ -123,9 +124,16 @@ public class ReplyService {
 
         reply.setContents(request.getContents() != null && !request.getContents().trim().isEmpty()
                 ? request.getContents() : reply.getContents());
+        Integer previousArticleId = reply.getArticleId();
         reply.setArticleId(request.getArticleId() != null ? request.getArticleId() : reply.getArticleId());
 
         Reply savedReply = replyRepository.save(reply);
+
+        // 다른 게시글로 옮겨진 경우 양쪽 댓글 수를 보정
+        if (!previousArticleId.equals(savedReply.getArticleId())) {
+            articleRepository.adjustReplyCount(previousArticleId, -1);
+            articleRepository.adjustReplyCount(savedReply.getArticleId(), 1);
+        }
         log.info("댓글 수정 완료");
         return ReplyResponseDTO.fromEntity(savedReply);
     }
@@ -147,6 +155,7 @@ public class ReplyService {
         }
 
         replyRepository.deleteById(id);
+        articleRepository.adjustReplyCount(reply.getArticleId(), -1);
         log.info("댓글 삭제 완료");
     }
 
@@ -0,0 +1,237 @@
+package org.scit4bits.tonarinetserver.service;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.ContentStreamProvider;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * S3 호환 오브젝트 스토리지(AWS S3, MinIO 등)에 파일 내용을 저장하는 저장소입니다.
+ * 큰 파일은 멀티파트 업로드로 일정 크기씩 나누어 전송하며,
+ * 다운로드는 서명된 URL로 클라이언트가 스토리지에서 직접 받도록 하여 서버가 파일 바이트를 중계하지 않습니다.
+ */
+@Slf4j
+public class S3BlobStore implements BlobStore {
+
+    /** S3 멀티파트 업로드의 최소 파트 크기 (마지막 파트 제외) */
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+
+    private final S3Client s3Client;
+    private final S3Presigner presigner;
+    private final String bucket;
+    private final long partSize;
+    private final Duration presignTtl;
+
+    /**
+     * S3BlobStore 생성자
+     * @param s3Client S3 클라이언트
+     * @param presigner 다운로드 URL 서명에 사용할 S3Presigner
+     * @param bucket 버킷 이름
+     * @param partSize 멀티파트 업로드 파트 크기 (byte, 최소 5MB)
+     * @param presignTtl 서명된 다운로드 URL의 유효 시간
+     */
+    public S3BlobStore(S3Client s3Client, S3Presigner presigner, String bucket, long partSize, Duration presignTtl) {
+        this.s3Client = s3Client;
+        this.presigner = presigner;
+        this.bucket = bucket;
+        this.partSize = Math.max(partSize, MIN_PART_SIZE);
+        this.presignTtl = presignTtl;
+    }
+
+    @Override
+    public void put(String key, Path source) throws IOException {
+        long size = Files.size(source);
+        if (size <= partSize) {
+            s3Client.putObject(PutObjectRequest.builder().bucket(bucket).key(key).build(),
+                    RequestBody.fromFile(source));
+            return;
+        }
+        multipartUpload(key, source, size);
+    }
+
+    /**
+     * 파일을 partSize 단위로 나누어 멀티파트 업로드합니다. 실패하면 업로드를 취소합니다.
+     */
+    private void multipartUpload(String key, Path source, long size) {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucket).key(key).build()).uploadId();
+        try {
+            List<CompletedPart> parts = new ArrayList<>();
+            int partNumber = 1;
+            for (long offset = 0; offset < size; offset += partSize, partNumber++) {
+                long partOffset = offset;
+                long length = Math.min(partSize, size - offset);
+                // 파트마다 파일의 해당 구간만 읽는 스트림을 열어 파트 전체를 메모리에 올리지 않음 (재시도 시 다시 열림)
+                ContentStreamProvider partContent = () -> openRange(source, partOffset, length);
+                String etag = s3Client.uploadPart(UploadPartRequest.builder()
+                                .bucket(bucket).key(key).uploadId(uploadId)
+                                .partNumber(partNumber).contentLength(length)
+                                .build(),
+                        RequestBody.fromContentProvider(partContent, length, "application/octet-stream")).eTag();
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(etag).build());
+            }
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket).key(key).uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+            log.debug("S3 멀티파트 업로드 완료 - {} ({} bytes, {} parts)", key, size, parts.size());
+        } catch (RuntimeException e) {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket).key(key).uploadId(uploadId).build());
+            throw e;
+        }
+    }
+
+    private static InputStream openRange(Path source, long offset, long length) {
+        try {
+            FileChannel channel = FileChannel.open(source, StandardOpenOption.READ);
+            channel.position(offset);
+            return new BoundedInputStream(Channels.newInputStream(channel), length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public boolean exists(String key) throws IOException {
+        try {
+            s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build());
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return false;
+            }
+            throw new IOException("S3 객체 조회 실패: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        try {
+            return s3Client.getObject(GetObjectRequest.builder().bucket(bucket).key(key).build());
+        } catch (S3Exception e) {
+            throw new IOException("S3 객체 읽기 실패: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(key).build());
+        } catch (S3Exception e) {
+            throw new IOException("S3 객체 삭제 실패: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Optional<URI> presignedDownloadUrl(String key, String contentDisposition, String contentType) {
+        GetObjectRequest request = GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .responseContentDisposition(contentDisposition)
+                .responseContentType(contentType)
+                .build();
+        try {
+            return Optional.of(presigner.presignGetObject(GetObjectPresignRequest.builder()
+                            .signatureDuration(presignTtl)
+                            .getObjectRequest(request)
+                            .build())
+                    .url().toURI());
+        } catch (URISyntaxException e) {
+            throw new UncheckedIOException(new IOException("서명된 URL 생성 실패: " + e.getMessage(), e));
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 S3 클라이언트의 연결을 정리합니다.
+     */
+    public void close() {
+        presigner.close();
+        s3Client.close();
+    }
+
+    /**
+     * 지정한 길이까지만 읽는 입력 스트림
+     */
+    private static final class BoundedInputStream extends FilterInputStream {
+        private long remaining;
+
+        BoundedInputStream(InputStream in, long limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = super.read();
+            if (b >= 0) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int read = super.read(buffer, off, (int) Math.min(len, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), remaining);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+}
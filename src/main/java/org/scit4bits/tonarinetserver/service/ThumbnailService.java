@@ -0,0 +1,344 @@
+package org.scit4bits.tonarinetserver.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 이미지 파일의 축소본(썸네일)을 생성하고 디스크에 캐싱하는 서비스입니다.
+ * 축소본은 처음 요청될 때 생성되며, 캐시 디렉터리의 전체 크기가 상한을 넘으면
+ * 가장 오래 사용되지 않은 파일부터 삭제합니다(LRU).
+ * 같은 축소본에 대한 동시 요청은 한 번만 생성하고 결과를 공유합니다.
+ */
+@Service
+@Slf4j
+public class ThumbnailService {
+
+    /** 지원하는 출력 형식 */
+    public static final List<String> SUPPORTED_FORMATS = List.of("jpeg", "png");
+
+    /** 캐시 키 → 파일 크기 (접근 순서로 정렬) */
+    private final LinkedHashMap<String, Long> lruIndex = new LinkedHashMap<>(256, 0.75f, true);
+    private long cachedBytes;
+
+    /**
+     * 원본 이미지 내용을 여는 함수 (저장소 종류에 관계없이 스트림으로 읽음)
+     */
+    @FunctionalInterface
+    public interface ImageSource {
+        InputStream open() throws IOException;
+    }
+
+    /** 생성 중인 축소본 */
+    private final ConcurrentHashMap<String, CompletableFuture<byte[]>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+
+    @Value("${thumbnail.cache-path:./thumbnail-cache}")
+    private String cachePath;
+
+    @Value("${thumbnail.cache-max-bytes:536870912}")
+    private long cacheMaxBytes;
+
+    @Value("${thumbnail.max-dimension:1024}")
+    private int maxDimension;
+
+    /**
+     * ThumbnailService 생성자
+     * @param meterRegistry 메트릭 등록에 사용할 MeterRegistry
+     */
+    public ThumbnailService(MeterRegistry meterRegistry) {
+        this.cacheHits = Counter.builder("thumbnail.cache.hits")
+                .description("디스크 캐시에서 제공한 축소본 수")
+                .register(meterRegistry);
+        this.cacheMisses = Counter.builder("thumbnail.cache.misses")
+                .description("새로 생성한 축소본 수")
+                .register(meterRegistry);
+        meterRegistry.gauge("thumbnail.cache.bytes", this, service -> service.currentCachedBytes());
+    }
+
+    /**
+     * 서버 시작 시 캐시 디렉터리의 기존 파일을 마지막 사용 시간 순서로 LRU 색인에 등록합니다.
+     */
+    @PostConstruct
+    public void loadCacheIndex() {
+        Path dir = Paths.get(cachePath);
+        try {
+            Files.createDirectories(dir);
+            try (Stream<Path> files = Files.list(dir)) {
+                List<Path> cached = files
+                        .filter(Files::isRegularFile)
+                        .filter(path -> !path.getFileName().toString().endsWith(".part"))
+                        .sorted(Comparator.comparing(this::lastModified))
+                        .toList();
+                synchronized (lruIndex) {
+                    for (Path path : cached) {
+                        long size = Files.size(path);
+                        lruIndex.put(path.getFileName().toString(), size);
+                        cachedBytes += size;
+                    }
+                }
+            }
+            evictIfNeeded(null);
+            log.info("썸네일 캐시 로드 완료 - 파일 {}개, {} bytes", lruIndex.size(), cachedBytes);
+        } catch (IOException e) {
+            log.error("썸네일 캐시 디렉터리 초기화 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 축소본의 캐시 키를 반환합니다. 요청 크기를 허용 범위로 보정한 값으로 만들어지므로 ETag로도 사용할 수 있습니다.
+     * @param sourceKey 원본을 식별하는 키 (내용 해시 또는 파일 ID)
+     * @param width 최대 너비 (null이면 높이에 맞춤)
+     * @param height 최대 높이 (null이면 너비에 맞춤)
+     * @param format 출력 형식 (jpeg, png)
+     * @return 캐시 키
+     */
+    public String cacheKey(String sourceKey, Integer width, Integer height, String format) {
+        if (width == null && height == null) {
+            throw new IllegalArgumentException("너비 또는 높이를 지정해야 합니다.");
+        }
+        if (!SUPPORTED_FORMATS.contains(format)) {
+            throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다: " + format);
+        }
+        return sourceKey + "-" + clamp(width) + "x" + clamp(height) + "." + format;
+    }
+
+    /**
+     * 원본 이미지의 축소본을 반환합니다. 캐시에 없으면 생성하여 저장합니다.
+     * 원본보다 크게 확대하지 않으며, 가로/세로 비율을 유지하여 지정한 크기 안에 맞춥니다.
+     * 캐시 파일은 언제든 LRU로 삭제될 수 있으므로 경로가 아닌 내용을 반환합니다.
+     * @param sourceKey 원본을 식별하는 키 (내용 해시 또는 파일 ID)
+     * @param source 원본 이미지를 여는 함수
+     * @param width 최대 너비 (null이면 높이에 맞춤)
+     * @param height 최대 높이 (null이면 너비에 맞춤)
+     * @param format 출력 형식 (jpeg, png)
+     * @return 축소본 이미지 데이터
+     */
+    public byte[] getThumbnail(String sourceKey, ImageSource source, Integer width, Integer height, String format) {
+        String key = cacheKey(sourceKey, width, height, format);
+        Path target = Paths.get(cachePath, key);
+
+        if (touch(key)) {
+            try {
+                byte[] cached = Files.readAllBytes(target);
+                cacheHits.increment();
+                return cached;
+            } catch (NoSuchFileException e) {
+                // 조회 직후 다른 요청의 LRU 삭제로 파일이 지워진 경우 다시 생성
+                forget(key);
+            } catch (IOException e) {
+                throw new UncheckedIOException("썸네일 읽기 실패: " + e.getMessage(), e);
+            }
+        }
+
+        CompletableFuture<byte[]> mine = new CompletableFuture<>();
+        CompletableFuture<byte[]> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            // 다른 요청이 같은 축소본을 생성 중이면 결과를 기다림
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException re ? re : e;
+            }
+        }
+
+        try {
+            cacheMisses.increment();
+            byte[] generated = generate(source, target, clamp(width), clamp(height), format);
+            mine.complete(generated);
+            return generated;
+        } catch (IOException e) {
+            UncheckedIOException failure = new UncheckedIOException("썸네일 생성 실패: " + e.getMessage(), e);
+            mine.completeExceptionally(failure);
+            throw failure;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private byte[] generate(ImageSource source, Path target, int maxWidth, int maxHeight, String format) throws IOException {
+        BufferedImage original = readImage(source, maxWidth, maxHeight);
+
+        double scale = Math.min(1.0, Math.min(
+                (double) maxWidth / original.getWidth(),
+                (double) maxHeight / original.getHeight()));
+        int width = Math.max(1, (int) Math.round(original.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(original.getHeight() * scale));
+
+        boolean opaque = format.equals("jpeg");
+        BufferedImage resized = new BufferedImage(width, height,
+                opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            if (opaque) {
+                // JPEG는 투명도를 지원하지 않으므로 흰 배경을 사용
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, width, height);
+            }
+            graphics.drawImage(original, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        if (!ImageIO.write(resized, format, encoded)) {
+            throw new IOException("이미지 인코더를 찾을 수 없습니다: " + format);
+        }
+        byte[] content = encoded.toByteArray();
+
+        String key = target.getFileName().toString();
+        Path temp = Files.createTempFile(target.getParent(), "thumb-", ".part");
+        try {
+            Files.write(temp, content);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            synchronized (lruIndex) {
+                Long previous = lruIndex.put(key, (long) content.length);
+                cachedBytes += content.length - (previous != null ? previous : 0);
+            }
+            evictIfNeeded(key);
+        } catch (IOException e) {
+            // 캐시 저장에 실패해도 생성한 축소본은 응답에 사용
+            log.warn("썸네일 캐시 저장 실패 {}: {}", key, e.getMessage());
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        log.debug("썸네일 생성: {} ({}x{}, {} bytes)", key, width, height, content.length);
+        return content;
+    }
+
+    /**
+     * 원본 이미지를 읽습니다. 원본이 목표 크기보다 훨씬 크면 서브샘플링하여 디코딩 메모리를 줄입니다.
+     */
+    private BufferedImage readImage(ImageSource source, int maxWidth, int maxHeight) throws IOException {
+        try (InputStream content = source.open();
+             ImageInputStream input = ImageIO.createImageInputStream(content)) {
+            if (input == null) {
+                throw new IOException("이미지를 열 수 없습니다.");
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IllegalArgumentException("지원하지 않는 이미지 파일입니다.");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int sourceWidth = reader.getWidth(0);
+                int sourceHeight = reader.getHeight(0);
+                // 보간 품질을 위해 목표 크기의 2배 이상은 남겨 둠
+                int subsampling = Math.max(1, Math.min(sourceWidth / (maxWidth * 2), sourceHeight / (maxHeight * 2)));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * LRU 색인에서 키의 사용 순서를 갱신합니다.
+     * @return 색인에 있으면 true
+     */
+    private boolean touch(String key) {
+        synchronized (lruIndex) {
+            return lruIndex.get(key) != null;
+        }
+    }
+
+    /**
+     * 캐시 전체 크기가 상한을 넘으면 가장 오래 사용되지 않은 축소본부터 삭제합니다.
+     * 방금 저장한 축소본과 생성 중인 축소본은 삭제하지 않습니다.
+     * @param fresh 방금 저장한 축소본의 키 (없으면 null)
+     */
+    private void evictIfNeeded(String fresh) {
+        synchronized (lruIndex) {
+            Iterator<Map.Entry<String, Long>> eldest = lruIndex.entrySet().iterator();
+            while (cachedBytes > cacheMaxBytes && eldest.hasNext()) {
+                Map.Entry<String, Long> entry = eldest.next();
+                if (entry.getKey().equals(fresh) || inFlight.containsKey(entry.getKey())) {
+                    continue;
+                }
+                try {
+                    Files.deleteIfExists(Paths.get(cachePath, entry.getKey()));
+                } catch (IOException e) {
+                    log.warn("썸네일 캐시 삭제 실패 {}: {}", entry.getKey(), e.getMessage());
+                }
+                cachedBytes -= entry.getValue();
+                eldest.remove();
+            }
+        }
+    }
+
+    /**
+     * 파일이 없어진 축소본을 LRU 색인에서 제거합니다.
+     */
+    private void forget(String key) {
+        synchronized (lruIndex) {
+            Long size = lruIndex.remove(key);
+            if (size != null) {
+                cachedBytes -= size;
+            }
+        }
+    }
+
+    private int clamp(Integer dimension) {
+        if (dimension == null) {
+            return maxDimension;
+        }
+        return Math.max(1, Math.min(dimension, maxDimension));
+    }
+
+    private FileTime lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private long currentCachedBytes() {
+        synchronized (lruIndex) {
+            return cachedBytes;
+        }
+    }
+}
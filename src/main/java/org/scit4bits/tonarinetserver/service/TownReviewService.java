@@ -10,6 +10,7 @@ import org.scit4bits.tonarinetserver.entity.TownReview;
 import org.scit4bits.tonarinetserver.entity.User;
 import org.scit4bits.tonarinetserver.repository.RegionRepository;
 import org.scit4bits.tonarinetserver.repository.TownReviewRepository;
+import org.scit4bits.tonarinetserver.repository.UserLikeTownReviewRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -29,7 +30,10 @@ import java.util.List;
 public class TownReviewService {
 
     private final TownReviewRepository townReviewRepository;
+    private final UserLikeTownReviewRepository userLikeTownReviewRepository;
+    private final LikeCounterBuffer likeCounterBuffer;
     private final RegionRepository regionRepository;
+    private final RegionReviewStatsService regionReviewStatsService;
 
     /**
      * 새로운 동네 리뷰를 생성합니다.
@@ -58,6 +62,7 @@ public class TownReviewService {
         townReview.setCountryCode(region.getCountryCode());
 
         TownReview savedReview = townReviewRepository.save(townReview);
+        regionReviewStatsService.onReviewCreated(savedReview);
         log.info("동네 리뷰 생성 완료, ID: {}", savedReview.getId());
         return TownReviewResponseDTO.fromEntity(savedReview);
     }
@@ -131,6 +136,15 @@ public class TownReviewService {
             throw new RuntimeException("리뷰 작성자 또는 관리자만 수정할 수 있습니다.");
         }
 
+        // 지역 리뷰 집계에 점수 변경분을 반영하기 위해 수정 전 점수를 보관
+        TownReview before = TownReview.builder()
+                .transportation(townReview.getTransportation())
+                .safety(townReview.getSafety())
+                .infra(townReview.getInfra())
+                .population(townReview.getPopulation())
+                .education(townReview.getEducation())
+                .build();
+
         townReview.setContents(request.getContents() != null && !request.getContents().trim().isEmpty()
                 ? request.getContents() : townReview.getContents());
         townReview.setTransportation(request.getTransportation() != null
@@ -145,6 +159,7 @@ public class TownReviewService {
                 ? request.getEducation() : townReview.getEducation());
 
         TownReview savedReview = townReviewRepository.save(townReview);
+        regionReviewStatsService.onReviewUpdated(before, savedReview);
         log.info("동네 리뷰 수정 완료");
         return TownReviewResponseDTO.fromEntity(savedReview);
     }
@@ -166,28 +181,51 @@ public class TownReviewService {
         }
 
         townReviewRepository.deleteById(id);
+        regionReviewStatsService.onReviewDeleted(townReview);
         log.info("동네 리뷰 삭제 완료");
     }
 
     /**
-     * 동네 리뷰에 '좋아요'를 추가합니다.
+     * 동네 리뷰에 '좋아요'를 추가합니다. 이미 '좋아요'를 누른 경우 아무것도 바뀌지 않습니다.
      * @param id '좋아요'할 리뷰 ID
      * @param user 현재 로그인한 사용자 정보
      * @return 업데이트된 리뷰 정보
      */
     public TownReviewResponseDTO likeTownReview(Integer id, User user) {
         log.info("사용자 {}가 동네 리뷰 {}에 '좋아요'를 눌렀습니다.", user.getId(), id);
+        return changeLike(id, user, userLikeTownReviewRepository.insertIgnore(user.getId(), id) > 0 ? 1 : 0);
+    }
+
+    /**
+     * 동네 리뷰의 '좋아요'를 취소합니다. '좋아요'를 누르지 않은 경우 아무것도 바뀌지 않습니다.
+     * @param id '좋아요'를 취소할 리뷰 ID
+     * @param user 현재 로그인한 사용자 정보
+     * @return 업데이트된 리뷰 정보
+     */
+    public TownReviewResponseDTO unlikeTownReview(Integer id, User user) {
+        log.info("사용자 {}가 동네 리뷰 {}의 '좋아요'를 취소했습니다.", user.getId(), id);
+        return changeLike(id, user, userLikeTownReviewRepository.deleteByUserIdAndTownReviewId(user.getId(), id) > 0 ? -1 : 0);
+    }
 
+    /**
+     * '좋아요' 기록 변경에 따라 좋아요 수를 조정하고 변경된 리뷰 정보를 반환합니다.
+     * 좋아요 수는 LikeCounterBuffer에 누적했다가 일괄 반영하므로, 응답에는 반영 대기 중인 증감분을 더해 보여줍니다.
+     */
+    private TownReviewResponseDTO changeLike(Integer id, User user, int delta) {
         TownReview townReview = townReviewRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("동네 리뷰를 찾을 수 없습니다. ID: " + id));
 
-        // 실제 구현에서는 사용자가 이미 '좋아요'를 눌렀는지 확인해야 합니다.
-        // 현재는 단순히 '좋아요' 수를 증가시킵니다.
-        townReview.setLikeCount(townReview.getLikeCount() + 1);
+        TownReviewResponseDTO response = TownReviewResponseDTO.fromEntity(townReview);
+        long pending = likeCounterBuffer.getPending(LikeCounterBuffer.Target.TOWN_REVIEW, id);
+        response.setLikeCount((int) Math.max(0, townReview.getLikeCount() + pending + delta));
+        if (delta == 0) {
+            log.debug("동네 리뷰 {}의 '좋아요' 상태 변경 없음 - 사용자: {}", id, user.getId());
+            return response;
+        }
 
-        TownReview savedReview = townReviewRepository.save(townReview);
+        likeCounterBuffer.adjust(LikeCounterBuffer.Target.TOWN_REVIEW, id, delta);
         log.info("동네 리뷰 '좋아요' 처리 완료");
-        return TownReviewResponseDTO.fromEntity(savedReview);
+        return response;
     }
 
     /**
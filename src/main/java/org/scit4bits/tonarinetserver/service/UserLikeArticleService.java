@@ -11,7 +11,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Optional;
 
 /**
  * 게시글 좋아요 관련 비즈니스 로직을 처리하는 서비스입니다.
@@ -53,6 +52,7 @@ public class UserLikeArticleService {
                 .build();
 
         userLikeArticleRepository.save(userLikeArticle);
+        articleRepository.adjustLikeCount(articleId, 1);
         return true;
     }
 
@@ -63,11 +63,9 @@ public class UserLikeArticleService {
      * @return 작업 성공 시 true, 좋아요를 누르지 않은 경우 false
      */
     public boolean unlikeArticle(Integer userId, Integer articleId) {
-        Optional<UserLikeArticle> userLikeArticle = userLikeArticleRepository
-                .findByUserIdAndArticleId(userId, articleId);
-
-        if (userLikeArticle.isPresent()) {
-            userLikeArticleRepository.delete(userLikeArticle.get());
+        // 실제로 삭제된 경우에만 카운터를 감소시켜 중복 요청에도 음수가 되지 않도록 합니다.
+        if (userLikeArticleRepository.deleteByUserIdAndArticleId(userId, articleId) > 0) {
+            articleRepository.adjustLikeCount(articleId, -1);
             return true;
         }
 
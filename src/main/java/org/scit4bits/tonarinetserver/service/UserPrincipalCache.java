@@ -0,0 +1,77 @@
+package org.scit4bits.tonarinetserver.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.scit4bits.tonarinetserver.entity.User;
+import org.scit4bits.tonarinetserver.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 인증된 사용자(Principal) 정보를 사용자 ID 기준으로 캐싱하는 서비스입니다.
+ * JWT 인증 필터와 웹소켓 CONNECT 인증에서 매 요청마다 사용자를 DB에서 조회하지 않도록 하며,
+ * 항목 수 상한과 만료 시간(TTL)으로 캐시 크기와 정보의 최신성을 제한합니다.
+ * 사용자 정보나 권한이 변경되면 {@link #invalidate(Integer)}로 해당 항목을 제거해야 합니다.
+ */
+@Service
+@Slf4j
+public class UserPrincipalCache {
+
+    private final UserRepository userRepository;
+    private final Cache<Integer, User> cache;
+
+    /**
+     * UserPrincipalCache 생성자
+     * @param userRepository 사용자 리포지토리
+     * @param meterRegistry 캐시 메트릭 등록에 사용할 MeterRegistry
+     * @param maximumSize 캐시에 보관할 최대 사용자 수
+     * @param ttl 캐시 항목 만료 시간
+     */
+    public UserPrincipalCache(UserRepository userRepository, MeterRegistry meterRegistry,
+                              @Value("${auth.principal-cache.maximum-size:10000}") long maximumSize,
+                              @Value("${auth.principal-cache.ttl:5m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "auth.principal");
+    }
+
+    /**
+     * 사용자 ID로 사용자 정보를 조회합니다. 캐시에 없으면 DB에서 조회하여 저장합니다.
+     * @param userId 사용자 ID
+     * @return 사용자 정보 (존재하지 않으면 빈 Optional)
+     */
+    public Optional<User> getUser(Integer userId) {
+        return Optional.ofNullable(cache.get(userId, id -> userRepository.findById(id).orElse(null)));
+    }
+
+    /**
+     * 사용자의 캐시 항목을 제거합니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에도 한 번 더 제거하여,
+     * 커밋 전에 다른 요청이 변경 전 정보를 다시 캐싱하는 경우를 방지합니다.
+     * @param userId 사용자 ID
+     */
+    public void invalidate(Integer userId) {
+        cache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(userId);
+                }
+            });
+        }
+        log.debug("사용자 {}의 인증 캐시를 제거했습니다.", userId);
+    }
+}
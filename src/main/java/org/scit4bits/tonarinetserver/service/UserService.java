@@ -39,6 +39,7 @@ public class UserService {
     private final NotificationService notificationService;
     private final OrganizationRepository organizationRepository;
     private final UserCountryRepository userCountryRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     /**
      * 액세스 토큰으로 사용자를 조회합니다.
@@ -87,6 +88,7 @@ public class UserService {
         User user = userRepository.findById(userId).orElseThrow(() -> new RuntimeException("User not found"));
         user.setIsAdmin(!user.getIsAdmin());
         userRepository.save(user);
+        userPrincipalCache.invalidate(userId);
     }
 
     /**
@@ -328,6 +330,7 @@ public class UserService {
         userRole.setIsGranted(!userRole.getIsGranted());
         userRole.setApprovedAt(userRole.getIsGranted() ? java.time.LocalDateTime.now() : null);
         userRoleRepository.save(userRole);
+        userPrincipalCache.invalidate(userId);
 
 
         if(userRole.getIsGranted()){
@@ -389,6 +392,7 @@ public class UserService {
 
         userRole.setRole(newRole);
         userRoleRepository.save(userRole);
+        userPrincipalCache.invalidate(userId);
     }
 
     /**
@@ -417,5 +421,6 @@ public class UserService {
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + user.getId()));
         dbUser.setProfileFileId(fileId);
         userRepository.save(dbUser);
+        userPrincipalCache.invalidate(dbUser.getId());
     }
 }
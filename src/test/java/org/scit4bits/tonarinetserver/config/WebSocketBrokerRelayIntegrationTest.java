@@ -0,0 +1,143 @@
+package org.scit4bits.tonarinetserver.config;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.scit4bits.tonarinetserver.TonarinetserverApplication;
+import org.scit4bits.tonarinetserver.entity.User;
+import org.scit4bits.tonarinetserver.repository.UserRepository;
+import org.scit4bits.tonarinetserver.service.JwtService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 외부 STOMP 브로커 중계 모드에서 서로 다른 서버 인스턴스 간에 채팅방 메시지가 전달되는지 검증하는 테스트
+ * 로컬 ActiveMQ 컨테이너를 브로커로 사용하고, 같은 애플리케이션을 두 개의 노드로 실행합니다.
+ */
+@Testcontainers
+class WebSocketBrokerRelayIntegrationTest {
+
+    private static final int STOMP_PORT = 61613;
+
+    @Container
+    private static final GenericContainer<?> broker =
+            new GenericContainer<>(DockerImageName.parse("apache/activemq-classic:5.18.6"))
+                    .withExposedPorts(STOMP_PORT)
+                    .waitingFor(Wait.forListeningPort());
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+    /** 인증에 사용할 테스트 전용 사용자 (DB에 있는 기존 사용자에 의존하지 않음) */
+    private static User fixtureUser;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode();
+        nodeB = startNode();
+
+        String suffix = Long.toString(System.nanoTime() % 100_000_000L);
+        fixtureUser = nodeA.getBean(UserRepository.class).save(User.builder()
+                .email("relay-" + suffix + "@test.local")
+                .password("password")
+                .name("relay test")
+                .nickname("ws" + suffix)
+                .isAdmin(false)
+                .build());
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (fixtureUser != null) {
+            nodeA.getBean(UserRepository.class).deleteById(fixtureUser.getId());
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+        if (nodeB != null) {
+            nodeB.close();
+        }
+    }
+
+    private static ConfigurableApplicationContext startNode() {
+        return new SpringApplicationBuilder(TonarinetserverApplication.class).run(
+                "--server.port=0",
+                "--websocket.broker.mode=relay",
+                "--websocket.broker.relay.host=" + broker.getHost(),
+                "--websocket.broker.relay.port=" + broker.getMappedPort(STOMP_PORT),
+                // 두 노드가 같은 로컬 색인 디렉터리를 잠그지 않도록 DB 검색을 사용
+                "--article.search.engine=database");
+    }
+
+    @Test
+    void messagePublishedOnOneNodeReachesSubscriberOnAnotherNode() throws Exception {
+        String destination = "/topic/chat/room/relay-test-" + System.nanoTime();
+        BlockingQueue<Map<String, Object>> received = new LinkedBlockingQueue<>();
+
+        StompSession session = connect(nodeA);
+        session.subscribe(destination, new StompFrameHandler() {
+            @Override
+            @NonNull
+            public Type getPayloadType(@NonNull StompHeaders headers) {
+                return Map.class;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public void handleFrame(@NonNull StompHeaders headers, Object payload) {
+                received.add((Map<String, Object>) payload);
+            }
+        });
+
+        // 구독이 브로커에 등록되기 전에 보낸 메시지는 유실되므로 수신될 때까지 재전송
+        SimpMessagingTemplate templateOnNodeB = nodeB.getBean(SimpMessagingTemplate.class);
+        await().atMost(Duration.ofSeconds(20)).pollInterval(Duration.ofMillis(500)).until(() -> {
+            templateOnNodeB.convertAndSend(destination, Map.of("message", "hello from node B"));
+            return !received.isEmpty();
+        });
+
+        Map<String, Object> payload = received.poll(1, TimeUnit.SECONDS);
+        assertThat(payload).containsEntry("message", "hello from node B");
+        session.disconnect();
+    }
+
+    private StompSession connect(ConfigurableApplicationContext node) throws Exception {
+        String token = node.getBean(JwtService.class).generateToken(fixtureUser);
+        int port = ((ServletWebServerApplicationContext) node).getWebServer().getPort();
+
+        WebSocketStompClient client = new WebSocketStompClient(new StandardWebSocketClient());
+        client.setMessageConverter(new MappingJackson2MessageConverter());
+
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + token);
+        return client.connectAsync("ws://localhost:" + port + "/ws", new WebSocketHttpHeaders(),
+                        connectHeaders, new StompSessionHandlerAdapter() {
+                        })
+                .get(10, TimeUnit.SECONDS);
+    }
+}
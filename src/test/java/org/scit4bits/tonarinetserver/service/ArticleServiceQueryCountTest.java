@@ -0,0 +1,132 @@
+package org.scit4bits.tonarinetserver.service;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.scit4bits.tonarinetserver.dto.ArticleDTO;
+import org.scit4bits.tonarinetserver.dto.PagedResponse;
+import org.scit4bits.tonarinetserver.entity.*;
+import org.scit4bits.tonarinetserver.entity.FileAttachment.FileType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 게시글 목록 조회 시 페이지 크기와 무관하게 일정한 수의 SQL만 실행되는지 검증하는 테스트
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Transactional
+public class ArticleServiceQueryCountTest {
+
+    /** 한 페이지를 조회할 때 허용되는 최대 SQL 수 (본문 + count + 컬렉션/연관 배치 조회) */
+    private static final long MAX_STATEMENTS_PER_PAGE = 8;
+
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User writer;
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        writer = User.builder()
+            .email("querycount@test.local")
+            .password("password")
+            .name("query count")
+            .nickname("qc_writer")
+            .isAdmin(false)
+            .build();
+        entityManager.persist(writer);
+
+        board = Board.builder()
+            .title("query count board")
+            .build();
+        entityManager.persist(board);
+
+        for (int i = 0; i < 30; i++) {
+            Article article = Article.builder()
+                .category("free")
+                .title("title " + i)
+                .contents("contents " + i)
+                .createdById(writer.getId())
+                .boardId(board.getId())
+                .likeCount(1)
+                .replyCount(1)
+                .build();
+            entityManager.persist(article);
+
+            entityManager.persist(Reply.builder()
+                .contents("reply " + i)
+                .createdById(writer.getId())
+                .articleId(article.getId())
+                .build());
+
+            entityManager.persist(UserLikeArticle.builder()
+                .id(new UserLikeArticle.UserLikeArticleId(writer.getId(), article.getId()))
+                .user(writer)
+                .article(article)
+                .build());
+
+            entityManager.persist(Tag.builder()
+                .id(new Tag.TagId(article.getId(), "tag" + i))
+                .article(article)
+                .build());
+
+            entityManager.persist(FileAttachment.builder()
+                .filepath("/tmp/query-count-" + i)
+                .originalFilename("file" + i + ".txt")
+                .isPrivate(false)
+                .uploadedBy(writer.getId())
+                .type(FileType.ATTACHMENT)
+                .articleId(article.getId())
+                .filesize(1)
+                .build());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testSearchArticlesStatementCountDoesNotGrowWithPageSize() {
+        long smallPage = countStatements(5);
+        long largePage = countStatements(25);
+
+        assertThat(smallPage).isLessThanOrEqualTo(MAX_STATEMENTS_PER_PAGE);
+        assertThat(largePage).isEqualTo(smallPage);
+    }
+
+    private long countStatements(int pageSize) {
+        Statistics statistics = entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+        entityManager.clear();
+        statistics.clear();
+
+        PagedResponse<ArticleDTO> response = articleService.searchArticles(
+            writer, board.getId(), "all", null, null, 0, pageSize, "id", "asc");
+
+        assertThat(response.getData()).hasSize(pageSize);
+        assertThat(response.getData()).allSatisfy(dto -> {
+            assertThat(dto.getCreatedByName()).isEqualTo("qc_writer");
+            assertThat(dto.getBoardTitle()).isEqualTo("query count board");
+            assertThat(dto.getLikedByUsers()).isEqualTo(1);
+            assertThat(dto.getReplyCount()).isEqualTo(1);
+            assertThat(dto.getFiles()).hasSize(1);
+            assertThat(dto.getTags()).hasSize(1);
+        });
+
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,89 @@
+package org.scit4bits.tonarinetserver.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.scit4bits.tonarinetserver.entity.OutboundEmail;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.net.ServerSocket;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OutboundEmailSender를 로컬 SMTP 서버(GreenMail)에 대해 검증하는 테스트
+ * 묶음 발송, 잘못된 주소의 영구 실패, SMTP 서버 장애 시 재시도 가능한 실패를 확인합니다.
+ */
+class OutboundEmailSenderTest {
+
+    private static final String SENDER = "tonarinet@test.local";
+
+    @RegisterExtension
+    static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Test
+    void sendsWholeBatch() throws Exception {
+        OutboundEmailSender sender = new OutboundEmailSender(mailSender(greenMail.getSmtp().getPort()), SENDER);
+
+        Map<Integer, OutboundEmailSender.Failure> failures = sender.send(List.of(
+                email(1, "first@test.local"),
+                email(2, "second@test.local"),
+                email(3, "third@test.local")));
+
+        assertThat(failures).isEmpty();
+        assertThat(greenMail.waitForIncomingEmail(5000, 3)).isTrue();
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(3);
+        assertThat(received[0].getSubject()).isEqualTo("subject 1");
+    }
+
+    @Test
+    void invalidAddressFailsPermanentlyWithoutBlockingOthers() {
+        OutboundEmailSender sender = new OutboundEmailSender(mailSender(greenMail.getSmtp().getPort()), SENDER);
+
+        Map<Integer, OutboundEmailSender.Failure> failures = sender.send(List.of(
+                email(1, "valid@test.local"),
+                email(2, "invalid<address")));
+
+        assertThat(failures).containsOnlyKeys(2);
+        assertThat(failures.get(2).permanent()).isTrue();
+        assertThat(greenMail.waitForIncomingEmail(5000, 1)).isTrue();
+    }
+
+    @Test
+    void serverOutageFailsWholeBatchForRetry() throws Exception {
+        int unusedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            unusedPort = socket.getLocalPort();
+        }
+        OutboundEmailSender sender = new OutboundEmailSender(mailSender(unusedPort), SENDER);
+
+        Map<Integer, OutboundEmailSender.Failure> failures = sender.send(List.of(
+                email(1, "first@test.local"),
+                email(2, "second@test.local")));
+
+        assertThat(failures).containsOnlyKeys(1, 2);
+        assertThat(failures.values()).noneMatch(OutboundEmailSender.Failure::permanent);
+    }
+
+    private static JavaMailSenderImpl mailSender(int port) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(port);
+        return mailSender;
+    }
+
+    private static OutboundEmail email(int id, String recipient) {
+        return OutboundEmail.builder()
+                .id(id)
+                .lang("ko")
+                .recipient(recipient)
+                .subject("subject " + id)
+                .body("<p>body " + id + "</p>")
+                .build();
+    }
+}
@@ -0,0 +1,207 @@
+package org.scit4bits.tonarinetserver.service;
+
+import org.junit.jupiter.api.Test;
+import org.scit4bits.tonarinetserver.entity.Region;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * RegionKdTree의 검색 결과를 모든 지역을 하버사인 거리로 비교하는 전수 조사 결과와 대조하는 테스트
+ * 임의 좌표 외에 날짜 변경선 양쪽, 극점 근처, 같은 좌표에 여러 지역이 있는 경우를 함께 확인합니다.
+ */
+class RegionKdTreeTest {
+
+    private static final double EPSILON_KM = 1e-6;
+    private static final int QUERY_COUNT = 500;
+
+    private final List<Region> regions = fixture();
+    private final RegionKdTree tree = new RegionKdTree(regions);
+
+    @Test
+    void excludesRegionsWithoutCoordinates() {
+        assertThat(tree.size()).isEqualTo(regions.size() - 1);
+    }
+
+    @Test
+    void findWithinRadiusMatchesBruteForce() {
+        Random random = new Random(7);
+        for (double[] query : queries(random)) {
+            double radiusKm = random.nextDouble() * 1500;
+            String countryCode = random.nextBoolean() ? null : "jpn";
+
+            List<RegionKdTree.Neighbor> found = tree.findWithinRadius(query[0], query[1], radiusKm, countryCode);
+
+            // 반경 경계에 걸친 지역은 거리 계산 방식의 오차로 결과가 달라질 수 있으므로 비교에서 제외
+            Set<Integer> expected = bruteForce(query[0], query[1], countryCode).stream()
+                    .filter(neighbor -> neighbor.distanceKm() <= radiusKm - EPSILON_KM)
+                    .map(neighbor -> neighbor.region().getId())
+                    .collect(Collectors.toSet());
+            Set<Integer> actual = found.stream()
+                    .filter(neighbor -> neighbor.distanceKm() <= radiusKm - EPSILON_KM)
+                    .map(neighbor -> neighbor.region().getId())
+                    .collect(Collectors.toSet());
+            assertThat(actual).isEqualTo(expected);
+            assertThat(found).isSortedAccordingTo(Comparator.comparingDouble(RegionKdTree.Neighbor::distanceKm));
+        }
+    }
+
+    @Test
+    void findNearestMatchesBruteForce() {
+        assertNearestMatchesBruteForce(null);
+    }
+
+    @Test
+    void findNearestWithCountryFilterMatchesBruteForce() {
+        assertNearestMatchesBruteForce("jpn");
+    }
+
+    @Test
+    void findContainingMatchesBruteForce() {
+        for (double[] query : queries(new Random(11))) {
+            Optional<RegionKdTree.Neighbor> found = tree.findContaining(query[0], query[1]);
+
+            double bestRatio = Double.MAX_VALUE;
+            for (RegionKdTree.Neighbor neighbor : bruteForce(query[0], query[1], null)) {
+                Integer radius = neighbor.region().getRadius();
+                if (radius != null && radius > 0) {
+                    bestRatio = Math.min(bestRatio, neighbor.distanceKm() / (radius / 1000.0));
+                }
+            }
+
+            if (bestRatio <= 1.0 - 1e-9) {
+                assertThat(found).isPresent();
+                double ratio = found.get().distanceKm() / (found.get().region().getRadius() / 1000.0);
+                assertThat(ratio).isCloseTo(bestRatio, within(1e-9));
+            } else if (bestRatio > 1.0 + 1e-9) {
+                assertThat(found).isEmpty();
+            }
+        }
+    }
+
+    @Test
+    void searchesAcrossAntimeridian() {
+        List<RegionKdTree.Neighbor> nearest = tree.findNearest(0.0, 179.999, 1, null);
+
+        assertThat(nearest.get(0).region().getId()).isEqualTo(2);
+        assertThat(nearest.get(0).distanceKm()).isCloseTo(GeoDistance.KM_PER_DEGREE * 0.006, within(1e-3));
+        assertThat(tree.findContaining(0.0, 179.999).map(neighbor -> neighbor.region().getId())).contains(2);
+    }
+
+    @Test
+    void searchesAcrossPole() {
+        Set<Integer> ids = tree.findWithinRadius(89.999, 90.0, 30, null).stream()
+                .map(neighbor -> neighbor.region().getId())
+                .collect(Collectors.toSet());
+
+        assertThat(ids).contains(4, 5, 6);
+    }
+
+    @Test
+    void returnsEveryRegionAtDuplicateCoordinates() {
+        List<RegionKdTree.Neighbor> found = tree.findWithinRadius(35.0, 139.0, 0.001, null);
+
+        assertThat(found.stream().map(neighbor -> neighbor.region().getId()).collect(Collectors.toSet()))
+                .isEqualTo(Set.of(10, 11, 12, 13));
+        assertThat(tree.findNearest(35.0, 139.0, 10, "kor")).hasSize(10);
+        assertThat(tree.findNearest(35.0, 139.0, 10, "kor").get(0).region().getId()).isEqualTo(13);
+    }
+
+    private void assertNearestMatchesBruteForce(String countryCode) {
+        Random random = new Random(countryCode == null ? 3 : 5);
+        for (double[] query : queries(random)) {
+            int k = 1 + random.nextInt(12);
+
+            List<RegionKdTree.Neighbor> found = tree.findNearest(query[0], query[1], k, countryCode);
+            List<RegionKdTree.Neighbor> expected = bruteForce(query[0], query[1], countryCode);
+
+            // 같은 거리의 지역은 순서가 정해지지 않으므로 거리로만 비교
+            assertThat(found).hasSize(Math.min(k, expected.size()));
+            for (int i = 0; i < found.size(); i++) {
+                assertThat(found.get(i).distanceKm()).isCloseTo(expected.get(i).distanceKm(), within(EPSILON_KM));
+                if (countryCode != null) {
+                    assertThat(found.get(i).region().getCountryCode()).isEqualTo(countryCode);
+                }
+            }
+        }
+    }
+
+    private List<RegionKdTree.Neighbor> bruteForce(double latitude, double longitude, String countryCode) {
+        List<RegionKdTree.Neighbor> result = new ArrayList<>();
+        for (Region region : regions) {
+            if (region.getLatitude() == null || region.getLongitude() == null) {
+                continue;
+            }
+            if (countryCode != null && !countryCode.equalsIgnoreCase(region.getCountryCode())) {
+                continue;
+            }
+            result.add(new RegionKdTree.Neighbor(region,
+                    GeoDistance.haversineKm(latitude, longitude, region.getLatitude(), region.getLongitude())));
+        }
+        result.sort(Comparator.comparingDouble(RegionKdTree.Neighbor::distanceKm));
+        return result;
+    }
+
+    /**
+     * 임의 좌표와 함께 날짜 변경선, 극점, 중복 좌표 근처의 조회 좌표를 만듭니다.
+     */
+    private static List<double[]> queries(Random random) {
+        List<double[]> queries = new ArrayList<>();
+        queries.add(new double[]{0.0, 180.0});
+        queries.add(new double[]{0.0, -180.0});
+        queries.add(new double[]{0.01, 179.999});
+        queries.add(new double[]{90.0, 0.0});
+        queries.add(new double[]{-90.0, 45.0});
+        queries.add(new double[]{89.999, -120.0});
+        queries.add(new double[]{35.0, 139.0});
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            queries.add(new double[]{random.nextDouble() * 180 - 90, random.nextDouble() * 360 - 180});
+        }
+        return queries;
+    }
+
+    private static List<Region> fixture() {
+        List<Region> regions = new ArrayList<>();
+        // 날짜 변경선 양쪽
+        regions.add(region(1, "jpn", 0.0, 179.99, 5000));
+        regions.add(region(2, "kor", 0.0, -179.995, 5000));
+        regions.add(region(3, "jpn", 0.0, 170.0, 5000));
+        // 극점 근처 (경도가 달라도 서로 가까움)
+        regions.add(region(4, "jpn", 89.9, 0.0, 20000));
+        regions.add(region(5, "kor", 89.9, 180.0, 20000));
+        regions.add(region(6, "jpn", 89.95, -90.0, 20000));
+        regions.add(region(7, "kor", -89.95, 45.0, 20000));
+        // 같은 좌표의 여러 지역
+        regions.add(region(10, "jpn", 35.0, 139.0, 3000));
+        regions.add(region(11, "jpn", 35.0, 139.0, 1000));
+        regions.add(region(12, "jpn", 35.0, 139.0, 0));
+        regions.add(region(13, "kor", 35.0, 139.0, 2000));
+        // 좌표가 없는 지역 (트리에서 제외)
+        regions.add(region(20, "kor", null, 127.0, 1000));
+
+        Random random = new Random(42);
+        for (int i = 0; i < 3000; i++) {
+            regions.add(region(1000 + i, i % 3 == 0 ? "jpn" : "kor",
+                    random.nextDouble() * 180 - 90, random.nextDouble() * 360 - 180, random.nextInt(300_000)));
+        }
+        return regions;
+    }
+
+    private static Region region(int id, String countryCode, Double latitude, Double longitude, int radius) {
+        return Region.builder()
+                .id(id)
+                .countryCode(countryCode)
+                .latitude(latitude)
+                .longitude(longitude)
+                .radius(radius)
+                .build();
+    }
+}
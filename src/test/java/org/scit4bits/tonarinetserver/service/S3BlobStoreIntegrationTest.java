@@ -0,0 +1,145 @@
+package org.scit4bits.tonarinetserver.service;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.CreateBucketRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * S3BlobStore를 로컬 MinIO 컨테이너에 대해 검증하는 테스트
+ * 단일 업로드, 멀티파트 업로드, 서명된 다운로드 URL, 삭제를 확인합니다.
+ */
+@Testcontainers
+class S3BlobStoreIntegrationTest {
+
+    private static final String BUCKET = "tonarinet-test";
+    private static final long PART_SIZE = 5L * 1024 * 1024;
+
+    @Container
+    private static final MinIOContainer minio = new MinIOContainer("minio/minio:RELEASE.2024-10-13T13-34-11Z");
+
+    private static S3BlobStore blobStore;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    static void createStore() {
+        StaticCredentialsProvider credentials = StaticCredentialsProvider.create(
+                AwsBasicCredentials.create(minio.getUserName(), minio.getPassword()));
+        S3Configuration pathStyle = S3Configuration.builder().pathStyleAccessEnabled(true).build();
+        URI endpoint = URI.create(minio.getS3URL());
+
+        S3Client client = S3Client.builder()
+                .endpointOverride(endpoint)
+                .region(Region.US_EAST_1)
+                .credentialsProvider(credentials)
+                .serviceConfiguration(pathStyle)
+                .build();
+        S3Presigner presigner = S3Presigner.builder()
+                .endpointOverride(endpoint)
+                .region(Region.US_EAST_1)
+                .credentialsProvider(credentials)
+                .serviceConfiguration(pathStyle)
+                .build();
+        client.createBucket(CreateBucketRequest.builder().bucket(BUCKET).build());
+
+        blobStore = new S3BlobStore(client, presigner, BUCKET, PART_SIZE, Duration.ofMinutes(5));
+    }
+
+    @AfterAll
+    static void closeStore() {
+        if (blobStore != null) {
+            blobStore.close();
+        }
+    }
+
+    @Test
+    void putSmallFileAndReadBack() throws IOException {
+        byte[] content = randomBytes(1024);
+        String key = "blobs/aa/bb/small";
+
+        assertThat(blobStore.exists(key)).isFalse();
+        blobStore.put(key, write("small.bin", content));
+
+        assertThat(blobStore.exists(key)).isTrue();
+        try (InputStream in = blobStore.open(key)) {
+            assertThat(in.readAllBytes()).isEqualTo(content);
+        }
+    }
+
+    @Test
+    void putLargeFileWithMultipartUpload() throws IOException {
+        // 5MB 파트 2개 + 나머지 1MB
+        byte[] content = randomBytes((int) (PART_SIZE * 2 + 1024 * 1024));
+        String key = "blobs/cc/dd/large";
+
+        blobStore.put(key, write("large.bin", content));
+
+        try (InputStream in = blobStore.open(key)) {
+            assertThat(in.readAllBytes()).isEqualTo(content);
+        }
+    }
+
+    @Test
+    void presignedUrlDownloadsContentWithoutServer() throws Exception {
+        byte[] content = randomBytes(4096);
+        String key = "blobs/ee/ff/presigned";
+        blobStore.put(key, write("presigned.bin", content));
+
+        URI url = blobStore.presignedDownloadUrl(key, "attachment; filename=\"test.bin\"",
+                "application/octet-stream").orElseThrow();
+
+        HttpResponse<byte[]> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(url).GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Disposition"))
+                .hasValue("attachment; filename=\"test.bin\"");
+        assertThat(response.body()).isEqualTo(content);
+    }
+
+    @Test
+    void deleteRemovesObject() throws IOException {
+        String key = "blobs/11/22/deleted";
+        blobStore.put(key, write("deleted.bin", randomBytes(16)));
+        assertThat(blobStore.exists(key)).isTrue();
+
+        blobStore.delete(key);
+
+        assertThat(blobStore.exists(key)).isFalse();
+        assertThat(blobStore.localPath(key)).isEmpty();
+    }
+
+    private Path write(String name, byte[] content) throws IOException {
+        return Files.write(tempDir.resolve(name), content);
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}